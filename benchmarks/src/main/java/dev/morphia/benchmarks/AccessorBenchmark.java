@@ -0,0 +1,109 @@
+package dev.morphia.benchmarks;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import dev.morphia.Datastore;
+import dev.morphia.Morphia;
+import dev.morphia.benchmarks.models.WideEntity;
+import dev.morphia.mapping.AccessorStrategy;
+import dev.morphia.mapping.MapperOptions;
+import dev.morphia.mapping.codec.pojo.FieldModel;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the reflective and MethodHandle based field accessors when encoding and decoding a wide entity.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccessorBenchmark {
+    @Param({"REFLECTION", "METHOD_HANDLES"})
+    private AccessorStrategy strategy;
+
+    private MongoClient client;
+    private Codec<WideEntity> codec;
+    private List<FieldModel> fields;
+    private WideEntity entity;
+    private byte[] encoded;
+    private BasicOutputBuffer buffer;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        client = MongoClients.create();
+        Datastore datastore = Morphia.createDatastore(client, "benchmarks", MapperOptions.builder()
+                                                                                         .accessorStrategy(strategy)
+                                                                                         .build());
+        datastore.getMapper().map(WideEntity.class);
+        codec = datastore.getMapper().getCodecRegistry().get(WideEntity.class);
+        fields = datastore.getMapper().getMappedClass(WideEntity.class).getFields();
+        entity = WideEntity.create(42);
+        buffer = new BasicOutputBuffer();
+        encoded = encode().toByteArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    public BasicOutputBuffer encodeEntity() {
+        return encode();
+    }
+
+    @Benchmark
+    public WideEntity decodeEntity() {
+        try (BsonBinaryReader reader = new BsonBinaryReader(ByteBuffer.wrap(encoded))) {
+            return codec.decode(reader, DecoderContext.builder().build());
+        }
+    }
+
+    @Benchmark
+    public void readFields(Blackhole blackhole) {
+        for (FieldModel field : fields) {
+            blackhole.consume(field.getAccessor().get(entity));
+        }
+    }
+
+    @Benchmark
+    public void writeFields() {
+        WideEntity target = new WideEntity();
+        for (FieldModel field : fields) {
+            field.getAccessor().set(target, field.getAccessor().get(entity));
+        }
+    }
+
+    private BasicOutputBuffer encode() {
+        buffer.truncateToPosition(0);
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            codec.encode(writer, entity, EncoderContext.builder().isEncodingCollectibleDocument(true).build());
+        }
+        return buffer;
+    }
+}
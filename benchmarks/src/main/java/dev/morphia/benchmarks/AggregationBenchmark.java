@@ -0,0 +1,144 @@
+package dev.morphia.benchmarks;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import dev.morphia.Datastore;
+import dev.morphia.Morphia;
+import dev.morphia.aggregation.experimental.PipelineStage;
+import dev.morphia.aggregation.experimental.stages.Group;
+import dev.morphia.aggregation.experimental.stages.Limit;
+import dev.morphia.aggregation.experimental.stages.Match;
+import dev.morphia.aggregation.experimental.stages.Projection;
+import dev.morphia.aggregation.experimental.stages.Sort;
+import dev.morphia.aggregation.experimental.stages.Stage;
+import dev.morphia.aggregation.experimental.stages.Unwind;
+import dev.morphia.benchmarks.models.Order;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.DocumentWriter;
+import org.bson.BsonArray;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.Codec;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
+import org.bson.io.BasicOutputBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static dev.morphia.aggregation.experimental.expressions.AccumulatorExpressions.sum;
+import static dev.morphia.aggregation.experimental.expressions.Expressions.field;
+import static dev.morphia.aggregation.experimental.stages.Group.id;
+import static dev.morphia.query.experimental.filters.Filters.gte;
+import static dev.morphia.query.experimental.filters.Filters.in;
+
+/**
+ * Measures encoding a typical aggregation pipeline into the command sent to the server, both by converting each stage to a
+ * {@link Document} through a {@link DocumentWriter} first and by streaming the stages straight into the command.  Only the client side
+ * cost is measured so no server is needed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AggregationBenchmark {
+    private MongoClient client;
+    private CodecRegistry registry;
+    private List<Stage> stages;
+    private Mapper mapper;
+    private BsonDocumentCodec commandCodec;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        client = MongoClients.create();
+        Datastore datastore = Morphia.createDatastore(client, "benchmarks");
+        mapper = datastore.getMapper();
+        mapper.map(Order.class);
+        registry = mapper.getCodecRegistry();
+        commandCodec = new BsonDocumentCodec(registry);
+        List<String> customers = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            customers.add("customer" + i);
+        }
+        stages = List.of(
+            Match.on(in("customer", customers), gte("created", 0)),
+            Unwind.on("items"),
+            Group.of(id("items.sku"))
+                 .field("count", sum(field("items.quantity")))
+                 .field("total", sum(field("items.price"))),
+            Sort.on().descending("total"),
+            Projection.of().include("count").include("total"),
+            Limit.of(10));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public List<Document> toDocuments() {
+        List<Document> documents = new ArrayList<>(stages.size());
+        for (Stage stage : stages) {
+            Codec codec = registry.get(stage.getClass());
+            DocumentWriter writer = new DocumentWriter();
+            codec.encode(writer, stage, EncoderContext.builder().build());
+            documents.add(writer.getDocument());
+        }
+        return documents;
+    }
+
+    /**
+     * The pipeline as it was sent before stages were streamed: converted to Documents first and then encoded by the driver.
+     */
+    @Benchmark
+    public BasicOutputBuffer documentCommand() {
+        return command(toDocuments());
+    }
+
+    @Benchmark
+    public BasicOutputBuffer streamedCommand() {
+        List<PipelineStage> pipeline = new ArrayList<>(stages.size());
+        for (Stage stage : stages) {
+            pipeline.add(new PipelineStage(stage, mapper.getStageCodec(stage.getClass())));
+        }
+        return command(pipeline);
+    }
+
+    /**
+     * Encodes the aggregate command the way the driver does
+     */
+    private BasicOutputBuffer command(List<? extends Bson> pipeline) {
+        BsonArray stages = new BsonArray();
+        for (Bson stage : pipeline) {
+            stages.add(stage.toBsonDocument(Document.class, registry));
+        }
+        BsonDocument command = new BsonDocument("aggregate", new BsonString("orders"))
+                                   .append("pipeline", stages);
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            commandCodec.encode(writer, command, EncoderContext.builder().build());
+        }
+        return buffer;
+    }
+}
@@ -0,0 +1,147 @@
+package dev.morphia.benchmarks;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import dev.morphia.Datastore;
+import dev.morphia.Morphia;
+import dev.morphia.benchmarks.models.Samples;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.pojo.FieldModel;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Constructor;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares encoding and decoding numeric arrays through the boxing array codec, the primitive array codecs and the packed binary form.
+ * Only the codecs are exercised so no server is needed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArrayCodecBenchmark {
+    @Param({"BOXED", "PRIMITIVE", "PACKED"})
+    private String mode;
+    @Param("10000")
+    private int size;
+
+    private MongoClient client;
+    private Codec<Object> doubleCodec;
+    private Codec<Object> longCodec;
+    private double[] doubles;
+    private long[] longs;
+    private byte[] encodedDoubles;
+    private byte[] encodedLongs;
+
+    @Setup(Level.Trial)
+    public void setup() throws ReflectiveOperationException {
+        client = MongoClients.create();
+        Datastore datastore = Morphia.createDatastore(client, "benchmarks");
+        Mapper mapper = datastore.getMapper();
+        mapper.map(Samples.class);
+        doubleCodec = codec(mapper, double[].class, "doubles");
+        longCodec = codec(mapper, long[].class, "longs");
+
+        doubles = new double[size];
+        longs = new long[size];
+        for (int i = 0; i < size; i++) {
+            doubles[i] = i * 1.5;
+            longs[i] = i * 31L;
+        }
+        encodedDoubles = toBytes(encode(doubleCodec, doubles));
+        encodedLongs = toBytes(encode(longCodec, longs));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    public BasicOutputBuffer encodeDoubles() {
+        return encode(doubleCodec, doubles);
+    }
+
+    @Benchmark
+    public Object decodeDoubles() {
+        return decode(doubleCodec, encodedDoubles);
+    }
+
+    @Benchmark
+    public BasicOutputBuffer encodeLongs() {
+        return encode(longCodec, longs);
+    }
+
+    @Benchmark
+    public Object decodeLongs() {
+        return decode(longCodec, encodedLongs);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Codec<Object> codec(Mapper mapper, Class<?> type, String field) throws ReflectiveOperationException {
+        switch (mode) {
+            case "BOXED":
+                Constructor<?> constructor = Class.forName("dev.morphia.mapping.codec.TypedArrayCodec")
+                                                  .getDeclaredConstructor(Class.class, Mapper.class);
+                constructor.setAccessible(true);
+                return (Codec<Object>) constructor.newInstance(type.getComponentType(), mapper);
+            case "PRIMITIVE":
+                return (Codec<Object>) mapper.getCodecRegistry().get(type);
+            default:
+                String packed = "packed" + Character.toUpperCase(field.charAt(0)) + field.substring(1);
+                for (FieldModel model : mapper.getMappedClass(Samples.class).getFields()) {
+                    if (model.getName().equals(packed)) {
+                        return model.getCachedCodec();
+                    }
+                }
+                throw new IllegalStateException(packed);
+        }
+    }
+
+    private static BasicOutputBuffer encode(Codec<Object> codec, Object value) {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            writer.writeStartDocument();
+            writer.writeName("values");
+            codec.encode(writer, value, EncoderContext.builder().build());
+            writer.writeEndDocument();
+        }
+        return buffer;
+    }
+
+    private static Object decode(Codec<Object> codec, byte[] bytes) {
+        try (BsonBinaryReader reader = new BsonBinaryReader(ByteBuffer.wrap(bytes))) {
+            reader.readStartDocument();
+            reader.readName();
+            Object value = codec.decode(reader, DecoderContext.builder().build());
+            reader.readEndDocument();
+            return value;
+        }
+    }
+
+    private static byte[] toBytes(BasicOutputBuffer buffer) {
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,126 @@
+package dev.morphia.benchmarks;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import dev.morphia.Datastore;
+import dev.morphia.Morphia;
+import dev.morphia.benchmarks.models.Library;
+import dev.morphia.benchmarks.models.Order;
+import dev.morphia.benchmarks.models.Shape;
+import dev.morphia.benchmarks.models.WideEntity;
+import dev.morphia.mapping.Mapper;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.Document;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Measures converting entities to and from {@link Document}s through the {@link Mapper} and to and from BSON bytes through the entity
+ * codecs, which is the path taken when reading from a cursor.  Everything runs in memory so no server is needed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+    @Param({"FLAT", "NESTED", "POLYMORPHIC", "REFERENCES"})
+    private Model model;
+
+    private MongoClient client;
+    private Mapper mapper;
+    private Codec<Object> encoder;
+    private Codec<Object> decoder;
+    private Object entity;
+    private Document document;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        client = MongoClients.create();
+        Datastore datastore = Morphia.createDatastore(client, "benchmarks");
+        mapper = datastore.getMapper();
+        entity = model.create();
+        mapper.map(model.type, entity.getClass());
+        encoder = (Codec<Object>) mapper.getCodecRegistry().get(entity.getClass());
+        decoder = (Codec<Object>) mapper.getCodecRegistry().get(model.type);
+        document = mapper.toDocument(entity);
+        encoded = encode().toByteArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    public Document toDocument() {
+        return mapper.toDocument(entity);
+    }
+
+    @Benchmark
+    public Object fromDocument() {
+        return mapper.fromDocument(model.type, document);
+    }
+
+    @Benchmark
+    public BasicOutputBuffer encode() {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            encoder.encode(writer, entity, EncoderContext.builder().build());
+        }
+        return buffer;
+    }
+
+    @Benchmark
+    public Object decode() {
+        try (BsonBinaryReader reader = new BsonBinaryReader(ByteBuffer.wrap(encoded))) {
+            return decoder.decode(reader, DecoderContext.builder().build());
+        }
+    }
+
+    /**
+     * The shapes of entity measured.  Polymorphic entities are written as a subtype and read back through the root type so the
+     * discriminator has to be resolved.
+     */
+    public enum Model {
+        FLAT(WideEntity.class, () -> WideEntity.create(42)),
+        NESTED(Order.class, () -> new Order(10)),
+        POLYMORPHIC(Shape.class, () -> new Shape.Rectangle(3, 4)),
+        REFERENCES(Library.class, () -> new Library(20));
+
+        private final Class<?> type;
+        private final Supplier<Object> factory;
+
+        Model(Class<?> type, Supplier<Object> factory) {
+            this.type = type;
+            this.factory = factory;
+        }
+
+        Object create() {
+            return factory.get();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package dev.morphia.benchmarks;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import dev.morphia.Datastore;
+import dev.morphia.Morphia;
+import dev.morphia.benchmarks.models.WideEntity;
+import dev.morphia.query.PreparedQuery;
+import org.bson.BsonBinaryWriter;
+import org.bson.Document;
+import org.bson.codecs.Codec;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static dev.morphia.query.experimental.filters.Filters.eq;
+import static dev.morphia.query.experimental.filters.Filters.gte;
+import static dev.morphia.query.experimental.filters.Filters.in;
+import static dev.morphia.query.experimental.filters.Filters.lt;
+import static dev.morphia.query.experimental.filters.Filters.parameter;
+
+/**
+ * Compares building and encoding a query's filter document from scratch on every execution with binding values to a prepared query.
+ * Only the client side cost is measured so no server is needed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PreparedQueryBenchmark {
+    private MongoClient client;
+    private Datastore datastore;
+    private PreparedQuery<WideEntity> prepared;
+    private Codec<Document> documentCodec;
+    private Map<String, Object> parameters;
+    private int counter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        client = MongoClients.create();
+        datastore = Morphia.createDatastore(client, "benchmarks");
+        datastore.getMapper().map(WideEntity.class);
+        documentCodec = datastore.getMapper().getCodecRegistry().get(Document.class);
+        prepared = datastore.prepare(WideEntity.class,
+            eq("string1", parameter("name")),
+            gte("int1", parameter("min")),
+            lt("int1", parameter("max")),
+            in("long1", parameter("values")));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    public BasicOutputBuffer adHoc() {
+        int value = counter++;
+        Document query = datastore.find(WideEntity.class)
+                                  .filter(eq("string1", "name" + value),
+                                      gte("int1", value),
+                                      lt("int1", value + 10),
+                                      in("long1", List.of(1L, 2L, (long) value)))
+                                  .toDocument();
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            documentCodec.encode(writer, query, EncoderContext.builder().build());
+        }
+        return buffer;
+    }
+
+    @Benchmark
+    public Object prepared() {
+        int value = counter++;
+        return prepared.toDocument(Map.of("name", "name" + value,
+            "min", value,
+            "max", value + 10,
+            "values", List.of(1L, 2L, (long) value)));
+    }
+}
@@ -0,0 +1,120 @@
+package dev.morphia.benchmarks;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import dev.morphia.Datastore;
+import dev.morphia.Morphia;
+import dev.morphia.benchmarks.models.Order;
+import dev.morphia.internal.PathTarget;
+import dev.morphia.mapping.MappedClass;
+import dev.morphia.mapping.Mapper;
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static dev.morphia.query.experimental.filters.Filters.elemMatch;
+import static dev.morphia.query.experimental.filters.Filters.eq;
+import static dev.morphia.query.experimental.filters.Filters.gte;
+import static dev.morphia.query.experimental.filters.Filters.in;
+import static dev.morphia.query.experimental.filters.Filters.lt;
+import static dev.morphia.query.experimental.updates.UpdateOperators.inc;
+import static dev.morphia.query.experimental.updates.UpdateOperators.push;
+import static dev.morphia.query.experimental.updates.UpdateOperators.set;
+import static dev.morphia.query.experimental.updates.UpdateOperators.unset;
+
+/**
+ * Measures building the documents sent for queries and updates, and resolving the field paths they refer to.  Only the client side
+ * cost is measured so no server is needed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryBenchmark {
+    private MongoClient client;
+    private Datastore datastore;
+    private Mapper mapper;
+    private MappedClass mappedClass;
+    private int counter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        client = MongoClients.create();
+        datastore = Morphia.createDatastore(client, "benchmarks");
+        mapper = datastore.getMapper();
+        mappedClass = mapper.map(Order.class).get(0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    public Document queryDocument() {
+        int value = counter++;
+        return datastore.find(Order.class)
+                        .filter(eq("customer", "customer" + value),
+                            eq("shipping.city", "Springfield"),
+                            gte("items.quantity", value),
+                            lt("items.price", value * 2.0),
+                            in("billing.country", List.of("US", "CA")))
+                        .toDocument();
+    }
+
+    @Benchmark
+    public Document legacyQueryDocument() {
+        int value = counter++;
+        return datastore.find(Order.class)
+                        .field("customer").equal("customer" + value)
+                        .field("shipping.city").equal("Springfield")
+                        .field("items.quantity").greaterThanOrEq(value)
+                        .field("items.price").lessThan(value * 2.0)
+                        .toDocument();
+    }
+
+    @Benchmark
+    public Document elemMatchDocument() {
+        int value = counter++;
+        return datastore.find(Order.class)
+                        .filter(elemMatch("items", eq("sku", "sku-" + value), gte("quantity", 2)))
+                        .toDocument();
+    }
+
+    @Benchmark
+    public Document updateDocument() {
+        int value = counter++;
+        return datastore.find(Order.class)
+                        .filter(eq("customer", "customer" + value))
+                        .update(set("shipping.city", "Shelbyville"),
+                            inc("items.$.quantity", 1),
+                            unset("billing"),
+                            push("items", List.of("sku-" + value)))
+                        .toDocument();
+    }
+
+    @Benchmark
+    public String resolvePath() {
+        return new PathTarget(mapper, mappedClass, "shipping.city").translatedPath();
+    }
+
+    @Benchmark
+    public String resolveArrayPath() {
+        return new PathTarget(mapper, mappedClass, "items.$.quantity").translatedPath();
+    }
+}
@@ -0,0 +1,28 @@
+package dev.morphia.benchmarks.models;
+
+import dev.morphia.annotations.Embedded;
+
+/**
+ * An embedded address.
+ */
+@Embedded
+@SuppressWarnings("unused")
+public class Address {
+    private String street;
+    private String city;
+    private String postalCode;
+    private String country;
+
+    Address() {
+    }
+
+    /**
+     * @param index used to vary the values
+     */
+    public Address(int index) {
+        street = index + " Main Street";
+        city = "Springfield";
+        postalCode = String.valueOf(10000 + index);
+        country = "US";
+    }
+}
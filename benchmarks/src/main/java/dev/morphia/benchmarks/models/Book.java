@@ -0,0 +1,26 @@
+package dev.morphia.benchmarks.models;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import org.bson.types.ObjectId;
+
+/**
+ * A referenced entity.
+ */
+@Entity("books")
+@SuppressWarnings("unused")
+public class Book {
+    @Id
+    private ObjectId id = new ObjectId();
+    private String title;
+
+    Book() {
+    }
+
+    /**
+     * @param title the title
+     */
+    public Book(String title) {
+        this.title = title;
+    }
+}
@@ -0,0 +1,42 @@
+package dev.morphia.benchmarks.models;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.mapping.experimental.MorphiaReference;
+import org.bson.types.ObjectId;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An entity made up mostly of references.  {@link MorphiaReference} fields are used so decoding only reads the ids and never needs a
+ * server to resolve them.
+ */
+@Entity("libraries")
+@SuppressWarnings("unused")
+public class Library {
+    @Id
+    private ObjectId id;
+    private String name;
+    private MorphiaReference<Book> featured;
+    private MorphiaReference<List<Book>> books;
+    private MorphiaReference<List<Book>> onLoan;
+
+    Library() {
+    }
+
+    /**
+     * @param count the number of books to reference
+     */
+    public Library(int count) {
+        id = new ObjectId();
+        name = "library";
+        List<Book> books = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            books.add(new Book("title " + i));
+        }
+        featured = MorphiaReference.wrap(books.get(0));
+        this.books = MorphiaReference.wrap(books);
+        onLoan = MorphiaReference.wrap(books.subList(0, count / 2));
+    }
+}
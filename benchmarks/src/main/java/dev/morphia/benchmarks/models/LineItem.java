@@ -0,0 +1,26 @@
+package dev.morphia.benchmarks.models;
+
+import dev.morphia.annotations.Embedded;
+
+/**
+ * An embedded line of an {@link Order}.
+ */
+@Embedded
+@SuppressWarnings("unused")
+public class LineItem {
+    private String sku;
+    private int quantity;
+    private double price;
+
+    LineItem() {
+    }
+
+    /**
+     * @param index used to vary the values
+     */
+    public LineItem(int index) {
+        sku = "sku-" + index;
+        quantity = index % 5 + 1;
+        price = index * 1.25;
+    }
+}
@@ -0,0 +1,42 @@
+package dev.morphia.benchmarks.models;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import org.bson.types.ObjectId;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * An entity with embedded documents nested a couple of levels deep.
+ */
+@Entity("orders")
+@SuppressWarnings("unused")
+public class Order {
+    @Id
+    private ObjectId id;
+    private String customer;
+    private Date created;
+    private Address billing;
+    private Address shipping;
+    private List<LineItem> items;
+
+    Order() {
+    }
+
+    /**
+     * @param items the number of line items
+     */
+    public Order(int items) {
+        id = new ObjectId();
+        customer = "customer";
+        created = new Date();
+        billing = new Address(1);
+        shipping = new Address(2);
+        this.items = new ArrayList<>();
+        for (int i = 0; i < items; i++) {
+            this.items.add(new LineItem(i));
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package dev.morphia.benchmarks.models;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.experimental.Packed;
+import org.bson.types.ObjectId;
+
+/**
+ * An entity holding large numeric arrays stored both as BSON arrays and packed as binary.
+ */
+@Entity("samples")
+@SuppressWarnings("unused")
+public class Samples {
+    @Id
+    private ObjectId id;
+    private double[] doubles;
+    private long[] longs;
+    @Packed
+    private double[] packedDoubles;
+    @Packed
+    private long[] packedLongs;
+}
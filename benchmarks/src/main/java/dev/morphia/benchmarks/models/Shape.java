@@ -0,0 +1,66 @@
+package dev.morphia.benchmarks.models;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import org.bson.types.ObjectId;
+
+/**
+ * The root of a small polymorphic hierarchy stored in a single collection.
+ */
+@Entity("shapes")
+@SuppressWarnings("unused")
+public abstract class Shape {
+    @Id
+    private ObjectId id = new ObjectId();
+    private String name;
+    private String color;
+
+    Shape() {
+    }
+
+    Shape(String name) {
+        this.name = name;
+        color = "red";
+    }
+
+    /**
+     * A circle.
+     */
+    @Entity("shapes")
+    public static class Circle extends Shape {
+        private double radius;
+
+        Circle() {
+        }
+
+        /**
+         * @param radius the radius
+         */
+        public Circle(double radius) {
+            super("circle");
+            this.radius = radius;
+        }
+    }
+
+    /**
+     * A rectangle.
+     */
+    @Entity("shapes")
+    public static class Rectangle extends Shape {
+        private double width;
+        private double height;
+
+        Rectangle() {
+        }
+
+        /**
+         * @param width  the width
+         * @param height the height
+         */
+        public Rectangle(double width, double height) {
+            super("rectangle");
+            this.width = width;
+            this.height = height;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package dev.morphia.benchmarks.models;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import org.bson.types.ObjectId;
+
+/**
+ * A flat entity with many fields of mixed primitive and reference types.
+ */
+@Entity("wide")
+@SuppressWarnings("unused")
+public class WideEntity {
+    @Id
+    private ObjectId id;
+    private int int1;
+    private int int2;
+    private int int3;
+    private int int4;
+    private long long1;
+    private long long2;
+    private long long3;
+    private long long4;
+    private double double1;
+    private double double2;
+    private double double3;
+    private double double4;
+    private float float1;
+    private float float2;
+    private boolean boolean1;
+    private boolean boolean2;
+    private short short1;
+    private byte byte1;
+    private Integer boxedInt;
+    private Long boxedLong;
+    private Double boxedDouble;
+    private String string1;
+    private String string2;
+    private String string3;
+    private String string4;
+
+    /**
+     * Creates an entity with every field populated
+     *
+     * @param seed the seed for the field values
+     * @return the new entity
+     */
+    public static WideEntity create(int seed) {
+        WideEntity entity = new WideEntity();
+        entity.id = new ObjectId();
+        entity.int1 = seed;
+        entity.int2 = seed + 1;
+        entity.int3 = seed + 2;
+        entity.int4 = seed + 3;
+        entity.long1 = seed * 1_000L;
+        entity.long2 = seed * 2_000L;
+        entity.long3 = seed * 3_000L;
+        entity.long4 = seed * 4_000L;
+        entity.double1 = seed / 2.0;
+        entity.double2 = seed / 3.0;
+        entity.double3 = seed / 4.0;
+        entity.double4 = seed / 5.0;
+        entity.float1 = seed / 6.0f;
+        entity.float2 = seed / 7.0f;
+        entity.boolean1 = seed % 2 == 0;
+        entity.boolean2 = seed % 3 == 0;
+        entity.short1 = (short) seed;
+        entity.byte1 = (byte) seed;
+        entity.boxedInt = seed;
+        entity.boxedLong = (long) seed;
+        entity.boxedDouble = (double) seed;
+        entity.string1 = "string1-" + seed;
+        entity.string2 = "string2-" + seed;
+        entity.string3 = "string3-" + seed;
+        entity.string4 = "string4-" + seed;
+        return entity;
+    }
+}
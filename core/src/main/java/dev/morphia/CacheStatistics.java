@@ -0,0 +1,101 @@
+package dev.morphia;
+
+import java.util.StringJoiner;
+
+/**
+ * A point in time view of the activity of an entity cache.
+ *
+ * @see dev.morphia.annotations.experimental.Cached
+ * @see Datastore#getCacheStatistics(Class)
+ * @since 2.1
+ */
+public final class CacheStatistics {
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long invalidations;
+    private final long size;
+    private final long estimatedBytes;
+
+    /**
+     * Creates the statistics
+     *
+     * @param hits           the number of IDs found in the cache
+     * @param misses         the number of IDs looked up but not found
+     * @param evictions      the number of entries removed to stay within the bounds or because they expired
+     * @param invalidations  the number of entries removed by writes
+     * @param size           the number of entries held
+     * @param estimatedBytes the encoded size of the entries held
+     * @morphia.internal
+     */
+    public CacheStatistics(long hits, long misses, long evictions, long invalidations, long size, long estimatedBytes) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.invalidations = invalidations;
+        this.size = size;
+        this.estimatedBytes = estimatedBytes;
+    }
+
+    /**
+     * @return the number of IDs found in the cache
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return the number of IDs looked up but not found
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return the fraction of IDs looked up that were found or 0 if none have been looked up
+     */
+    public double getHitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    /**
+     * @return the number of entries removed to stay within the bounds or because they expired
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * @return the number of entries removed by writes.  A write emptying the cache counts every entry it removed.
+     */
+    public long getInvalidations() {
+        return invalidations;
+    }
+
+    /**
+     * @return the number of entries held
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * @return the encoded size, in bytes, of the entries held
+     */
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", CacheStatistics.class.getSimpleName() + "[", "]")
+                   .add("hits=" + hits)
+                   .add("misses=" + misses)
+                   .add("evictions=" + evictions)
+                   .add("invalidations=" + invalidations)
+                   .add("size=" + size)
+                   .add("estimatedBytes=" + estimatedBytes)
+                   .toString();
+    }
+}
@@ -18,9 +18,11 @@ import dev.morphia.internal.SessionConfigurable;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.query.FindAndDeleteOptions;
 import dev.morphia.query.FindOptions;
+import dev.morphia.query.PreparedQuery;
 import dev.morphia.query.Query;
 import dev.morphia.query.QueryFactory;
 import dev.morphia.query.UpdateOperations;
+import dev.morphia.query.experimental.filters.Filter;
 import dev.morphia.query.experimental.updates.UpdateOperator;
 import dev.morphia.transactions.experimental.MorphiaTransaction;
 import org.bson.Document;
@@ -277,6 +279,18 @@ public interface Datastore {
      */
     ClientSession findSession(SessionConfigurable<?> configurable);
 
+    /**
+     * Reports the activity of the cache holding an entity type.
+     *
+     * @param type the entity type
+     * @return the statistics or null if the type is not {@link dev.morphia.annotations.experimental.Cached cached}
+     * @since 2.1
+     */
+    default CacheStatistics getCacheStatistics(Class<?> type) {
+        Mapper mapper = getMapper();
+        return mapper.getEntityCache().getStatistics(mapper.getMappedClass(type));
+    }
+
     /**
      * @return the MongoDatabase used by this DataStore
      * @morphia.internal
@@ -398,6 +412,20 @@ public interface Datastore {
         merge(entity, new InsertOneOptions().writeConcern(wc));
     }
 
+    /**
+     * Prepares a query which can be run repeatedly with different values for its parameters.
+     *
+     * @param type    the type to query
+     * @param filters the filters to apply.  Values to supply on each execution are given with
+     *                {@link dev.morphia.query.experimental.filters.Filters#parameter(String)}
+     * @param <T>     the type to query
+     * @return the prepared query
+     * @since 2.1
+     */
+    default <T> PreparedQuery<T> prepare(Class<T> type, Filter... filters) {
+        return new PreparedQuery<>(this, type, filters);
+    }
+
     /**
      * Returns a new query based on the example object
      *
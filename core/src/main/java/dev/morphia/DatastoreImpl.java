@@ -1,15 +1,26 @@
 package dev.morphia;
 
 import com.mongodb.ClientSessionOptions;
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoBulkWriteException;
 import com.mongodb.MongoCommandException;
 import com.mongodb.MongoWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.ClientSession;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.CreateCollectionOptions;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.ReplaceOneModel;
 import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.client.model.UpdateOneModel;
 import com.mongodb.client.model.ValidationOptions;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.UpdateResult;
 import dev.morphia.aggregation.experimental.Aggregation;
@@ -23,6 +34,7 @@ import dev.morphia.mapping.MappedClass;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.MapperOptions;
 import dev.morphia.mapping.MappingException;
+import dev.morphia.mapping.codec.pojo.EntitySnapshots;
 import dev.morphia.mapping.codec.pojo.FieldModel;
 import dev.morphia.query.FindOptions;
 import dev.morphia.query.Query;
@@ -32,11 +44,17 @@ import dev.morphia.query.ValidationException;
 import dev.morphia.query.experimental.updates.UpdateOperators;
 import dev.morphia.sofia.Sofia;
 import dev.morphia.transactions.experimental.MorphiaTransaction;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWriter;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.EncoderContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.ConcurrentModificationException;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -333,18 +351,29 @@ public class DatastoreImpl implements AdvancedDatastore {
             throw new MappingException("Could not get id for " + entity.getClass().getName());
         }
 
-        final Document document = mapper.toDocument(entity);
-        document.remove("_id");
-
         final Query<T> query = (Query<T>) find(entity.getClass()).filter(eq("_id", id));
-        if (!tryVersionedUpdate(entity, mapper.getCollection(entity.getClass()), options)) {
-            UpdateResult execute = query.update(UpdateOperators.set(entity))
-                                        .execute(new UpdateOptions()
-                                                     .clientSession(findSession(options))
-                                                     .writeConcern(options.writeConcern()));
-            if (execute.getModifiedCount() != 1) {
-                throw new UpdateException("Nothing updated");
+        try {
+            if (mapper.getOptions().isTrackChanges()) {
+                T merged = trySnapshotMerge(entity, id, options);
+                if (merged != null) {
+                    return merged;
+                }
             }
+
+            final Document document = mapper.toDocument(entity);
+            document.remove("_id");
+
+            if (!tryVersionedUpdate(entity, mapper.getCollection(entity.getClass()), options)) {
+                UpdateResult execute = query.update(UpdateOperators.set(entity))
+                                            .execute(new UpdateOptions()
+                                                         .clientSession(findSession(options))
+                                                         .writeConcern(options.writeConcern()));
+                if (execute.getModifiedCount() != 1) {
+                    throw new UpdateException("Nothing updated");
+                }
+            }
+        } finally {
+            mapper.getEntityCache().invalidateId(mapper.getMappedClass(entity.getClass()).getCollectionName(), id, findSession(options));
         }
 
         return query.first();
@@ -398,9 +427,17 @@ public class DatastoreImpl implements AdvancedDatastore {
             throw new UpdateException(Sofia.cannotPersistNullEntity());
         }
 
-        if (!tryVersionedUpdate(entity, collection, options)) {
-            saveDocument(entity, collection, options);
+        try {
+            if (mapper.getOptions().isTrackChanges() && trySnapshotUpdate(entity, collection, options)) {
+                return;
+            }
+            if (!tryVersionedUpdate(entity, collection, options)) {
+                saveDocument(entity, collection, options);
+            }
+        } finally {
+            mapper.getEntityCache().invalidateId(collection.getNamespace().getCollectionName(), mapper.getId(entity), findSession(options));
         }
+        mapper.snapshot(entity);
     }
 
     @Override
@@ -411,11 +448,12 @@ public class DatastoreImpl implements AdvancedDatastore {
         }
 
         Map<MongoCollection, List<T>> grouped = new LinkedHashMap<>();
-        List<T> list = new ArrayList<>();
+        Map<MongoCollection, List<T>> upserts = new LinkedHashMap<>();
         for (T entity : entities) {
             MappedClass mappedClass = getMapper().getMappedClass(entity.getClass());
             if (getMapper().getId(entity) != null || mappedClass.getVersionField() != null) {
-                list.add(entity);
+                upserts.computeIfAbsent(mapper.getCollection(entity.getClass()), c -> new ArrayList<>())
+                       .add(entity);
             } else {
                 grouped.computeIfAbsent(mapper.getCollection(entity.getClass()), c -> new ArrayList<>())
                        .add(entity);
@@ -429,18 +467,225 @@ public class DatastoreImpl implements AdvancedDatastore {
             } else {
                 collection.insertMany(options.clientSession(), entry.getValue(), options.getOptions());
             }
+            if (mapper.getOptions().isTrackChanges()) {
+                entry.getValue().forEach(mapper::snapshot);
+            }
         }
 
-        InsertOneOptions insertOneOptions = new InsertOneOptions()
-                                                .bypassDocumentValidation(options.getBypassDocumentValidation())
-                                                .clientSession(findSession(options))
-                                                .writeConcern(options.writeConcern());
-        for (T entity : list) {
-            save(entity, insertOneOptions);
+        for (Entry<MongoCollection, List<T>> entry : upserts.entrySet()) {
+            bulkSave(entry.getKey(), entry.getValue(), options);
         }
         return entities;
     }
 
+    /**
+     * Saves entities which already have an ID or are versioned using bulk writes of at most {@link InsertManyOptions#getChunkSize()}
+     * operations each.  Unversioned entities are upserted in full.  Versioned entities are updated conditionally on their current
+     * version so that, as with a single save, a stale or deleted document is reported as a {@link ConcurrentModificationException}.
+     */
+    private <T> void bulkSave(MongoCollection collection, List<T> entities, InsertManyOptions options) {
+        MongoCollection prepared = options.prepare(collection);
+        ClientSession session = findSession(options);
+        BulkWriteOptions bulkWriteOptions = new BulkWriteOptions()
+                                                .ordered(options.isOrdered())
+                                                .bypassDocumentValidation(options.getBypassDocumentValidation());
+
+        for (int start = 0; start < entities.size(); start += options.getChunkSize()) {
+            List<T> chunk = entities.subList(start, Math.min(start + options.getChunkSize(), entities.size()));
+            List<Long> oldVersions = new ArrayList<>(chunk.size());
+            List<WriteModel<T>> models = new ArrayList<>(chunk.size());
+            for (T entity : chunk) {
+                models.add(toWriteModel(entity, oldVersions));
+            }
+            BulkWriteResult result;
+            try {
+                if (session == null) {
+                    result = prepared.bulkWrite(models, bulkWriteOptions);
+                } else {
+                    result = prepared.bulkWrite(session, models, bulkWriteOptions);
+                }
+            } catch (MongoBulkWriteException e) {
+                throw bulkSaveFailed(collection, chunk, models, oldVersions, e, options.isOrdered(), session);
+            } catch (RuntimeException e) {
+                // nothing is known to have been written so none of the new versions can be trusted
+                BitSet all = new BitSet(chunk.size());
+                all.set(0, chunk.size());
+                restoreVersions(chunk, oldVersions, all);
+                throw e;
+            } finally {
+                List<Object> ids = new ArrayList<>(chunk.size());
+                chunk.forEach(entity -> ids.add(mapper.getId(entity)));
+                mapper.getEntityCache().invalidate(collection.getNamespace().getCollectionName(),
+                    new Document("_id", new Document("$in", ids)), session);
+            }
+
+            BitSet stale = new BitSet(chunk.size());
+            if (result.getMatchedCount() + result.getUpserts().size() < countUpdates(models, stale)) {
+                stale = findStale(collection, chunk, models, stale, session);
+            }
+            if (!stale.isEmpty()) {
+                throw concurrentModification(chunk, oldVersions, stale, null);
+            }
+            if (mapper.getOptions().isTrackChanges()) {
+                chunk.forEach(mapper::snapshot);
+            }
+        }
+    }
+
+    private <T> WriteModel<T> toWriteModel(T entity, List<Long> oldVersions) {
+        final MappedClass mc = mapper.getMappedClass(entity.getClass());
+        final Object idValue = mc.getIdField().getValue(entity);
+        final FieldModel versionField = mc.getVersionField();
+        if (versionField == null) {
+            oldVersions.add(null);
+            return new ReplaceOneModel<>(new Document("_id", idValue), entity, new ReplaceOptions().upsert(true));
+        }
+
+        Long oldVersion = (Long) versionField.getValue(entity);
+        oldVersions.add(oldVersion);
+        updateVersion(entity, versionField, oldVersion == null ? 1L : oldVersion + 1);
+        if (oldVersion == null || idValue == null) {
+            return new InsertOneModel<>(entity);
+        }
+
+        BsonDocument document = encode(entity);
+        document.remove("_id");
+        return new UpdateOneModel<>(new Document("_id", idValue).append(versionField.getMappedName(), oldVersion),
+            new BsonDocument("$set", document));
+    }
+
+    /**
+     * Restores the versions of the entities whose writes did not complete and maps the failure back to the entity responsible.  Only a
+     * duplicate {@code _id} on the insert of a new versioned entity is reported as a conflict.  Any other error is rethrown as is.
+     */
+    private <T> RuntimeException bulkSaveFailed(MongoCollection collection, List<T> chunk, List<WriteModel<T>> models,
+                                                List<Long> oldVersions, MongoBulkWriteException e, boolean ordered,
+                                                ClientSession session) {
+        BitSet failed = new BitSet(chunk.size());
+        BitSet conflicts = new BitSet(chunk.size());
+        boolean unrelated = false;
+        for (BulkWriteError error : e.getWriteErrors()) {
+            failed.set(error.getIndex());
+            if (isIdCollision(error) && models.get(error.getIndex()) instanceof InsertOneModel
+                && oldVersions.get(error.getIndex()) == null
+                && mapper.getMappedClass(chunk.get(error.getIndex()).getClass()).getVersionField() != null) {
+                conflicts.set(error.getIndex());
+            } else {
+                unrelated = true;
+            }
+        }
+        if (ordered && !failed.isEmpty()) {
+            // an ordered bulk write stops at the first error so nothing after it was written either
+            failed.set(failed.nextSetBit(0), chunk.size());
+        }
+        restoreVersions(chunk, oldVersions, failed);
+
+        BulkWriteResult result = e.getWriteResult();
+        if (result.getMatchedCount() + result.getUpserts().size() < countUpdates(models, failed)) {
+            BitSet stale = findStale(collection, chunk, models, failed, session);
+            restoreVersions(chunk, oldVersions, stale);
+            conflicts.or(stale);
+        }
+
+        if (unrelated || conflicts.isEmpty()) {
+            return e;
+        }
+        return concurrentModification(chunk, oldVersions, conflicts, e);
+    }
+
+    /**
+     * Checks for a duplicate key error on {@code _id}.  When the server reports the offending key pattern it decides.  Otherwise any
+     * duplicate key is treated as an {@code _id} collision, just as {@link #tryVersionedUpdate} treats a failed insert.
+     */
+    private static boolean isIdCollision(BulkWriteError error) {
+        if (ErrorCategory.fromErrorCode(error.getCode()) != ErrorCategory.DUPLICATE_KEY) {
+            return false;
+        }
+        BsonDocument details = error.getDetails();
+        if (details != null && details.isDocument("keyPattern")) {
+            BsonDocument keyPattern = details.getDocument("keyPattern");
+            return keyPattern.size() == 1 && keyPattern.containsKey("_id");
+        }
+        if (details != null && details.isDocument("keyValue")) {
+            return details.getDocument("keyValue").containsKey("_id");
+        }
+        return true;
+    }
+
+    /**
+     * @return the number of updates and replacements among the models not flagged in {@code skip}
+     */
+    private static <T> int countUpdates(List<WriteModel<T>> models, BitSet skip) {
+        int count = 0;
+        for (int index = 0; index < models.size(); index++) {
+            if (!skip.get(index) && !(models.get(index) instanceof InsertOneModel)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Checks the stored versions of the versioned updates not flagged in {@code skip} to find those that matched nothing because the
+     * document was deleted or its version has moved on.
+     */
+    private <T> BitSet findStale(MongoCollection collection, List<T> chunk, List<WriteModel<T>> models, BitSet skip,
+                                 ClientSession session) {
+        List<Object> ids = new ArrayList<>();
+        Document projection = new Document();
+        for (int index = 0; index < chunk.size(); index++) {
+            if (!skip.get(index) && models.get(index) instanceof UpdateOneModel) {
+                T entity = chunk.get(index);
+                ids.add(mapper.getId(entity));
+                projection.append(mapper.getMappedClass(entity.getClass()).getVersionField().getMappedName(), 1);
+            }
+        }
+
+        MongoCollection<Document> documents = collection.withDocumentClass(Document.class);
+        Document filter = new Document("_id", new Document("$in", ids));
+        Map<Object, Document> stored = new LinkedHashMap<>();
+        for (Document document : session == null
+                                 ? documents.find(filter).projection(projection)
+                                 : documents.find(session, filter).projection(projection)) {
+            stored.put(document.get("_id"), document);
+        }
+
+        BitSet stale = new BitSet(chunk.size());
+        for (int index = 0; index < chunk.size(); index++) {
+            if (!skip.get(index) && models.get(index) instanceof UpdateOneModel) {
+                T entity = chunk.get(index);
+                FieldModel versionField = mapper.getMappedClass(entity.getClass()).getVersionField();
+                Document document = stored.get(mapper.getId(entity));
+                if (document == null || !versionField.getValue(entity).equals(document.get(versionField.getMappedName()))) {
+                    stale.set(index);
+                }
+            }
+        }
+        return stale;
+    }
+
+    private <T> void restoreVersions(List<T> chunk, List<Long> oldVersions, BitSet indexes) {
+        for (int index = indexes.nextSetBit(0); index >= 0; index = indexes.nextSetBit(index + 1)) {
+            T entity = chunk.get(index);
+            FieldModel versionField = mapper.getMappedClass(entity.getClass()).getVersionField();
+            if (versionField != null) {
+                updateVersion(entity, versionField, oldVersions.get(index));
+            }
+        }
+    }
+
+    private <T> ConcurrentModificationException concurrentModification(List<T> chunk, List<Long> oldVersions, BitSet conflicts,
+                                                                        Throwable cause) {
+        restoreVersions(chunk, oldVersions, conflicts);
+        T conflict = chunk.get(conflicts.nextSetBit(0));
+        ConcurrentModificationException exception = new ConcurrentModificationException(
+            Sofia.concurrentModification(conflict.getClass().getName(), mapper.getId(conflict)));
+        if (cause != null) {
+            exception.initCause(cause);
+        }
+        return exception;
+    }
+
     protected <T> void saveDocument(T entity, MongoCollection<T> collection, InsertOneOptions options) {
         Object id = mapper.getMappedClass(entity.getClass()).getIdField().getValue(entity);
         ClientSession clientSession = findSession(options);
@@ -512,6 +757,128 @@ public class DatastoreImpl implements AdvancedDatastore {
         return true;
     }
 
+    /**
+     * Saves a tracked entity by updating only the fields changed since it was loaded or last saved.
+     *
+     * @return false if the entity could not be saved this way and should be saved normally
+     */
+    private <T> boolean trySnapshotUpdate(T entity, MongoCollection collection, InsertOneOptions options) {
+        RawBsonDocument snapshot = mapper.getSnapshots().get(entity);
+        if (snapshot == null) {
+            return false;
+        }
+        final MappedClass mc = mapper.getMappedClass(entity.getClass());
+        final Object idValue = mc.getIdField().getValue(entity);
+        final FieldModel versionField = mc.getVersionField();
+        final Long oldVersion = versionField != null ? (Long) versionField.getValue(entity) : null;
+        if (idValue == null || versionField != null && oldVersion == null) {
+            return false;
+        }
+
+        if (versionField != null) {
+            updateVersion(entity, versionField, oldVersion + 1);
+        }
+        BsonDocument state = encode(entity);
+        BsonDocument update = EntitySnapshots.diff(snapshot, state, true);
+        if (update != null) {
+            Document filter = new Document("_id", idValue);
+            if (versionField != null) {
+                filter.append(versionField.getMappedName(), oldVersion);
+            }
+            com.mongodb.client.model.UpdateOptions updateOptions = new com.mongodb.client.model.UpdateOptions()
+                                                                       .bypassDocumentValidation(options.getBypassDocumentValidation());
+            ClientSession session = findSession(options);
+            MongoCollection prepared = options.prepare(collection);
+            UpdateResult result = session == null
+                                  ? prepared.updateOne(filter, update, updateOptions)
+                                  : prepared.updateOne(session, filter, update, updateOptions);
+            if (result.getMatchedCount() != 1) {
+                if (versionField != null) {
+                    updateVersion(entity, versionField, oldVersion);
+                    throw new ConcurrentModificationException(Sofia.concurrentModification(entity.getClass().getName(), idValue));
+                }
+                // the document is gone so write it in full
+                saveDocument(entity, collection, options);
+            }
+        }
+        mapper.snapshot(entity);
+        return true;
+    }
+
+    /**
+     * Merges a tracked entity by setting only the changed fields and reading back the result in the same round trip.
+     *
+     * @return the merged entity or null if it could not be merged this way and should be merged normally
+     */
+    private <T> T trySnapshotMerge(T entity, Object idValue, InsertOneOptions options) {
+        final MappedClass mc = mapper.getMappedClass(entity.getClass());
+        final FieldModel versionField = mc.getVersionField();
+        final Long oldVersion = versionField != null ? (Long) versionField.getValue(entity) : null;
+        if (versionField != null && oldVersion == null) {
+            return null;
+        }
+
+        RawBsonDocument snapshot = mapper.getSnapshots().get(entity);
+        if (versionField != null) {
+            updateVersion(entity, versionField, oldVersion + 1);
+        }
+        BsonDocument state = encode(entity);
+        BsonDocument update;
+        if (snapshot != null) {
+            update = EntitySnapshots.diff(snapshot, state, false);
+        } else {
+            state.remove("_id");
+            update = new BsonDocument("$set", state);
+        }
+
+        MongoCollection<T> collection = (MongoCollection<T>) options.prepare(mapper.getCollection(entity.getClass()));
+        ClientSession session = findSession(options);
+        if (update == null) {
+            return refreshSnapshot(entity, session == null
+                                           ? collection.find(new Document("_id", idValue)).first()
+                                           : collection.find(session, new Document("_id", idValue)).first());
+        }
+
+        Document filter = new Document("_id", idValue);
+        if (versionField != null) {
+            filter.append(versionField.getMappedName(), oldVersion);
+        }
+        FindOneAndUpdateOptions updateOptions = new FindOneAndUpdateOptions()
+                                                    .bypassDocumentValidation(options.getBypassDocumentValidation())
+                                                    .returnDocument(ReturnDocument.AFTER);
+        T merged = session == null
+                   ? collection.findOneAndUpdate(filter, update, updateOptions)
+                   : collection.findOneAndUpdate(session, filter, update, updateOptions);
+        if (merged == null) {
+            if (versionField != null) {
+                updateVersion(entity, versionField, oldVersion);
+                throw new ConcurrentModificationException(Sofia.concurrentModification(entity.getClass().getName(), idValue));
+            }
+            throw new UpdateException("Nothing updated");
+        }
+        return refreshSnapshot(entity, merged);
+    }
+
+    /**
+     * Gives a merged entity the snapshot of the document the merge read back so that it is not sent again by a later write
+     */
+    private <T> T refreshSnapshot(T entity, T merged) {
+        RawBsonDocument stored = merged != null ? mapper.getSnapshots().get(merged) : null;
+        if (stored != null) {
+            mapper.getSnapshots().record(entity, stored);
+        } else {
+            mapper.getSnapshots().forget(entity);
+        }
+        return merged;
+    }
+
+    private BsonDocument encode(Object entity) {
+        BsonDocument document = new BsonDocument();
+        Codec codec = mapper.getCodecRegistry().get(entity.getClass());
+        codec.encode(new BsonDocumentWriter(document), entity, EncoderContext.builder().isEncodingCollectibleDocument(true).build());
+        return document;
+    }
+
     private <T> void updateVersion(T entity, FieldModel field, Long newVersion) {
         field.setValue(entity, newVersion);
     }
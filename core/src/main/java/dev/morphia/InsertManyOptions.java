@@ -30,6 +30,7 @@ public class InsertManyOptions implements SessionConfigurable<InsertManyOptions>
     private com.mongodb.client.model.InsertManyOptions options = new com.mongodb.client.model.InsertManyOptions();
     private WriteConcern writeConcern = WriteConcern.ACKNOWLEDGED;
     private ClientSession clientSession;
+    private int chunkSize = 1000;
 
     /**
      * Creates a new options wrapper
@@ -46,6 +47,7 @@ public class InsertManyOptions implements SessionConfigurable<InsertManyOptions>
         this.options = that.options;
         this.writeConcern = that.writeConcern;
         this.clientSession = that.clientSession;
+        this.chunkSize = that.chunkSize;
     }
 
     /**
@@ -60,6 +62,21 @@ public class InsertManyOptions implements SessionConfigurable<InsertManyOptions>
         return this;
     }
 
+    /**
+     * Sets the maximum number of writes sent in a single bulk write when saving entities which already have an ID or are versioned.
+     *
+     * @param chunkSize the number of writes per bulk write
+     * @return this
+     * @since 2.1
+     */
+    public InsertManyOptions chunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("The chunk size must be positive: " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
     /**
      * Set the client session to use for the insert.
      *
@@ -90,6 +107,17 @@ public class InsertManyOptions implements SessionConfigurable<InsertManyOptions>
         return options.getBypassDocumentValidation();
     }
 
+    /**
+     * Gets the maximum number of writes sent in a single bulk write when saving entities which already have an ID or are versioned.  The
+     * default is 1000.
+     *
+     * @return the number of writes per bulk write
+     * @since 2.1
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
     /**
      * @return the driver version of this instance
      */
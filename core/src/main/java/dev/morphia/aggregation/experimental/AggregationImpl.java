@@ -33,16 +33,13 @@ import dev.morphia.aggregation.experimental.stages.Stage;
 import dev.morphia.aggregation.experimental.stages.UnionWith;
 import dev.morphia.aggregation.experimental.stages.Unset;
 import dev.morphia.aggregation.experimental.stages.Unwind;
-import dev.morphia.mapping.codec.DocumentWriter;
+import dev.morphia.mapping.Mapper;
 import dev.morphia.query.experimental.filters.Filter;
 import dev.morphia.query.internal.MorphiaCursor;
 import org.bson.Document;
-import org.bson.codecs.Codec;
-import org.bson.codecs.EncoderContext;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * @param <T>
@@ -104,12 +101,12 @@ public class AggregationImpl<T> implements Aggregation<T> {
 
     @Override
     public <R> MorphiaCursor<R> execute(Class<R> resultType) {
-        return new MorphiaCursor<>(collection.aggregate(getDocuments(), resultType).iterator());
+        return new MorphiaCursor<>(collection.aggregate(getPipeline(), resultType).iterator());
     }
 
     @Override
     public <R> MorphiaCursor<R> execute(Class<R> resultType, AggregationOptions options) {
-        return new MorphiaCursor<>(options.apply(getDocuments(), collection, resultType)
+        return new MorphiaCursor<>(options.apply(getPipeline(), collection, resultType)
                                           .iterator());
     }
 
@@ -164,31 +161,47 @@ public class AggregationImpl<T> implements Aggregation<T> {
     @Override
     public <M> void merge(Merge<M> merge) {
         stages.add(merge);
-        collection.aggregate(getDocuments())
-                  .toCollection();
+        try {
+            collection.aggregate(getPipeline())
+                      .toCollection();
+        } finally {
+            invalidate(merge.getType(), merge.getCollection());
+        }
     }
 
     @Override
     public <M> void merge(Merge<M> merge, AggregationOptions options) {
         stages.add(merge);
         Class<?> type = merge.getType() != null ? merge.getType() : Document.class;
-        options.apply(getDocuments(), collection, type)
-               .toCollection();
+        try {
+            options.apply(getPipeline(), collection, type)
+                   .toCollection();
+        } finally {
+            invalidate(merge.getType(), merge.getCollection());
+        }
     }
 
     @Override
     public <O> void out(Out<O> out) {
         stages.add(out);
-        collection.aggregate(getDocuments())
-                  .toCollection();
+        try {
+            collection.aggregate(getPipeline())
+                      .toCollection();
+        } finally {
+            invalidate(out.getType(), out.getCollection());
+        }
     }
 
     @Override
     public <O> void out(Out<O> out, AggregationOptions options) {
         stages.add(out);
         Class<?> type = out.getType() != null ? out.getType() : Document.class;
-        options.apply(getDocuments(), collection, type)
-               .toCollection();
+        try {
+            options.apply(getPipeline(), collection, type)
+                   .toCollection();
+        } finally {
+            invalidate(out.getType(), out.getCollection());
+        }
     }
 
     @Override
@@ -269,15 +282,21 @@ public class AggregationImpl<T> implements Aggregation<T> {
         return this;
     }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
-    private List<Document> getDocuments() {
-        return stages.stream()
-                     .map(s -> {
-                         Codec codec = datastore.getMapper().getCodecRegistry().get(s.getClass());
-                         DocumentWriter writer = new DocumentWriter();
-                         codec.encode(writer, s, EncoderContext.builder().build());
-                         return writer.getDocument();
-                     })
-                     .collect(Collectors.toList());
+    /**
+     * $out replaces and $merge rewrites the documents of the target collection so none of its cached entries can be trusted afterwards.
+     */
+    private void invalidate(Class<?> type, String target) {
+        Mapper mapper = datastore.getMapper();
+        String name = type != null ? mapper.getMappedClass(type).getCollectionName() : target;
+        mapper.getEntityCache().invalidate(name, new Document(), null);
+    }
+
+    private List<PipelineStage> getPipeline() {
+        Mapper mapper = datastore.getMapper();
+        List<PipelineStage> pipeline = new ArrayList<>(stages.size());
+        for (Stage stage : stages) {
+            pipeline.add(new PipelineStage(stage, mapper.getStageCodec(stage.getClass())));
+        }
+        return pipeline;
     }
 }
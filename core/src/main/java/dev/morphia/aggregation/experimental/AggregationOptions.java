@@ -11,6 +11,7 @@ import dev.morphia.internal.ReadConfigurable;
 import dev.morphia.internal.SessionConfigurable;
 import dev.morphia.internal.WriteConfigurable;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -53,7 +54,7 @@ public class AggregationOptions implements SessionConfigurable<AggregationOption
     /**
      * Applies the configured options to the collection.
      *
-     * @param documents  the stage documents
+     * @param pipeline   the stages
      * @param collection the collection to configure
      * @param resultType the result type
      * @param <T>        the collection type
@@ -61,7 +62,7 @@ public class AggregationOptions implements SessionConfigurable<AggregationOption
      * @return the updated collection
      * @morphia.internal
      */
-    public <S, T> AggregateIterable<S> apply(List<Document> documents, MongoCollection<T> collection,
+    public <S, T> AggregateIterable<S> apply(List<? extends Bson> pipeline, MongoCollection<T> collection,
                                              Class<S> resultType) {
         MongoCollection<T> bound = collection;
         if (readConcern != null) {
@@ -70,7 +71,7 @@ public class AggregationOptions implements SessionConfigurable<AggregationOption
         if (readPreference != null) {
             bound = bound.withReadPreference(readPreference);
         }
-        AggregateIterable<S> aggregate = bound.aggregate(documents, resultType)
+        AggregateIterable<S> aggregate = bound.aggregate(pipeline, resultType)
                                               .allowDiskUse(allowDiskUse)
                                               .bypassDocumentValidation(bypassDocumentValidation);
         if (batchSize != null) {
@@ -0,0 +1,41 @@
+package dev.morphia.aggregation.experimental;
+
+import dev.morphia.aggregation.experimental.stages.Stage;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWrapper;
+import org.bson.codecs.Encoder;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
+
+/**
+ * Hands a stage to the driver as {@link Bson} without converting it to a document first.  The driver writes the stage with its codec
+ * straight into the command being sent.
+ *
+ * @morphia.internal
+ * @since 2.1
+ */
+public class PipelineStage implements Bson {
+    private final Stage stage;
+    private final Encoder<Stage> encoder;
+
+    /**
+     * Creates the stage
+     *
+     * @param stage   the stage
+     * @param encoder the encoder for the stage
+     */
+    public PipelineStage(Stage stage, Encoder<Stage> encoder) {
+        this.stage = stage;
+        this.encoder = encoder;
+    }
+
+    @Override
+    public <TDocument> BsonDocument toBsonDocument(Class<TDocument> documentClass, CodecRegistry codecRegistry) {
+        return new BsonDocumentWrapper<>(stage, encoder);
+    }
+
+    @Override
+    public String toString() {
+        return toBsonDocument(BsonDocument.class, null).toJson();
+    }
+}
@@ -2,10 +2,15 @@ package dev.morphia.aggregation.experimental.codecs.stages;
 
 import dev.morphia.aggregation.experimental.stages.Match;
 import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.DocumentWriter;
 import dev.morphia.query.experimental.filters.Filter;
 import org.bson.BsonWriter;
+import org.bson.Document;
 import org.bson.codecs.EncoderContext;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import static dev.morphia.aggregation.experimental.codecs.ExpressionHelper.document;
 
 public class MatchCodec extends StageCodec<Match> {
@@ -22,10 +27,31 @@ public class MatchCodec extends StageCodec<Match> {
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     protected void encodeStage(BsonWriter writer, Match value, EncoderContext encoderContext) {
-        document(writer, () -> {
-            for (Filter filter : value.getFilters()) {
-                filter.encode(getMapper(), writer, encoderContext);
+        if (hasDistinctNames(value.getFilters())) {
+            document(writer, () -> {
+                for (Filter filter : value.getFilters()) {
+                    filter.encode(getMapper(), writer, encoderContext);
+                }
+            });
+        } else {
+            // filters sharing a name have to be merged in to one document which DocumentWriter does as they're written
+            DocumentWriter merged = new DocumentWriter();
+            document(merged, () -> {
+                for (Filter filter : value.getFilters()) {
+                    filter.encode(getMapper(), merged, encoderContext);
+                }
+            });
+            encoderContext.encodeWithChildContext(getCodecRegistry().get(Document.class), writer, merged.getDocument());
+        }
+    }
+
+    private boolean hasDistinctNames(Filter[] filters) {
+        Set<String> names = new HashSet<>();
+        for (Filter filter : filters) {
+            if (!names.add(filter.encodedName(getMapper())) || !filter.hasDistinctNames(getMapper())) {
+                return false;
             }
-        });
+        }
+        return true;
     }
 }
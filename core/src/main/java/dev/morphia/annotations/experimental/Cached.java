@@ -0,0 +1,42 @@
+package dev.morphia.annotations.experimental;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Keeps recently loaded entities of this type in memory so that repeated lookups by ID, including those made to resolve
+ * {@link dev.morphia.annotations.Reference references}, are answered without a query.  The documents are cached in their encoded form
+ * and decoded afresh on every lookup so no two lookups share an instance.
+ * <p>
+ * Only queries filtering on nothing but {@code _id}, with an equality or {@code $in}, and without a projection, sort, collation, hint
+ * or read preference use the cache.  Queries run in a session never do.  Saves, merges, deletes and updates made through the same
+ * {@link dev.morphia.Datastore} remove the affected entries.  Those whose filter is not on {@code _id} alone empty the collection's cache.
+ * Writes made by other means, such as another process or the driver directly, are only seen once an entry expires.
+ *
+ * @see dev.morphia.Datastore#getCacheStatistics(Class)
+ * @since 2.1
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Cached {
+    /**
+     * @return the maximum number of entities to keep.  0 leaves the count unbounded.
+     */
+    long maxEntries() default 10_000;
+
+    /**
+     * @return the maximum total size, in bytes, of the encoded entities to keep.  0, the default, leaves the size unbounded.
+     */
+    long maxBytes() default 0;
+
+    /**
+     * @return the number of seconds an entity is kept after it is loaded.  0, the default, keeps it until it is evicted or invalidated.
+     */
+    long expireAfterSeconds() default 0;
+}
@@ -0,0 +1,26 @@
+package dev.morphia.annotations.experimental;
+
+import dev.morphia.annotations.Handler;
+import dev.morphia.mapping.codec.PackedArrayCodec;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Stores an {@code int[]}, {@code long[]}, {@code double[]}, {@code float[]}, {@code short[]} or {@code boolean[]} field as a single
+ * binary value holding the elements in little endian order instead of as a BSON array.  This is much more compact and faster to encode
+ * for large arrays but the elements can no longer be queried or updated individually.
+ * <p>
+ * Fields can be switched to and from this form without migrating existing documents as both forms are read either way.
+ *
+ * @since 2.1
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+@Handler(PackedArrayCodec.class)
+public @interface Packed {
+}
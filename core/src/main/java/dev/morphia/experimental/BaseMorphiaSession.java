@@ -69,22 +69,38 @@ public abstract class BaseMorphiaSession extends DatastoreImpl implements Morphi
 
     @Override
     public void commitTransaction() {
-        session.commitTransaction();
+        try {
+            session.commitTransaction();
+        } finally {
+            getMapper().getEntityCache().complete(session);
+        }
     }
 
     @Override
     public void abortTransaction() {
-        session.abortTransaction();
+        try {
+            session.abortTransaction();
+        } finally {
+            getMapper().getEntityCache().complete(session);
+        }
     }
 
     @Override
     public <T> T withTransaction(TransactionBody<T> transactionBody) {
-        return session.withTransaction(transactionBody);
+        try {
+            return session.withTransaction(transactionBody);
+        } finally {
+            getMapper().getEntityCache().complete(session);
+        }
     }
 
     @Override
     public <T> T withTransaction(TransactionBody<T> transactionBody, TransactionOptions options) {
-        return session.withTransaction(transactionBody, options);
+        try {
+            return session.withTransaction(transactionBody, options);
+        } finally {
+            getMapper().getEntityCache().complete(session);
+        }
     }
 
     @Override
@@ -140,7 +156,11 @@ public abstract class BaseMorphiaSession extends DatastoreImpl implements Morphi
 
     @Override
     public void close() {
-        session.close();
+        try {
+            session.close();
+        } finally {
+            getMapper().getEntityCache().complete(session);
+        }
     }
 
     /**
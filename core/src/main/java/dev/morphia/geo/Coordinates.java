@@ -0,0 +1,243 @@
+package dev.morphia.geo;
+
+import com.mongodb.client.model.geojson.Position;
+import dev.morphia.sofia.Sofia;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * The positions of a geometry packed into a single {@code double[]}.  Lines, rings and polygons are ranges of positions within it so a
+ * geometry with thousands of vertices costs one array rather than a {@code Point} and a {@code List<Double>} per vertex.
+ *
+ * @morphia.internal
+ * @since 2.1
+ */
+@SuppressWarnings("removal")
+final class Coordinates {
+    private final int dimensions;
+    private final double[] values;
+
+    private Coordinates(int dimensions, double[] values) {
+        this.dimensions = dimensions;
+        this.values = values;
+    }
+
+    static Coordinates of(List<Point> points) {
+        Builder builder = new Builder();
+        for (Point point : points) {
+            builder.add(point.getValues());
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return the number of positions held
+     */
+    int size() {
+        return dimensions == 0 ? 0 : values.length / dimensions;
+    }
+
+    Point point(int position) {
+        int start = position * dimensions;
+        return new Point(Arrays.copyOfRange(values, start, start + dimensions));
+    }
+
+    /**
+     * @return a read only view of the positions in the range as Points
+     */
+    List<Point> points(int from, int to) {
+        return new PointList(from, to);
+    }
+
+    /**
+     * @return a read only view of the lines in the range as LineStrings sharing this buffer
+     * @see Builder#addLines(List)
+     */
+    List<LineString> lines(int[] offsets, int first, int last) {
+        return new LineList(offsets, first, last);
+    }
+
+    List<Position> positions(int from, int to) {
+        List<Position> positions = new ArrayList<>(to - from);
+        for (int position = from; position < to; position++) {
+            int start = position * dimensions;
+            List<Double> list = new ArrayList<>(dimensions);
+            for (int i = start; i < start + dimensions; i++) {
+                list.add(values[i]);
+            }
+            positions.add(new Position(list));
+        }
+        return positions;
+    }
+
+    double get(int position, int axis) {
+        return values[position * dimensions + axis];
+    }
+
+    int dimensions() {
+        return dimensions;
+    }
+
+    boolean rangeEquals(int from, int to, Coordinates other, int otherFrom, int otherTo) {
+        if (to - from != otherTo - otherFrom) {
+            return false;
+        }
+        if (to == from) {
+            return true;
+        }
+        return dimensions == other.dimensions
+               && Arrays.equals(values, from * dimensions, to * dimensions,
+            other.values, otherFrom * other.dimensions, otherTo * other.dimensions);
+    }
+
+    /**
+     * @return the same hash as a {@code List<Point>} holding the positions in the range
+     */
+    int rangeHashCode(int from, int to) {
+        int result = 1;
+        for (int position = from; position < to; position++) {
+            int start = position * dimensions;
+            result = 31 * result + hashCode(values, start, start + dimensions);
+        }
+        return result;
+    }
+
+    /**
+     * @return the same hash as a {@code List<Double>} holding the values in the range
+     */
+    static int hashCode(double[] values, int from, int to) {
+        int result = 1;
+        for (int i = from; i < to; i++) {
+            result = 31 * result + Double.hashCode(values[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Accumulates positions, growing its buffer as needed.  Every position must have as many values as the first one.
+     */
+    static final class Builder {
+        private int dimensions = -1;
+        private double[] values = new double[16];
+        private int length;
+        private int start;
+
+        /**
+         * Adds a value to the position currently being built
+         */
+        void value(double value) {
+            if (length == values.length) {
+                values = Arrays.copyOf(values, length * 2);
+            }
+            values[length++] = value;
+        }
+
+        /**
+         * Completes the position currently being built
+         */
+        void endPosition() {
+            int count = length - start;
+            if (dimensions == -1) {
+                dimensions = count;
+            } else if (count != dimensions) {
+                throw new IllegalArgumentException(Sofia.geojsonMixedDimensions(dimensions, count));
+            }
+            start = length;
+        }
+
+        void add(double[] position) {
+            for (double value : position) {
+                value(value);
+            }
+            endPosition();
+        }
+
+        void add(Coordinates coordinates, int from, int to) {
+            for (int position = from; position < to; position++) {
+                for (int axis = 0; axis < coordinates.dimensions; axis++) {
+                    value(coordinates.get(position, axis));
+                }
+                endPosition();
+            }
+        }
+
+        /**
+         * Adds the positions of each line
+         *
+         * @return the offsets of the lines added.  Line i spans the positions from offsets[i] up to offsets[i + 1].
+         */
+        int[] addLines(List<LineString> lines) {
+            int[] offsets = new int[lines.size() + 1];
+            offsets[0] = size();
+            for (int i = 0; i < lines.size(); i++) {
+                LineString line = lines.get(i);
+                add(line.getBuffer(), line.getFrom(), line.getTo());
+                offsets[i + 1] = size();
+            }
+            return offsets;
+        }
+
+        /**
+         * @return the number of positions completed so far
+         */
+        int size() {
+            return dimensions <= 0 ? 0 : length / dimensions;
+        }
+
+        Coordinates build() {
+            return new Coordinates(Math.max(dimensions, 0), Arrays.copyOf(values, length));
+        }
+    }
+
+    private final class LineList extends AbstractList<LineString> implements RandomAccess {
+        private final int[] offsets;
+        private final int first;
+        private final int last;
+
+        private LineList(int[] offsets, int first, int last) {
+            this.offsets = offsets;
+            this.first = first;
+            this.last = last;
+        }
+
+        @Override
+        public LineString get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+            return new LineString(Coordinates.this, offsets[first + index], offsets[first + index + 1]);
+        }
+
+        @Override
+        public int size() {
+            return last - first;
+        }
+    }
+
+    private final class PointList extends AbstractList<Point> implements RandomAccess {
+        private final int from;
+        private final int to;
+
+        private PointList(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public Point get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+            return point(from + index);
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package dev.morphia.geo;
+
+import dev.morphia.mapping.MappingException;
+import dev.morphia.sofia.Sofia;
+import org.bson.BsonReader;
+import org.bson.BsonReaderMark;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import java.util.Arrays;
+
+/**
+ * Streams the legacy geometry types to and from GeoJSON.  Coordinates are read straight into, and written straight out of, the
+ * {@code double[]} buffers backing each geometry without building a {@code Point} per position.
+ *
+ * @param <T> the geometry type
+ * @morphia.internal
+ * @since 2.1
+ * @deprecated use the driver-provided types instead
+ */
+@SuppressWarnings("removal")
+@Deprecated(since = "2.1", forRemoval = true)
+public class GeometryCodec<T extends Geometry> implements Codec<T> {
+    private static final String TYPE = "type";
+    private static final String COORDINATES = "coordinates";
+
+    private final Class<T> type;
+
+    /**
+     * Creates a codec for a geometry type.  The codec for {@link Geometry} itself handles every {@code Geometry} implementation.
+     * {@link GeometryCollection} is not a {@code Geometry} so a GeoJSON {@code GeometryCollection} is rejected with a
+     * {@link MappingException}.
+     *
+     * @param type the geometry type
+     */
+    public GeometryCodec(Class<T> type) {
+        this.type = type;
+    }
+
+    @Override
+    public T decode(BsonReader reader, DecoderContext decoderContext) {
+        String geometryType = findType(reader);
+        Geometry geometry = null;
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (reader.readName().equals(COORDINATES)) {
+                geometry = readCoordinates(reader, geometryType);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        if (!type.isInstance(geometry)) {
+            throw new MappingException(Sofia.geojsonUnexpectedType(type.getSimpleName(), geometryType));
+        }
+        return type.cast(geometry);
+    }
+
+    @Override
+    public void encode(BsonWriter writer, T value, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        if (value instanceof Point) {
+            writer.writeString(TYPE, "Point");
+            writer.writeName(COORDINATES);
+            writePosition(writer, ((Point) value).getValues());
+        } else if (value instanceof LineString) {
+            LineString lineString = (LineString) value;
+            writer.writeString(TYPE, "LineString");
+            writer.writeName(COORDINATES);
+            writePositions(writer, lineString.getBuffer(), lineString.getFrom(), lineString.getTo());
+        } else if (value instanceof MultiPoint) {
+            Coordinates coordinates = ((MultiPoint) value).getBuffer();
+            writer.writeString(TYPE, "MultiPoint");
+            writer.writeName(COORDINATES);
+            writePositions(writer, coordinates, 0, coordinates.size());
+        } else if (value instanceof Polygon) {
+            Polygon polygon = (Polygon) value;
+            writer.writeString(TYPE, "Polygon");
+            writer.writeName(COORDINATES);
+            writeLines(writer, polygon.getBuffer(), polygon.getRings(), polygon.getFirst(), polygon.getLast());
+        } else if (value instanceof MultiLineString) {
+            MultiLineString multiLineString = (MultiLineString) value;
+            int[] lines = multiLineString.getLines();
+            writer.writeString(TYPE, "MultiLineString");
+            writer.writeName(COORDINATES);
+            writeLines(writer, multiLineString.getBuffer(), lines, 0, lines.length - 1);
+        } else if (value instanceof MultiPolygon) {
+            MultiPolygon multiPolygon = (MultiPolygon) value;
+            int[] polygons = multiPolygon.getPolygons();
+            writer.writeString(TYPE, "MultiPolygon");
+            writer.writeStartArray(COORDINATES);
+            for (int i = 0; i < polygons.length - 1; i++) {
+                writeLines(writer, multiPolygon.getBuffer(), multiPolygon.getRings(), polygons[i], polygons[i + 1]);
+            }
+            writer.writeEndArray();
+        } else {
+            throw new MappingException(Sofia.geojsonUnknownType(value.getClass().getName()));
+        }
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public Class<T> getEncoderClass() {
+        return type;
+    }
+
+    /**
+     * Scans ahead for the type so the coordinates can be read in one pass wherever they appear in the document
+     */
+    private static String findType(BsonReader reader) {
+        BsonReaderMark mark = reader.getMark();
+        String found = null;
+        reader.readStartDocument();
+        while (found == null && reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (reader.readName().equals(TYPE)) {
+                found = reader.readString();
+            } else {
+                reader.skipValue();
+            }
+        }
+        mark.reset();
+        if (found == null) {
+            throw new MappingException(Sofia.cannotFindTypeInDocument());
+        }
+        return found;
+    }
+
+    private static Geometry readCoordinates(BsonReader reader, String geometryType) {
+        Coordinates.Builder builder = new Coordinates.Builder();
+        switch (geometryType) {
+            case "Point":
+                readPosition(reader, builder);
+                return builder.build().point(0);
+            case "LineString":
+                readPositions(reader, builder);
+                return new LineString(builder.build());
+            case "MultiPoint":
+                readPositions(reader, builder);
+                return new MultiPoint(builder.build());
+            case "Polygon": {
+                Offsets rings = new Offsets();
+                readLines(reader, builder, rings);
+                int[] offsets = rings.toArray();
+                return new Polygon(builder.build(), offsets, 0, offsets.length - 1);
+            }
+            case "MultiLineString": {
+                Offsets lines = new Offsets();
+                readLines(reader, builder, lines);
+                return new MultiLineString(builder.build(), lines.toArray());
+            }
+            case "MultiPolygon": {
+                Offsets rings = new Offsets();
+                Offsets polygons = new Offsets();
+                reader.readStartArray();
+                while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                    readLines(reader, builder, rings);
+                    polygons.add(rings.size - 1);
+                }
+                reader.readEndArray();
+                return new MultiPolygon(builder.build(), rings.toArray(), polygons.toArray());
+            }
+            default:
+                throw new MappingException(Sofia.geojsonUnknownType(geometryType));
+        }
+    }
+
+    private static void readLines(BsonReader reader, Coordinates.Builder builder, Offsets offsets) {
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            readPositions(reader, builder);
+            offsets.add(builder.size());
+        }
+        reader.readEndArray();
+    }
+
+    private static void readPositions(BsonReader reader, Coordinates.Builder builder) {
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            readPosition(reader, builder);
+        }
+        reader.readEndArray();
+    }
+
+    private static void readPosition(BsonReader reader, Coordinates.Builder builder) {
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.getCurrentBsonType()) {
+                case INT32:
+                    builder.value(reader.readInt32());
+                    break;
+                case INT64:
+                    builder.value(reader.readInt64());
+                    break;
+                case DECIMAL128:
+                    builder.value(reader.readDecimal128().bigDecimalValue().doubleValue());
+                    break;
+                default:
+                    builder.value(reader.readDouble());
+            }
+        }
+        reader.readEndArray();
+        builder.endPosition();
+    }
+
+    private static void writeLines(BsonWriter writer, Coordinates coordinates, int[] offsets, int first, int last) {
+        writer.writeStartArray();
+        for (int line = first; line < last; line++) {
+            writePositions(writer, coordinates, offsets[line], offsets[line + 1]);
+        }
+        writer.writeEndArray();
+    }
+
+    private static void writePositions(BsonWriter writer, Coordinates coordinates, int from, int to) {
+        writer.writeStartArray();
+        for (int position = from; position < to; position++) {
+            writer.writeStartArray();
+            for (int axis = 0; axis < coordinates.dimensions(); axis++) {
+                writer.writeDouble(coordinates.get(position, axis));
+            }
+            writer.writeEndArray();
+        }
+        writer.writeEndArray();
+    }
+
+    private static void writePosition(BsonWriter writer, double[] values) {
+        writer.writeStartArray();
+        for (double value : values) {
+            writer.writeDouble(value);
+        }
+        writer.writeEndArray();
+    }
+
+    /**
+     * A growable list of offsets starting with 0
+     */
+    private static final class Offsets {
+        private int[] values = new int[8];
+        private int size = 1;
+
+        void add(int offset) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = offset;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -1,9 +1,5 @@
 package dev.morphia.geo;
 
-import dev.morphia.annotations.Id;
-import org.bson.types.ObjectId;
-
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -20,31 +16,51 @@ import java.util.List;
 @SuppressWarnings("removal")
 @Deprecated(since = "2.0", forRemoval = true)
 public class LineString implements Geometry {
-    @Id
-    private ObjectId id;
-    private final List<Point> coordinates;
-
-    @SuppressWarnings("UnusedDeclaration") // used by Morphia
-    private LineString() {
-        coordinates = new ArrayList<Point>();
-    }
+    private final Coordinates coordinates;
+    private final int from;
+    private final int to;
 
     LineString(Point... points) {
-        this.coordinates = Arrays.asList(points);
+        this(Arrays.asList(points));
     }
 
     LineString(List<Point> points) {
-        coordinates = points;
+        this(Coordinates.of(points));
+    }
+
+    LineString(Coordinates coordinates) {
+        this(coordinates, 0, coordinates.size());
+    }
+
+    /**
+     * Creates a view of a range of positions in a buffer shared with an enclosing geometry
+     */
+    LineString(Coordinates coordinates, int from, int to) {
+        this.coordinates = coordinates;
+        this.from = from;
+        this.to = to;
     }
 
     @Override
     public List<Point> getCoordinates() {
+        return coordinates.points(from, to);
+    }
+
+    Coordinates getBuffer() {
         return coordinates;
     }
 
+    int getFrom() {
+        return from;
+    }
+
+    int getTo() {
+        return to;
+    }
+
     @Override
     public int hashCode() {
-        return coordinates.hashCode();
+        return coordinates.rangeHashCode(from, to);
     }
 
     /* equals, hashCode and toString. Useful primarily for testing and debugging. Don't forget to re-create when changing this class */
@@ -59,13 +75,13 @@ public class LineString implements Geometry {
 
         LineString that = (LineString) o;
 
-        return coordinates.equals(that.coordinates);
+        return coordinates.rangeEquals(from, to, that.coordinates, that.from, that.to);
     }
 
     @Override
     public String toString() {
         return "LineString{"
-               + "coordinates=" + coordinates
+               + "coordinates=" + getCoordinates()
                + '}';
     }
 
@@ -76,6 +92,6 @@ public class LineString implements Geometry {
 
     @Override
     public com.mongodb.client.model.geojson.LineString convert(CoordinateReferenceSystem crs) {
-        return new com.mongodb.client.model.geojson.LineString(crs != null ? crs.convert() : null, GeoJson.convertPoints(coordinates));
+        return new com.mongodb.client.model.geojson.LineString(crs != null ? crs.convert() : null, coordinates.positions(from, to));
     }
 }
@@ -1,7 +1,6 @@
 package dev.morphia.geo;
 
-import dev.morphia.annotations.Id;
-import org.bson.types.ObjectId;
+import com.mongodb.client.model.geojson.Position;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -20,31 +19,48 @@ import java.util.List;
 @SuppressWarnings("removal")
 @Deprecated(since = "2.0", forRemoval = true)
 public class MultiLineString implements Geometry {
-    @Id
-    private ObjectId id;
-    private final List<LineString> coordinates;
+    private final Coordinates coordinates;
+    private final int[] lines;
 
-    @SuppressWarnings("UnusedDeclaration") // needed for Morphia
-    private MultiLineString() {
-        this.coordinates = new ArrayList<LineString>();
+    MultiLineString(LineString... lineStrings) {
+        this(Arrays.asList(lineStrings));
     }
 
-    MultiLineString(LineString... lineStrings) {
-        coordinates = Arrays.asList(lineStrings);
+    MultiLineString(List<LineString> lineStrings) {
+        Coordinates.Builder builder = new Coordinates.Builder();
+        lines = builder.addLines(lineStrings);
+        coordinates = builder.build();
     }
 
-    MultiLineString(List<LineString> coordinates) {
+    /**
+     * @param coordinates the positions of every line
+     * @param lines       the offsets of the lines.  Line i spans the positions from lines[i] up to lines[i + 1].
+     */
+    MultiLineString(Coordinates coordinates, int[] lines) {
         this.coordinates = coordinates;
+        this.lines = lines;
     }
 
     @Override
     public List<LineString> getCoordinates() {
+        return coordinates.lines(lines, 0, lines.length - 1);
+    }
+
+    Coordinates getBuffer() {
         return coordinates;
     }
 
+    int[] getLines() {
+        return lines;
+    }
+
     @Override
     public int hashCode() {
-        return coordinates.hashCode();
+        int result = 1;
+        for (int line = 0; line < lines.length - 1; line++) {
+            result = 31 * result + coordinates.rangeHashCode(lines[line], lines[line + 1]);
+        }
+        return result;
     }
 
     /* equals, hashCode and toString. Useful primarily for testing and debugging. Don't forget to re-create when changing this class */
@@ -59,13 +75,21 @@ public class MultiLineString implements Geometry {
 
         MultiLineString that = (MultiLineString) o;
 
-        return coordinates.equals(that.coordinates);
+        if (lines.length != that.lines.length) {
+            return false;
+        }
+        for (int line = 0; line < lines.length - 1; line++) {
+            if (!coordinates.rangeEquals(lines[line], lines[line + 1], that.coordinates, that.lines[line], that.lines[line + 1])) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public String toString() {
         return "MultiLineString{"
-               + "coordinates=" + coordinates
+               + "coordinates=" + getCoordinates()
                + '}';
     }
 
@@ -77,6 +101,14 @@ public class MultiLineString implements Geometry {
     @Override
     public com.mongodb.client.model.geojson.MultiLineString convert(CoordinateReferenceSystem crs) {
         return new com.mongodb.client.model.geojson.MultiLineString(crs != null ? crs.convert() : null,
-            GeoJson.convertLineStrings(coordinates));
+            convertCoordinates());
+    }
+
+    private List<List<Position>> convertCoordinates() {
+        List<List<Position>> positions = new ArrayList<>(lines.length - 1);
+        for (int line = 0; line < lines.length - 1; line++) {
+            positions.add(coordinates.positions(lines[line], lines[line + 1]));
+        }
+        return positions;
     }
 }
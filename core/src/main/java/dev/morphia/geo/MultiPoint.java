@@ -1,9 +1,5 @@
 package dev.morphia.geo;
 
-import dev.morphia.annotations.Id;
-import org.bson.types.ObjectId;
-
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -19,31 +15,32 @@ import java.util.List;
 @SuppressWarnings("removal")
 @Deprecated(since = "2.0", forRemoval = true)
 public class MultiPoint implements Geometry {
-    @Id
-    private ObjectId id;
-    private final List<Point> coordinates;
+    private final Coordinates coordinates;
 
-    @SuppressWarnings("UnusedDeclaration") // used by Morphia
-    private MultiPoint() {
-        this.coordinates = new ArrayList<Point>();
+    MultiPoint(Point... points) {
+        this(Arrays.asList(points));
     }
 
-    MultiPoint(Point... points) {
-        this.coordinates = Arrays.asList(points);
+    MultiPoint(List<Point> points) {
+        this(Coordinates.of(points));
     }
 
-    MultiPoint(List<Point> coordinates) {
+    MultiPoint(Coordinates coordinates) {
         this.coordinates = coordinates;
     }
 
     @Override
     public List<Point> getCoordinates() {
+        return coordinates.points(0, coordinates.size());
+    }
+
+    Coordinates getBuffer() {
         return coordinates;
     }
 
     @Override
     public int hashCode() {
-        return coordinates.hashCode();
+        return coordinates.rangeHashCode(0, coordinates.size());
     }
 
     /* equals, hashCode and toString. Useful primarily for testing and debugging. Don't forget to re-create when changing this class */
@@ -58,13 +55,13 @@ public class MultiPoint implements Geometry {
 
         MultiPoint that = (MultiPoint) o;
 
-        return coordinates.equals(that.coordinates);
+        return coordinates.rangeEquals(0, coordinates.size(), that.coordinates, 0, that.coordinates.size());
     }
 
     @Override
     public String toString() {
         return "MultiPoint{"
-               + "coordinates=" + coordinates
+               + "coordinates=" + getCoordinates()
                + '}';
     }
 
@@ -76,6 +73,6 @@ public class MultiPoint implements Geometry {
     @Override
     public com.mongodb.client.model.geojson.MultiPoint convert(CoordinateReferenceSystem crs) {
         return new com.mongodb.client.model.geojson.MultiPoint(crs != null ? crs.convert() : null,
-            GeoJson.convertPoints(coordinates));
+            coordinates.positions(0, coordinates.size()));
     }
 }
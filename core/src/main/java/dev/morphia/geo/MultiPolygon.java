@@ -2,9 +2,11 @@ package dev.morphia.geo;
 
 import com.mongodb.client.model.geojson.PolygonCoordinates;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.RandomAccess;
 
 /**
  * This class represents a set of polygons, which will saved into MongoDB as per the <a href="http://geojson.org/geojson-spec
@@ -19,29 +21,57 @@ import java.util.List;
 @SuppressWarnings("removal")
 @Deprecated(since = "2.0", forRemoval = true)
 public class MultiPolygon implements Geometry {
-    private final List<Polygon> coordinates;
-
-    @SuppressWarnings("UnusedDeclaration") // used by Morphia
-    private MultiPolygon() {
-        coordinates = new ArrayList<Polygon>();
-    }
+    private final Coordinates coordinates;
+    private final int[] rings;
+    private final int[] polygons;
 
     MultiPolygon(Polygon... polygons) {
-        coordinates = Arrays.asList(polygons);
+        this(Arrays.asList(polygons));
     }
 
     MultiPolygon(List<Polygon> polygons) {
-        coordinates = polygons;
+        Coordinates.Builder builder = new Coordinates.Builder();
+        List<LineString> boundaries = new ArrayList<>();
+        this.polygons = new int[polygons.size() + 1];
+        for (int i = 0; i < polygons.size(); i++) {
+            boundaries.addAll(polygons.get(i).getCoordinates());
+            this.polygons[i + 1] = boundaries.size();
+        }
+        rings = builder.addLines(boundaries);
+        coordinates = builder.build();
+    }
+
+    /**
+     * @param coordinates the positions of every ring of every polygon
+     * @param rings       the offsets of the rings.  Ring i spans the positions from rings[i] up to rings[i + 1].
+     * @param polygons    the offsets of the polygons.  Polygon i is made of the rings from polygons[i] up to polygons[i + 1].
+     */
+    MultiPolygon(Coordinates coordinates, int[] rings, int[] polygons) {
+        this.coordinates = coordinates;
+        this.rings = rings;
+        this.polygons = polygons;
     }
 
     @Override
     public List<Polygon> getCoordinates() {
+        return new PolygonList();
+    }
+
+    Coordinates getBuffer() {
         return coordinates;
     }
 
+    int[] getRings() {
+        return rings;
+    }
+
+    int[] getPolygons() {
+        return polygons;
+    }
+
     @Override
     public int hashCode() {
-        return coordinates.hashCode();
+        return getCoordinates().hashCode();
     }
 
     /* equals, hashCode and toString. Useful primarily for testing and debugging. Don't forget to re-create when changing this class */
@@ -56,13 +86,13 @@ public class MultiPolygon implements Geometry {
 
         MultiPolygon that = (MultiPolygon) o;
 
-        return coordinates.equals(that.coordinates);
+        return getCoordinates().equals(that.getCoordinates());
     }
 
     @Override
     public String toString() {
         return "MultiPolygon{"
-               + "coordinates=" + coordinates
+               + "coordinates=" + getCoordinates()
                + '}';
     }
 
@@ -74,9 +104,24 @@ public class MultiPolygon implements Geometry {
     @Override
     public com.mongodb.client.model.geojson.MultiPolygon convert(CoordinateReferenceSystem crs) {
         List<PolygonCoordinates> coords = new ArrayList<PolygonCoordinates>();
-        for (Polygon list : coordinates) {
-            coords.add(list.convert(crs).getCoordinates());
+        for (Polygon polygon : getCoordinates()) {
+            coords.add(polygon.convertCoordinates());
         }
         return new com.mongodb.client.model.geojson.MultiPolygon(crs != null ? crs.convert() : null, coords);
     }
+
+    private final class PolygonList extends AbstractList<Polygon> implements RandomAccess {
+        @Override
+        public Polygon get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+            return new Polygon(coordinates, rings, polygons[index], polygons[index + 1]);
+        }
+
+        @Override
+        public int size() {
+            return polygons.length - 1;
+        }
+    }
 }
@@ -2,8 +2,10 @@ package dev.morphia.geo;
 
 import com.mongodb.client.model.geojson.Position;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.RandomAccess;
 
 /**
  * Represents a GeoJSON Point type.  Will be persisted into the database according to <a href="http://geojson.org/geojson-spec.html#id2">the
@@ -16,19 +18,36 @@ import java.util.List;
 @SuppressWarnings("removal")
 @Deprecated(since = "2.0", forRemoval = true)
 public class Point implements Geometry {
-    private final List<Double> coordinates = new ArrayList<Double>();
+    private final double[] coordinates;
 
     Point(double latitude, double longitude) {
-        coordinates.add(longitude);
-        coordinates.add(latitude);
+        coordinates = new double[]{longitude, latitude};
     }
 
     Point(List<Double> coordinates) {
-        this.coordinates.addAll(coordinates);
+        this.coordinates = new double[coordinates.size()];
+        for (int i = 0; i < this.coordinates.length; i++) {
+            this.coordinates[i] = coordinates.get(i);
+        }
+    }
+
+    Point(double[] coordinates) {
+        this.coordinates = coordinates;
     }
 
+    /**
+     * Returns a fixed-size view of this Point's values.  Values replaced through {@link List#set(int, Object)} are written to the Point.
+     * Unlike the list returned before 2.1, values can not be added or removed and any attempt throws
+     * {@link UnsupportedOperationException}.
+     *
+     * @return a view of this Point's values
+     */
     @Override
     public List<Double> getCoordinates() {
+        return new CoordinateList();
+    }
+
+    double[] getValues() {
         return coordinates;
     }
 
@@ -38,7 +57,7 @@ public class Point implements Geometry {
      * @return the Point's latitude
      */
     public double getLatitude() {
-        return coordinates.get(1);
+        return coordinates[1];
     }
 
     /**
@@ -47,12 +66,12 @@ public class Point implements Geometry {
      * @return the Point's longitude
      */
     public double getLongitude() {
-        return coordinates.get(0);
+        return coordinates[0];
     }
 
     @Override
     public int hashCode() {
-        return coordinates.hashCode();
+        return Coordinates.hashCode(coordinates, 0, coordinates.length);
     }
 
     /* equals, hashCode and toString. Useful primarily for testing and debugging. Don't forget to re-create when changing this class */
@@ -67,22 +86,12 @@ public class Point implements Geometry {
 
         Point point = (Point) o;
 
-        if (getCoordinates().size() != point.getCoordinates().size()) {
-            return false;
-        }
-        for (int i = 0; i < coordinates.size(); i++) {
-            final Double coordinate = coordinates.get(i);
-            if (Double.compare(coordinate, point.getCoordinates().get(i)) != 0) {
-                return false;
-            }
-        }
-
-        return true;
+        return Arrays.equals(coordinates, point.coordinates);
     }
 
     @Override
     public String toString() {
-        return String.format("Point{coordinates=%s}", coordinates);
+        return String.format("Point{coordinates=%s}", Arrays.toString(coordinates));
     }
 
     /**
@@ -102,4 +111,23 @@ public class Point implements Geometry {
     public com.mongodb.client.model.geojson.Point convert(CoordinateReferenceSystem crs) {
         return new com.mongodb.client.model.geojson.Point(crs != null ? crs.convert() : null, new Position(getLongitude(), getLatitude()));
     }
+
+    private final class CoordinateList extends AbstractList<Double> implements RandomAccess {
+        @Override
+        public Double get(int index) {
+            return coordinates[index];
+        }
+
+        @Override
+        public Double set(int index, Double element) {
+            double previous = coordinates[index];
+            coordinates[index] = element;
+            return previous;
+        }
+
+        @Override
+        public int size() {
+            return coordinates.length;
+        }
+    }
 }
@@ -2,12 +2,9 @@ package dev.morphia.geo;
 
 import com.mongodb.client.model.geojson.PolygonCoordinates;
 import com.mongodb.client.model.geojson.Position;
-import dev.morphia.annotations.Id;
-import org.bson.types.ObjectId;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 
 /**
@@ -25,37 +22,67 @@ import java.util.List;
 @SuppressWarnings("removal")
 @Deprecated(since = "2.0", forRemoval = true)
 public class Polygon implements Geometry {
-    @Id
-    private ObjectId id;
-    private final LineString exteriorBoundary;
-    private final List<LineString> interiorBoundaries;
-
-    @SuppressWarnings("UnusedDeclaration") // used by Morphia
-    private Polygon() {
-        exteriorBoundary = null;
-        interiorBoundaries = new ArrayList<LineString>();
-    }
+    private final Coordinates coordinates;
+    private final int[] rings;
+    private final int first;
+    private final int last;
 
     Polygon(LineString exteriorBoundary, LineString... interiorBoundaries) {
-        this.exteriorBoundary = exteriorBoundary;
-        this.interiorBoundaries = Arrays.asList(interiorBoundaries);
+        this(boundaries(exteriorBoundary, interiorBoundaries));
     }
 
     Polygon(List<LineString> boundaries) {
-        exteriorBoundary = boundaries.get(0);
-        if (boundaries.size() > 1) {
-            interiorBoundaries = boundaries.subList(1, boundaries.size());
-        } else {
-            interiorBoundaries = new ArrayList<LineString>();
+        if (boundaries.isEmpty()) {
+            throw new IndexOutOfBoundsException("A polygon requires an exterior boundary");
         }
+        Coordinates.Builder builder = new Coordinates.Builder();
+        rings = builder.addLines(boundaries);
+        coordinates = builder.build();
+        first = 0;
+        last = boundaries.size();
+    }
+
+    /**
+     * Creates a view of a polygon whose rings are held in a buffer shared with an enclosing geometry.
+     *
+     * @param coordinates the shared buffer
+     * @param rings       the offsets of every ring in the buffer
+     * @param first       the index of this polygon's exterior ring
+     * @param last        one past the index of this polygon's last interior ring
+     */
+    Polygon(Coordinates coordinates, int[] rings, int first, int last) {
+        this.coordinates = coordinates;
+        this.rings = rings;
+        this.first = first;
+        this.last = last;
+    }
+
+    private static List<LineString> boundaries(LineString exteriorBoundary, LineString... interiorBoundaries) {
+        List<LineString> boundaries = new ArrayList<>(interiorBoundaries.length + 1);
+        boundaries.add(exteriorBoundary);
+        boundaries.addAll(Arrays.asList(interiorBoundaries));
+        return boundaries;
     }
 
     @Override
     public List<LineString> getCoordinates() {
-        List<LineString> polygonBoundaries = new ArrayList<LineString>();
-        polygonBoundaries.add(exteriorBoundary);
-        polygonBoundaries.addAll(interiorBoundaries);
-        return polygonBoundaries;
+        return coordinates.lines(rings, first, last);
+    }
+
+    Coordinates getBuffer() {
+        return coordinates;
+    }
+
+    int[] getRings() {
+        return rings;
+    }
+
+    int getFirst() {
+        return first;
+    }
+
+    int getLast() {
+        return last;
     }
 
     /**
@@ -65,7 +92,7 @@ public class Polygon implements Geometry {
      * @return a LineString containing the points that make up the external boundary of this Polygon.
      */
     public LineString getExteriorBoundary() {
-        return exteriorBoundary;
+        return new LineString(coordinates, rings[first], rings[first + 1]);
     }
 
     /**
@@ -74,13 +101,15 @@ public class Polygon implements Geometry {
      * @return a List of LineStrings where each LineString represents an internal boundary or hole.
      */
     public List<LineString> getInteriorBoundaries() {
-        return Collections.unmodifiableList(interiorBoundaries);
+        return coordinates.lines(rings, first + 1, last);
     }
 
     @Override
     public int hashCode() {
-        int result = exteriorBoundary.hashCode();
-        result = 31 * result + interiorBoundaries.hashCode();
+        int result = 1;
+        for (int ring = first; ring < last; ring++) {
+            result = 31 * result + coordinates.rangeHashCode(rings[ring], rings[ring + 1]);
+        }
         return result;
     }
 
@@ -96,17 +125,25 @@ public class Polygon implements Geometry {
 
         Polygon polygon = (Polygon) o;
 
-        if (!exteriorBoundary.equals(polygon.exteriorBoundary)) {
+        if (last - first != polygon.last - polygon.first) {
             return false;
         }
-        return interiorBoundaries.equals(polygon.interiorBoundaries);
+        for (int i = 0; i < last - first; i++) {
+            int ring = first + i;
+            int other = polygon.first + i;
+            if (!coordinates.rangeEquals(rings[ring], rings[ring + 1],
+                polygon.coordinates, polygon.rings[other], polygon.rings[other + 1])) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public String toString() {
         return "Polygon{"
-               + "exteriorBoundary=" + exteriorBoundary
-               + ", interiorBoundaries=" + interiorBoundaries
+               + "exteriorBoundary=" + getExteriorBoundary()
+               + ", interiorBoundaries=" + getInteriorBoundaries()
                + '}';
     }
 
@@ -116,11 +153,17 @@ public class Polygon implements Geometry {
     }
 
     @Override
-    @SuppressWarnings({"unchecked"})
     public com.mongodb.client.model.geojson.Polygon convert(CoordinateReferenceSystem crs) {
-        final List<List<Position>> lists = GeoJson.convertLineStrings(interiorBoundaries);
-        final List[] holeArray = lists.toArray(new List[0]);
-        return new com.mongodb.client.model.geojson.Polygon(crs != null ? crs.convert() : null,
-            new PolygonCoordinates(exteriorBoundary.convert().getCoordinates(), holeArray));
+        return new com.mongodb.client.model.geojson.Polygon(crs != null ? crs.convert() : null, convertCoordinates());
+    }
+
+    @SuppressWarnings({"unchecked"})
+    PolygonCoordinates convertCoordinates() {
+        final List[] holeArray = new List[last - first - 1];
+        for (int i = 0; i < holeArray.length; i++) {
+            holeArray[i] = coordinates.positions(rings[first + i + 1], rings[first + i + 2]);
+        }
+        final List<Position> exterior = coordinates.positions(rings[first], rings[first + 1]);
+        return new PolygonCoordinates(exterior, holeArray);
     }
 }
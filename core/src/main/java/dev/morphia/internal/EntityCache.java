@@ -0,0 +1,310 @@
+package dev.morphia.internal;
+
+import com.mongodb.client.ClientSession;
+import dev.morphia.CacheStatistics;
+import dev.morphia.annotations.experimental.Cached;
+import dev.morphia.mapping.MappedClass;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.MappingException;
+import dev.morphia.sofia.Sofia;
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.conversions.Bson;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds the encoded documents of recently loaded {@link Cached cached} entities, one region per collection.  Each region evicts its least
+ * recently used entries to stay within its bounds.
+ * <p>
+ * Every invalidation advances the region's generation.  A lookup missing the cache notes the generation before it queries and the
+ * documents it loads are only kept if no invalidation happened in the meantime, so a read racing a write can never cache what the write
+ * replaced.  Writes made in a transaction are invalidated again once the session completes since other sessions could have cached the
+ * documents they replace before the commit.
+ *
+ * @morphia.internal
+ * @since 2.1
+ */
+public class EntityCache {
+    private static final String ID = "_id";
+
+    private final Mapper mapper;
+    private final Map<String, Region> regions = new ConcurrentHashMap<>();
+    private final Map<ClientSession, Set<String>> transactions = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Creates a cache
+     *
+     * @param mapper the mapper
+     */
+    public EntityCache(Mapper mapper) {
+        this.mapper = mapper;
+    }
+
+    /**
+     * Lists the IDs a filter selects if it filters on nothing but {@code _id}, with a literal value, {@code $eq} or {@code $in}.
+     *
+     * @param filter the filter
+     * @return the distinct IDs or null if the filter selects anything else
+     */
+    public List<BsonValue> ids(Bson filter) {
+        BsonDocument document = filter.toBsonDocument(BsonDocument.class, mapper.getCodecRegistry());
+        BsonValue value = document.size() == 1 ? document.get(ID) : null;
+        if (value == null) {
+            return null;
+        }
+        if (value.isDocument() && !value.asDocument().isEmpty() && value.asDocument().getFirstKey().startsWith("$")) {
+            BsonDocument condition = value.asDocument();
+            String operator = condition.getFirstKey();
+            if (condition.size() != 1) {
+                return null;
+            } else if (operator.equals("$eq")) {
+                value = condition.get(operator);
+            } else if (operator.equals("$in") && condition.get(operator).isArray()) {
+                Map<BsonValue, BsonValue> ids = new LinkedHashMap<>();
+                for (BsonValue id : condition.getArray(operator)) {
+                    if (!isLiteral(id)) {
+                        return null;
+                    }
+                    ids.putIfAbsent(key(id), id);
+                }
+                return new ArrayList<>(ids.values());
+            } else {
+                return null;
+            }
+        }
+        return isLiteral(value) ? List.of(value) : null;
+    }
+
+    /**
+     * Finds the region caching a type.  Every type cached in a collection shares its region so they must all be cached with the same
+     * settings.
+     *
+     * @param mappedClass the type
+     * @param collection  the collection the type is read from
+     * @return the region or null if the type is not cached
+     * @throws MappingException if another type is cached in the collection with different settings
+     */
+    public Region getRegion(MappedClass mappedClass, String collection) {
+        Cached cached = mappedClass != null ? mappedClass.getAnnotation(Cached.class) : null;
+        if (cached == null || collection == null) {
+            return null;
+        }
+        Region region = regions.computeIfAbsent(collection, c -> new Region(cached));
+        if (!region.cached.equals(cached)) {
+            throw new MappingException(Sofia.conflictingCacheSettings(mappedClass.getType().getName(), collection));
+        }
+        return region;
+    }
+
+    /**
+     * @param mappedClass the type
+     * @return the statistics of the region caching the type or null if the type is not cached
+     */
+    public CacheStatistics getStatistics(MappedClass mappedClass) {
+        Region region = mappedClass != null ? getRegion(mappedClass, mappedClass.getCollectionName()) : null;
+        return region != null ? region.getStatistics() : null;
+    }
+
+    /**
+     * Removes the entries a write may have changed.
+     *
+     * @param collection the collection written to
+     * @param filter     the filter of the write
+     * @param session    the session the write was made in or null
+     */
+    public void invalidate(String collection, Bson filter, ClientSession session) {
+        if (collection == null) {
+            return;
+        }
+        if (session != null && session.hasActiveTransaction()) {
+            transactions.computeIfAbsent(session, s -> ConcurrentHashMap.newKeySet()).add(collection);
+        }
+        Region region = regions.get(collection);
+        if (region != null) {
+            List<BsonValue> ids = ids(filter);
+            if (ids != null) {
+                region.invalidate(ids);
+            } else {
+                region.invalidateAll();
+            }
+        }
+    }
+
+    /**
+     * Removes the entry for an entity that was written.
+     *
+     * @param collection the collection written to
+     * @param id         the ID of the entity or null if it has none
+     * @param session    the session the write was made in or null
+     */
+    public void invalidateId(String collection, Object id, ClientSession session) {
+        if (id != null) {
+            invalidate(collection, new Document(ID, id), session);
+        }
+    }
+
+    /**
+     * Empties the regions of every collection written to in a session's transactions.  Called once a transaction commits or aborts.
+     *
+     * @param session the session
+     */
+    public void complete(ClientSession session) {
+        Set<String> collections = transactions.remove(session);
+        if (collections != null) {
+            for (String collection : collections) {
+                Region region = regions.get(collection);
+                if (region != null) {
+                    region.invalidateAll();
+                }
+            }
+        }
+    }
+
+    private static boolean isLiteral(BsonValue value) {
+        return !value.isRegularExpression() && !value.isArray() && !value.isNull();
+    }
+
+    /**
+     * The server compares numbers by value whatever their type so integral IDs share one representation.
+     */
+    private static BsonValue key(BsonValue id) {
+        if (id.isInt32()) {
+            return new BsonInt64(id.asInt32().getValue());
+        } else if (id.isDouble()) {
+            double value = id.asDouble().getValue();
+            if (value == Math.rint(value) && Math.abs(value) < 0x1p63) {
+                return new BsonInt64((long) value);
+            }
+        }
+        return id;
+    }
+
+    /**
+     * The cached documents of one collection.
+     *
+     * @morphia.internal
+     */
+    public static final class Region {
+        private final Cached cached;
+        private final long maxEntries;
+        private final long maxBytes;
+        private final long expireAfterNanos;
+        private final LinkedHashMap<BsonValue, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private long bytes;
+        private long generation;
+        private long hits;
+        private long misses;
+        private long evictions;
+        private long invalidations;
+
+        private Region(Cached cached) {
+            this.cached = cached;
+            maxEntries = cached.maxEntries();
+            maxBytes = cached.maxBytes();
+            expireAfterNanos = TimeUnit.SECONDS.toNanos(cached.expireAfterSeconds());
+        }
+
+        /**
+         * @return the current generation to pass to {@link #put(RawBsonDocument, long)}
+         */
+        public synchronized long stamp() {
+            return generation;
+        }
+
+        /**
+         * @param id the ID
+         * @return the cached document or null
+         */
+        public synchronized RawBsonDocument get(BsonValue id) {
+            BsonValue key = key(id);
+            Entry entry = entries.get(key);
+            if (entry != null && expireAfterNanos > 0 && System.nanoTime() - entry.loaded >= expireAfterNanos) {
+                remove(key);
+                evictions++;
+                entry = null;
+            }
+            if (entry == null) {
+                misses++;
+                return null;
+            }
+            hits++;
+            return entry.document;
+        }
+
+        /**
+         * Caches a loaded document unless the region was invalidated since the load began
+         *
+         * @param document the document
+         * @param stamp    the generation noted before the load
+         */
+        public synchronized void put(RawBsonDocument document, long stamp) {
+            long size = document.getByteBuffer().remaining();
+            BsonValue id = document.get(ID);
+            if (stamp != generation || id == null || maxBytes > 0 && size > maxBytes) {
+                return;
+            }
+            Entry previous = entries.put(key(id), new Entry(document, size, System.nanoTime()));
+            bytes += size - (previous != null ? previous.size : 0);
+
+            Iterator<Entry> eldest = entries.values().iterator();
+            while ((maxEntries > 0 && entries.size() > maxEntries || maxBytes > 0 && bytes > maxBytes) && eldest.hasNext()) {
+                bytes -= eldest.next().size;
+                eldest.remove();
+                evictions++;
+            }
+        }
+
+        synchronized void invalidate(List<BsonValue> ids) {
+            generation++;
+            for (BsonValue id : ids) {
+                if (remove(key(id))) {
+                    invalidations++;
+                }
+            }
+        }
+
+        synchronized void invalidateAll() {
+            generation++;
+            invalidations += entries.size();
+            entries.clear();
+            bytes = 0;
+        }
+
+        synchronized CacheStatistics getStatistics() {
+            return new CacheStatistics(hits, misses, evictions, invalidations, entries.size(), bytes);
+        }
+
+        private boolean remove(BsonValue key) {
+            Entry entry = entries.remove(key);
+            if (entry != null) {
+                bytes -= entry.size;
+            }
+            return entry != null;
+        }
+    }
+
+    private static final class Entry {
+        private final RawBsonDocument document;
+        private final long size;
+        private final long loaded;
+
+        private Entry(RawBsonDocument document, long size, long loaded) {
+            this.document = document;
+            this.size = size;
+            this.loaded = loaded;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package dev.morphia.internal;
+
+import dev.morphia.mapping.MappedClass;
+import dev.morphia.mapping.codec.pojo.FieldModel;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the resolution of paths against mapped types so that repeated query and update shapes do not have to parse and walk the
+ * model again.  Resolutions only depend on the mapped model so the cache is cleared whenever a new type is mapped.  Paths which fail
+ * validation are never cached.
+ *
+ * @morphia.internal
+ * @since 2.1
+ */
+public class PathCache {
+    private final Map<Key, Resolution> resolutions = new ConcurrentHashMap<>();
+    private final int maximumSize;
+
+    /**
+     * Creates a new cache
+     *
+     * @param maximumSize the maximum number of resolutions to retain
+     */
+    public PathCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("The maximum size must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Removes all the cached resolutions
+     */
+    public void clear() {
+        resolutions.clear();
+    }
+
+    /**
+     * @return the number of resolutions currently cached
+     */
+    public int size() {
+        return resolutions.size();
+    }
+
+    Resolution get(MappedClass root, String path, boolean validateNames) {
+        return resolutions.get(new Key(root, path, validateNames));
+    }
+
+    void put(MappedClass root, String path, boolean validateNames, Resolution resolution) {
+        if (resolutions.size() >= maximumSize) {
+            // shed an arbitrary tenth of the entries rather than tracking recency on every hit
+            Iterator<Key> iterator = resolutions.keySet().iterator();
+            for (int count = Math.max(1, maximumSize / 10); count > 0 && iterator.hasNext(); count--) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        resolutions.put(new Key(root, path, validateNames), resolution);
+    }
+
+    static final class Resolution {
+        private final String translatedPath;
+        private final FieldModel target;
+
+        Resolution(String translatedPath, FieldModel target) {
+            this.translatedPath = translatedPath;
+            this.target = target;
+        }
+
+        String getTranslatedPath() {
+            return translatedPath;
+        }
+
+        FieldModel getTarget() {
+            return target;
+        }
+    }
+
+    private static final class Key {
+        private final MappedClass root;
+        private final String path;
+        private final boolean validateNames;
+        private final int hash;
+
+        private Key(MappedClass root, String path, boolean validateNames) {
+            this.root = root;
+            this.path = path;
+            this.validateNames = validateNames;
+            hash = Objects.hash(System.identityHashCode(root), path, validateNames);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) o;
+            return root == that.root && validateNames == that.validateNames && path.equals(that.path);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
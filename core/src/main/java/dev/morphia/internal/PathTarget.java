@@ -16,6 +16,7 @@
 
 package dev.morphia.internal;
 
+import dev.morphia.internal.PathCache.Resolution;
 import dev.morphia.mapping.MappedClass;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.FieldModel;
@@ -24,7 +25,6 @@ import dev.morphia.sofia.Sofia;
 
 import java.util.Iterator;
 import java.util.List;
-import java.util.StringJoiner;
 
 import static java.util.Arrays.asList;
 
@@ -33,12 +33,14 @@ import static java.util.Arrays.asList;
  * @since 1.3
  */
 public class PathTarget {
-    private final List<String> segments;
+    private final String path;
     private final boolean validateNames;
+    private List<String> segments;
     private int position;
     private final Mapper mapper;
     private MappedClass context;
     private final MappedClass root;
+    private String translatedPath;
     private FieldModel target;
     private boolean resolved;
 
@@ -62,11 +64,14 @@ public class PathTarget {
      * @param validateNames true if names should be validated
      */
     public PathTarget(Mapper mapper, MappedClass root, String path, boolean validateNames) {
-        segments = asList(path.split("\\."));
+        this.path = path;
         this.root = root;
         this.mapper = mapper;
         this.validateNames = validateNames;
-        resolved = path.startsWith("$");
+        if (path.startsWith("$")) {
+            translatedPath = path;
+            resolved = true;
+        }
     }
 
     /**
@@ -103,9 +108,7 @@ public class PathTarget {
         if (!resolved) {
             resolve();
         }
-        StringJoiner joiner = new StringJoiner(".");
-        segments.forEach(s -> joiner.add(s));
-        return joiner.toString();
+        return translatedPath;
     }
 
     /**
@@ -122,14 +125,42 @@ public class PathTarget {
 
     @Override
     public String toString() {
-        return String.format("PathTarget{root=%s, segments=%s, target=%s}", root.getType().getSimpleName(), segments, target);
+        return String.format("PathTarget{root=%s, path=%s, target=%s}", root.getType().getSimpleName(),
+            translatedPath != null ? translatedPath : path, target);
     }
 
     private boolean hasNext() {
         return position < segments.size();
     }
 
+    private static boolean isArrayOperator(String segment) {
+        if ("$".equals(segment) || (segment.startsWith("$[") && segment.endsWith("]"))) {
+            return true;
+        }
+        for (int i = 0; i < segment.length(); i++) {
+            char c = segment.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return !segment.isEmpty();
+    }
+
     private void resolve() {
+        PathCache cache = mapper.getPathCache();
+        Resolution resolution = cache.get(root, path, validateNames);
+        if (resolution == null) {
+            walk();
+            cache.put(root, path, validateNames, new Resolution(translatedPath, target));
+        } else {
+            translatedPath = resolution.getTranslatedPath();
+            target = resolution.getTarget();
+            resolved = true;
+        }
+    }
+
+    private void walk() {
+        segments = asList(path.split("\\."));
         context = this.root;
         position = 0;
         FieldModel field = null;
@@ -137,7 +168,7 @@ public class PathTarget {
             String segment = next();
 
             // array operator
-            if ("$".equals(segment) || (segment.startsWith("$[") && segment.endsWith("]")) || segment.matches("[0-9]+")) {
+            if (isArrayOperator(segment)) {
                 if (!hasNext()) {
                     break;
                 }
@@ -160,10 +191,12 @@ public class PathTarget {
             }
         }
         target = field;
+        translatedPath = String.join(".", segments);
         resolved = true;
     }
 
     private void failValidation() {
+        translatedPath = String.join(".", segments);
         resolved = true;
         throw new ValidationException(Sofia.invalidPathTarget(translatedPath(), root.getType().getName()));
     }
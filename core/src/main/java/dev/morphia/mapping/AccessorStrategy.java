@@ -0,0 +1,19 @@
+package dev.morphia.mapping;
+
+/**
+ * This enum is used to determine how mapped fields are read and written when encoding and decoding entities.
+ *
+ * @since 2.1
+ */
+public enum AccessorStrategy {
+    /**
+     * Fields are accessed via {@link java.lang.reflect.Field}
+     */
+    REFLECTION,
+
+    /**
+     * Fields are accessed via {@link java.lang.invoke.MethodHandle}s resolved once when the entity is mapped.  Fields for which no
+     * handle can be resolved fall back to reflection.
+     */
+    METHOD_HANDLES
+}
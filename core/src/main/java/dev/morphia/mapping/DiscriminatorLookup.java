@@ -22,6 +22,7 @@ import org.bson.codecs.configuration.CodecConfigurationException;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import static java.lang.String.format;
 
@@ -33,6 +34,7 @@ import static java.lang.String.format;
 public final class DiscriminatorLookup {
     private final Map<String, Class<?>> discriminatorClassMap = new ConcurrentHashMap<String, Class<?>>();
     private final Set<String> packages;
+    private final LongAdder scans = new LongAdder();
 
     /**
      * Creates a new lookup
@@ -49,6 +51,23 @@ public final class DiscriminatorLookup {
         this.packages = packages;
     }
 
+    /**
+     * Records a document whose discriminator was not one of its first two fields and so had to be found by scanning the document.
+     *
+     * @since 2.1
+     */
+    public void recordScan() {
+        scans.increment();
+    }
+
+    /**
+     * @return the number of documents whose discriminator had to be found by scanning since this lookup was created
+     * @since 2.1
+     */
+    public long getScanCount() {
+        return scans.sum();
+    }
+
     /**
      * Adds a model to the map
      *
@@ -0,0 +1,33 @@
+package dev.morphia.mapping;
+
+import dev.morphia.mapping.codec.FieldAccessor;
+
+import java.lang.reflect.Field;
+
+/**
+ * Metadata generated at build time by the Morphia annotation processor for an {@code @Entity} or {@code @Embedded} type.  Generated
+ * models are registered as services and are found by the {@link Mapper} without scanning the classpath.  Types the processor did not
+ * see are mapped reflectively as before.
+ *
+ * @morphia.internal
+ * @since 2.1
+ */
+public interface GeneratedModel {
+    /**
+     * The suffix appended to a type's name, with any nesting flattened by underscores, to name its generated model.
+     */
+    String SUFFIX = "_MorphiaModel";
+
+    /**
+     * @return the type this model was generated for
+     */
+    Class<?> getType();
+
+    /**
+     * Creates an accessor that reads and writes a field directly from generated code.
+     *
+     * @param field the field declared on {@link #getType()}
+     * @return the accessor or null if the generated code can not reach the field, e.g. because it is private or final
+     */
+    FieldAccessor getAccessor(Field field);
+}
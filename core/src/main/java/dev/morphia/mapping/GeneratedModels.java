@@ -0,0 +1,100 @@
+package dev.morphia.mapping;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Finds the {@link GeneratedModel}s available to a {@link Mapper}.
+ *
+ * @morphia.internal
+ * @since 2.1
+ */
+final class GeneratedModels {
+    private final ClassLoader loader;
+    private final Map<Class<?>, Optional<GeneratedModel>> models = new ConcurrentHashMap<>();
+    private volatile List<GeneratedModel> index;
+
+    GeneratedModels(ClassLoader loader) {
+        this.loader = loader;
+    }
+
+    /**
+     * Finds the generated model for a type
+     *
+     * @param type the type
+     * @return the model or null if none was generated for the type
+     */
+    GeneratedModel get(Class<?> type) {
+        return models.computeIfAbsent(type, GeneratedModels::load).orElse(null);
+    }
+
+    /**
+     * Lists the types in a package for which models were generated
+     *
+     * @param packageName the package
+     * @param subPackages true if types in sub-packages should be included
+     * @return the types found
+     */
+    List<Class> getTypes(String packageName, boolean subPackages) {
+        List<Class> types = new ArrayList<>();
+        for (GeneratedModel model : getIndex()) {
+            String name = model.getType().getPackageName();
+            if (name.equals(packageName) || subPackages && name.startsWith(packageName + ".")) {
+                types.add(model.getType());
+            }
+        }
+        return types;
+    }
+
+    private List<GeneratedModel> getIndex() {
+        List<GeneratedModel> list = index;
+        if (list == null) {
+            list = new ArrayList<>();
+            Iterator<GeneratedModel> iterator = ServiceLoader.load(GeneratedModel.class, loader).iterator();
+            boolean more = true;
+            while (more) {
+                try {
+                    more = iterator.hasNext();
+                    if (more) {
+                        GeneratedModel model = iterator.next();
+                        models.putIfAbsent(model.getType(), Optional.of(model));
+                        list.add(model);
+                    }
+                } catch (ServiceConfigurationError ignored) {
+                    // a stale entry left by an incremental build.  the type is mapped reflectively instead.
+                }
+            }
+            index = list;
+        }
+        return list;
+    }
+
+    private static Optional<GeneratedModel> load(Class<?> type) {
+        if (type.isAnonymousClass() || type.isLocalClass() || type.isArray() || type.isPrimitive()) {
+            return Optional.empty();
+        }
+        String simpleName = type.getName().substring(type.getPackageName().isEmpty() ? 0 : type.getPackageName().length() + 1);
+        String name = type.getName().substring(0, type.getName().length() - simpleName.length())
+                      + simpleName.replace('$', '_') + GeneratedModel.SUFFIX;
+        try {
+            Class<?> generated = Class.forName(name, true, type.getClassLoader());
+            if (GeneratedModel.class.isAssignableFrom(generated)) {
+                GeneratedModel model = (GeneratedModel) generated.getDeclaredConstructor().newInstance();
+                if (model.getType().equals(type)) {
+                    return Optional.of(model);
+                }
+            }
+        } catch (ClassNotFoundException | LinkageError ignored) {
+            // not processed
+        } catch (ReflectiveOperationException e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+        return Optional.empty();
+    }
+}
@@ -3,13 +3,17 @@ package dev.morphia.mapping;
 import dev.morphia.mapping.codec.MorphiaInstanceCreator;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.experimental.ConstructorCreator;
+import dev.morphia.mapping.experimental.ConstructorCreator.Layout;
 import dev.morphia.sofia.Sofia;
 
+import java.lang.invoke.MethodHandle;
+
 /**
  * @morphia.internal
  */
 public class InstanceCreatorFactoryImpl implements InstanceCreatorFactory {
     private final EntityModel model;
+    private volatile InstanceCreatorFactory resolved;
 
     /**
      * Creates a factory for this type
@@ -22,13 +26,28 @@ public class InstanceCreatorFactoryImpl implements InstanceCreatorFactory {
 
     @Override
     public MorphiaInstanceCreator create() {
+        InstanceCreatorFactory factory = resolved;
+        if (factory == null) {
+            factory = resolve();
+            resolved = factory;
+        }
+        return factory.create();
+    }
+
+    /**
+     * Finds the constructor to use once so each creator only has to hold the state of the instance being decoded.
+     */
+    private InstanceCreatorFactory resolve() {
         if (!model.getType().isInterface()) {
             if (ConstructorCreator.getFullConstructor(model) != null) {
-                return new ConstructorCreator(model);
+                Layout layout = new Layout(model);
+                return () -> new ConstructorCreator(layout);
             }
 
             try {
-                return new NoArgCreator(model.getType().getDeclaredConstructor());
+                Class<?> type = model.getType();
+                MethodHandle constructor = NoArgCreator.handle(type.getDeclaredConstructor());
+                return () -> new NoArgCreator(type, constructor);
             } catch (NoSuchMethodException e) {
                 throw new MappingException(Sofia.noargConstructorNotFound(model.getType().getName()));
 
@@ -16,6 +16,7 @@
 package dev.morphia.mapping;
 
 import com.mongodb.MongoCommandException;
+import com.mongodb.WriteConcern;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.model.CreateCollectionOptions;
 import com.mongodb.client.model.ValidationOptions;
@@ -56,6 +57,7 @@ public class MappedClass {
      */
     private final EntityModel entityModel;
     private final List<MappedClass> subtypes = new ArrayList<>();
+    private final WriteConcern writeConcern;
     /**
      * special fields representing the Key of the object
      */
@@ -70,6 +72,8 @@ public class MappedClass {
      */
     public MappedClass(EntityModel entityModel, Mapper mapper) {
         this.entityModel = entityModel;
+        Entity entity = getEntityAnnotation();
+        writeConcern = entity != null && !entity.concern().isEmpty() ? WriteConcern.valueOf(entity.concern()) : null;
 
         discover(mapper);
 
@@ -154,6 +158,14 @@ public class MappedClass {
         return entityModel.getAnnotation(Entity.class);
     }
 
+    /**
+     * @return the write concern named on the {@link Entity} annotation or null if there is none
+     * @since 2.1
+     */
+    public WriteConcern getWriteConcern() {
+        return writeConcern;
+    }
+
     /**
      * @return the underlying model of the type
      */
@@ -3,12 +3,16 @@ package dev.morphia.mapping;
 
 import com.mongodb.WriteConcern;
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
 import dev.morphia.Datastore;
 import dev.morphia.EntityInterceptor;
 import dev.morphia.Key;
 import dev.morphia.aggregation.experimental.codecs.AggregationCodecProvider;
+import dev.morphia.aggregation.experimental.stages.Stage;
 import dev.morphia.annotations.Embedded;
 import dev.morphia.annotations.Entity;
+import dev.morphia.internal.EntityCache;
+import dev.morphia.internal.PathCache;
 import dev.morphia.mapping.codec.DocumentWriter;
 import dev.morphia.mapping.codec.EnumCodecProvider;
 import dev.morphia.mapping.codec.MorphiaCodecProvider;
@@ -16,9 +20,13 @@ import dev.morphia.mapping.codec.MorphiaTypesCodecProvider;
 import dev.morphia.mapping.codec.PrimitiveCodecRegistry;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.EntityModelBuilder;
+import dev.morphia.mapping.codec.pojo.EntitySnapshots;
 import dev.morphia.mapping.codec.pojo.FieldModel;
 import dev.morphia.mapping.codec.reader.DocumentReader;
 import dev.morphia.mapping.codec.references.MorphiaProxy;
+import dev.morphia.mapping.codec.references.ProxyClassCache;
+import dev.morphia.mapping.codec.references.ReferenceBatch;
+import dev.morphia.query.experimental.filters.Filter;
 import dev.morphia.query.experimental.filters.Filters;
 import dev.morphia.sofia.Sofia;
 import io.github.classgraph.ClassGraph;
@@ -33,11 +41,11 @@ import org.bson.codecs.configuration.CodecRegistry;
 
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -78,6 +86,15 @@ public class Mapper {
     private final Datastore datastore;
     private final CodecRegistry codecRegistry;
     private final Map<Class<?>, List<MappedClass>> hierarchy = new HashMap<>();
+    private final ProxyClassCache proxyClassCache;
+    private final PathCache pathCache;
+    private final EntitySnapshots snapshots = new EntitySnapshots();
+    private final EntityCache entityCache = new EntityCache(this);
+    private final ThreadLocal<ReferenceBatch> referenceBatch = new ThreadLocal<>();
+    private final Map<Class<?>, CollectionHandle> collections = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Boolean> mappable = new ConcurrentHashMap<>();
+    private final GeneratedModels generatedModels = new GeneratedModels(getClass().getClassLoader());
+    private final Map<Class<?>, Codec<Stage>> stageCodecs = new ConcurrentHashMap<>();
 
     /**
      * Creates a Mapper with the given options.
@@ -91,6 +108,8 @@ public class Mapper {
         this.datastore = datastore;
         this.options = options;
         morphiaCodecProvider = new MorphiaCodecProvider(this, datastore);
+        proxyClassCache = new ProxyClassCache(options.getProxyClassCacheSize());
+        pathCache = new PathCache(options.getPathCacheSize());
         this.codecRegistry = fromRegistries(
             fromProviders(new MorphiaTypesCodecProvider(this)),
             new PrimitiveCodecRegistry(codecRegistry),
@@ -236,27 +255,22 @@ public class Mapper {
     }
 
     /**
+     * Gets the collection mapped for a type.  The handle is created once per type, with the entity's write concern applied, and reused
+     * until another type is mapped.
+     *
      * @param type the type look up
      * @param <T>  the class type
      * @return the collection mapped for this class
      * @morphia.internal
      */
     public <T> MongoCollection<T> getCollection(Class<T> type) {
-        MappedClass mappedClass = getMappedClass(type);
-        if (mappedClass == null) {
-            throw new MappingException(Sofia.notMappable(type.getName()));
+        MongoDatabase database = datastore.getDatabase();
+        CollectionHandle handle = collections.get(type);
+        if (handle == null || handle.database != database) {
+            handle = new CollectionHandle(database, createCollection(type, database));
+            collections.put(type, handle);
         }
-        if (mappedClass.getCollectionName() == null) {
-            throw new MappingException(Sofia.noMappedCollection(type.getName()));
-        }
-
-        MongoCollection<T> collection = datastore.getDatabase().getCollection(mappedClass.getCollectionName(), type);
-
-        Entity annotation = mappedClass.getEntityAnnotation();
-        if (annotation != null && WriteConcern.valueOf(annotation.concern()) != null) {
-            collection = collection.withWriteConcern(WriteConcern.valueOf(annotation.concern()));
-        }
-        return collection;
+        return (MongoCollection<T>) handle.collection;
     }
 
     /**
@@ -297,6 +311,85 @@ public class Mapper {
         return null;
     }
 
+    /**
+     * @return the cache of resolved paths
+     * @morphia.internal
+     * @since 2.1
+     */
+    public PathCache getPathCache() {
+        return pathCache;
+    }
+
+    /**
+     * @return the cache of generated lazy reference proxy classes
+     * @morphia.internal
+     * @since 2.1
+     */
+    public ProxyClassCache getProxyClassCache() {
+        return proxyClassCache;
+    }
+
+    /**
+     * @return the batch of references being resolved on the current thread or null if there is none
+     * @morphia.internal
+     * @see dev.morphia.query.FindOptions#referencePageSize(int)
+     * @since 2.1
+     */
+    public ReferenceBatch getReferenceBatch() {
+        return referenceBatch.get();
+    }
+
+    /**
+     * Sets the batch of references to resolve eager references from on the current thread.
+     *
+     * @param batch the batch to use or null to query for references individually
+     * @return the previously active batch
+     * @morphia.internal
+     * @since 2.1
+     */
+    public ReferenceBatch setReferenceBatch(ReferenceBatch batch) {
+        ReferenceBatch previous = referenceBatch.get();
+        if (batch != null) {
+            referenceBatch.set(batch);
+        } else {
+            referenceBatch.remove();
+        }
+        return previous;
+    }
+
+    /**
+     * @return the cache of entities loaded by ID
+     * @morphia.internal
+     * @see dev.morphia.annotations.experimental.Cached
+     * @since 2.1
+     */
+    public EntityCache getEntityCache() {
+        return entityCache;
+    }
+
+    /**
+     * @return the snapshots of tracked entities
+     * @morphia.internal
+     * @see MapperOptions#isTrackChanges()
+     * @since 2.1
+     */
+    public EntitySnapshots getSnapshots() {
+        return snapshots;
+    }
+
+    /**
+     * Records the state an entity was last encoded with, once written, if change tracking is enabled.
+     *
+     * @param entity the entity
+     * @morphia.internal
+     * @since 2.1
+     */
+    public void snapshot(Object entity) {
+        if (options.isTrackChanges() && !(entity instanceof MorphiaProxy)) {
+            snapshots.commit(entity);
+        }
+    }
+
     /**
      * Gets list of {@link EntityInterceptor}s
      *
@@ -370,6 +463,24 @@ public class Mapper {
         return new ArrayList<>(mappedClasses.values());
     }
 
+    /**
+     * Finds the codec for an aggregation stage.  The registry is only consulted the first time a stage type is seen.
+     *
+     * @param type the stage type
+     * @return the codec
+     * @morphia.internal
+     * @since 2.1
+     */
+    @SuppressWarnings("unchecked")
+    public Codec<Stage> getStageCodec(Class<? extends Stage> type) {
+        Codec<Stage> codec = stageCodecs.get(type);
+        if (codec == null) {
+            codec = (Codec<Stage>) codecRegistry.get(type);
+            stageCodecs.put(type, codec);
+        }
+        return codec;
+    }
+
     /**
      * @return the options used by this Mapper
      */
@@ -377,6 +488,14 @@ public class Mapper {
         return options;
     }
 
+    /**
+     * @param type the type
+     * @return the model generated at build time for the type or null if it was not processed
+     */
+    GeneratedModel getGeneratedModel(Class<?> type) {
+        return generatedModels.get(type);
+    }
+
     /**
      * Updates a query with the type's subclass discriminators if polymorphic queries are enabled.
      *
@@ -386,24 +505,36 @@ public class Mapper {
      * @since 2.1
      */
     public void updateQueryWithDiscriminators(BsonWriter writer, Class<?> type) {
+        Filter filter = getDiscriminatorFilter(type);
+        if (filter != null) {
+            filter.encode(this, writer, EncoderContext.builder().build());
+        }
+    }
+
+    /**
+     * Creates the filter restricting a query to a type and its subtypes when polymorphic queries are enabled.
+     *
+     * @param type the query type
+     * @return the filter or null if none is needed
+     * @morphia.internal
+     * @since 2.1
+     */
+    public Filter getDiscriminatorFilter(Class<?> type) {
         if (options.isEnablePolymorphicQueries()) {
             MappedClass mappedClass = getMappedClass(type);
             if (mappedClass == null) {
-                return;
+                return null;
             }
             Entity entityAnnotation = mappedClass.getEntityAnnotation();
             if (entityAnnotation == null || entityAnnotation.useDiscriminator()) {
                 String key = discriminatorKey(type);
                 Set<String> discriminators = subtypeDiscriminators(type);
-                if (discriminators.size() > 1) {
-                    Filters.in(key, discriminators)
-                           .encode(this, writer, EncoderContext.builder().build());
-                } else {
-                    Filters.eq(key, discriminators.iterator().next())
-                           .encode(this, writer, EncoderContext.builder().build());
-                }
+                return discriminators.size() > 1
+                       ? Filters.in(key, discriminators)
+                       : Filters.eq(key, discriminators.iterator().next());
             }
         }
+        return null;
     }
 
     private String discriminatorKey(Class<?> type) {
@@ -443,15 +574,7 @@ public class Mapper {
      * @morphia.internal
      */
     public WriteConcern getWriteConcern(Class clazz) {
-        WriteConcern wc = null;
-        if (clazz != null) {
-            final Entity entityAnn = getMappedClass(clazz).getEntityAnnotation();
-            if (entityAnn != null && !entityAnn.concern().isEmpty()) {
-                wc = WriteConcern.valueOf(entityAnn.concern());
-            }
-        }
-
-        return wc;
+        return clazz != null ? getMappedClass(clazz).getWriteConcern() : null;
     }
 
     /**
@@ -470,7 +593,12 @@ public class Mapper {
      */
     public <T> boolean isMappable(Class<T> type) {
         final Class actual = MorphiaProxy.class.isAssignableFrom(type) ? type.getSuperclass() : type;
-        return hasAnnotation(actual, List.of(Entity.class, Embedded.class));
+        Boolean result = mappable.get(actual);
+        if (result == null) {
+            result = hasAnnotation(actual, List.of(Entity.class, Embedded.class));
+            mappable.put(actual, result);
+        }
+        return result;
     }
 
     /**
@@ -494,16 +622,39 @@ public class Mapper {
     }
 
     /**
-     * Tries to map all classes in the package specified.
+     * Tries to map all classes in the package specified.  If the index generated by the Morphia annotation processor lists types in the
+     * package, those types are mapped without scanning the classpath.  Otherwise, or if {@link MapperOptions#isScanPackages()} is set,
+     * the classpath is scanned for the types the index does not list.
      *
      * @param packageName the name of the package to process
      */
     public synchronized void mapPackage(String packageName) {
-        try {
-            map(getClasses(getClass().getClassLoader(), packageName, getOptions().isMapSubPackages()), false);
-        } catch (ClassNotFoundException e) {
-            throw new MappingException("Could not get map classes from package " + packageName, e);
+        Set<Class> classes = new LinkedHashSet<>(generatedModels.getTypes(packageName, getOptions().isMapSubPackages()));
+        if (classes.isEmpty() || getOptions().isScanPackages()) {
+            Set<String> indexed = classes.stream()
+                                         .map(Class::getName)
+                                         .collect(Collectors.toSet());
+            try {
+                classes.addAll(getClasses(getClass().getClassLoader(), packageName, getOptions().isMapSubPackages(), indexed));
+            } catch (ClassNotFoundException e) {
+                throw new MappingException("Could not get map classes from package " + packageName, e);
+            }
+        }
+        map(new ArrayList<>(classes), false);
+    }
+
+    private <T> MongoCollection<T> createCollection(Class<T> type, MongoDatabase database) {
+        MappedClass mappedClass = getMappedClass(type);
+        if (mappedClass == null) {
+            throw new MappingException(Sofia.notMappable(type.getName()));
+        }
+        if (mappedClass.getCollectionName() == null) {
+            throw new MappingException(Sofia.noMappedCollection(type.getName()));
         }
+
+        MongoCollection<T> collection = database.getCollection(mappedClass.getCollectionName(), type);
+        WriteConcern writeConcern = mappedClass.getWriteConcern();
+        return writeConcern != null ? collection.withWriteConcern(writeConcern) : collection;
     }
 
     private MappedClass register(MappedClass mc) {
@@ -512,6 +663,8 @@ public class Mapper {
         registerHierarchy(entityModel.getType(), mc);
 
         mappedClasses.put(mc.getType(), mc);
+        pathCache.clear();
+        collections.clear();
         if (mc.getEntityAnnotation() != null) {
             mappedClassesByCollection.computeIfAbsent(mc.getCollectionName(), s -> new CopyOnWriteArraySet<>())
                                      .add(mc);
@@ -524,13 +677,14 @@ public class Mapper {
         return mc;
     }
 
-    private List<Class> getClasses(ClassLoader loader, String packageName, boolean mapSubPackages)
+    private List<Class> getClasses(ClassLoader loader, String packageName, boolean mapSubPackages, Set<String> skipped)
         throws ClassNotFoundException {
         final Set<Class> classes = new HashSet<>();
 
+        // only the class names are needed.  mapping inspects the loaded classes itself.
         ClassGraph classGraph = new ClassGraph()
                                     .addClassLoader(loader)
-                                    .enableAllInfo();
+                                    .enableClassInfo();
         if (mapSubPackages) {
             classGraph.whitelistPackages(packageName);
             classGraph.whitelistPackages(packageName + ".*");
@@ -540,7 +694,9 @@ public class Mapper {
 
         try (ScanResult scanResult = classGraph.scan()) {
             for (ClassInfo classInfo : scanResult.getAllClasses()) {
-                classes.add(Class.forName(classInfo.getName(), true, loader));
+                if (!skipped.contains(classInfo.getName())) {
+                    classes.add(Class.forName(classInfo.getName(), true, loader));
+                }
             }
         }
         return new ArrayList<>(classes);
@@ -633,6 +789,18 @@ public class Mapper {
         return key.getCollection();
     }
 
+    /**
+     * Builds the codecs for every mapped class up front rather than on first use.  Call this after mapping to move the cost of codec
+     * creation out of the first reads and writes.
+     *
+     * @since 2.1
+     */
+    public void warmUp() {
+        for (MappedClass mappedClass : getMappedClasses()) {
+            codecRegistry.get(mappedClass.getType());
+        }
+    }
+
     private List<MappedClass> map(List<Class> classes, boolean allowUnannotated) {
         return classes.stream()
                       .map(c -> getMappedClass(c, allowUnannotated))
@@ -675,10 +843,25 @@ public class Mapper {
             }
         }
 
-        return hasAnnotation(clazz.getSuperclass(), annotations)
-               || Arrays.stream(clazz.getInterfaces())
-                        .map(i -> hasAnnotation(i, annotations))
-                        .reduce(false, (l, r) -> l || r);
+        if (hasAnnotation(clazz.getSuperclass(), annotations)) {
+            return true;
+        }
+        for (Class<?> anInterface : clazz.getInterfaces()) {
+            if (hasAnnotation(anInterface, annotations)) {
+                return true;
+            }
+        }
+        return false;
     }
 
+
+    private static final class CollectionHandle {
+        private final MongoDatabase database;
+        private final MongoCollection<?> collection;
+
+        private CollectionHandle(MongoDatabase database, MongoCollection<?> collection) {
+            this.database = database;
+            this.collection = collection;
+        }
+    }
 }
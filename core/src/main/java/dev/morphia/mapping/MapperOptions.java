@@ -29,6 +29,7 @@ public class MapperOptions {
     private final boolean storeEmpties;
     private final boolean cacheClassLookups;
     private final boolean mapSubPackages;
+    private final boolean scanPackages;
     private final DateStorage dateStorage;
     private final MorphiaInstanceCreator creator;
     private final String discriminatorKey;
@@ -39,6 +40,10 @@ public class MapperOptions {
     private final UuidRepresentation uuidRepresentation;
     private final QueryFactory queryFactory;
     private final boolean enablePolymorphicQueries;
+    private final int proxyClassCacheSize;
+    private final int pathCacheSize;
+    private final AccessorStrategy accessorStrategy;
+    private final boolean trackChanges;
     private ClassLoader classLoader;
 
     private MapperOptions(Builder builder) {
@@ -47,6 +52,7 @@ public class MapperOptions {
         storeEmpties = builder.storeEmpties;
         cacheClassLookups = builder.cacheClassLookups;
         mapSubPackages = builder.mapSubPackages;
+        scanPackages = builder.scanPackages;
         creator = builder.creator;
         classLoader = builder.classLoader;
         discriminatorKey = builder.discriminatorKey;
@@ -58,6 +64,10 @@ public class MapperOptions {
         queryFactory = builder.queryFactory;
         enablePolymorphicQueries = builder.enablePolymorphicQueries;
         dateStorage = builder.dateStorage;
+        proxyClassCacheSize = builder.proxyClassCacheSize;
+        pathCacheSize = builder.pathCacheSize;
+        accessorStrategy = builder.accessorStrategy;
+        trackChanges = builder.trackChanges;
     }
 
     /**
@@ -78,9 +88,14 @@ public class MapperOptions {
         builder.storeEmpties = original.isStoreEmpties();
         builder.cacheClassLookups = original.isCacheClassLookups();
         builder.mapSubPackages = original.isMapSubPackages();
+        builder.scanPackages = original.isScanPackages();
         builder.creator = original.getCreator();
         builder.classLoader = original.getClassLoader();
         builder.dateStorage = original.getDateStorage();
+        builder.proxyClassCacheSize = original.getProxyClassCacheSize();
+        builder.pathCacheSize = original.getPathCacheSize();
+        builder.accessorStrategy = original.getAccessorStrategy();
+        builder.trackChanges = original.isTrackChanges();
         return builder;
     }
 
@@ -97,6 +112,14 @@ public class MapperOptions {
                    .queryFactory(new LegacyQueryFactory());
     }
 
+    /**
+     * @return the strategy used to read and write mapped fields
+     * @since 2.1
+     */
+    public AccessorStrategy getAccessorStrategy() {
+        return accessorStrategy;
+    }
+
     /**
      * Returns the classloader used, in theory, when loading the entity types.
      *
@@ -161,6 +184,22 @@ public class MapperOptions {
         return fieldNaming;
     }
 
+    /**
+     * @return the maximum number of resolved query and update paths to cache
+     * @since 2.1
+     */
+    public int getPathCacheSize() {
+        return pathCacheSize;
+    }
+
+    /**
+     * @return the maximum number of generated lazy reference proxy classes to cache
+     * @since 2.1
+     */
+    public int getProxyClassCacheSize() {
+        return proxyClassCacheSize;
+    }
+
     /**
      * @return the query factory used by the Datastore
      * @since 2.0
@@ -204,6 +243,23 @@ public class MapperOptions {
         return mapSubPackages;
     }
 
+    /**
+     * @return true if packages listed in the generated model index are scanned for types missing from it as well
+     * @see Builder#scanPackages(boolean)
+     * @since 2.1
+     */
+    public boolean isScanPackages() {
+        return scanPackages;
+    }
+
+    /**
+     * @return true if loaded entities are tracked so that saves only write changed fields
+     * @since 2.1
+     */
+    public boolean isTrackChanges() {
+        return trackChanges;
+    }
+
     /**
      * @return true if Morphia should store empty values for lists/maps/sets/arrays
      */
@@ -230,7 +286,12 @@ public class MapperOptions {
         private boolean storeEmpties;
         private boolean cacheClassLookups;
         private boolean mapSubPackages;
+        private boolean scanPackages;
         private boolean enablePolymorphicQueries;
+        private boolean trackChanges;
+        private int proxyClassCacheSize = 512;
+        private int pathCacheSize = 4096;
+        private AccessorStrategy accessorStrategy = AccessorStrategy.METHOD_HANDLES;
         private MorphiaInstanceCreator creator;
         private ClassLoader classLoader;
         private DateStorage dateStorage = DateStorage.UTC;
@@ -244,6 +305,18 @@ public class MapperOptions {
         private Builder() {
         }
 
+        /**
+         * Sets how mapped fields are read and written.  The default is {@link AccessorStrategy#METHOD_HANDLES}.
+         *
+         * @param accessorStrategy the strategy to use
+         * @return this
+         * @since 2.1
+         */
+        public Builder accessorStrategy(AccessorStrategy accessorStrategy) {
+            this.accessorStrategy = accessorStrategy;
+            return this;
+        }
+
         /**
          * Adds a custom convention to the list to be applied to all new MorphiaModels.
          *
@@ -396,6 +469,32 @@ public class MapperOptions {
             return this;
         }
 
+        /**
+         * Sets the maximum number of resolved query and update paths to keep.  Once this limit is reached, some of the cached paths are
+         * discarded to make room.
+         *
+         * @param pathCacheSize the maximum number of paths to cache
+         * @return this
+         * @since 2.1
+         */
+        public Builder pathCacheSize(int pathCacheSize) {
+            this.pathCacheSize = pathCacheSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of generated lazy reference proxy classes to keep.  Once this limit is reached, the least recently
+         * used proxy class is evicted.
+         *
+         * @param proxyClassCacheSize the maximum number of proxy classes to cache
+         * @return this
+         * @since 2.1
+         */
+        public Builder proxyClassCacheSize(int proxyClassCacheSize) {
+            this.proxyClassCacheSize = proxyClassCacheSize;
+            return this;
+        }
+
         /**
          * @param queryFactory the query factory to use when creating queries
          * @return this
@@ -405,6 +504,20 @@ public class MapperOptions {
             return this;
         }
 
+        /**
+         * By default a package whose types are listed in the index written by the Morphia annotation processor is mapped from that index
+         * alone and the classpath is only scanned for packages the index knows nothing about.  Enable this when a package mixes indexed
+         * types with types compiled without the processor or mapped only through an annotated interface.
+         *
+         * @param scanPackages if true indexed packages are scanned for unindexed types as well
+         * @return this
+         * @since 2.1
+         */
+        public Builder scanPackages(boolean scanPackages) {
+            this.scanPackages = scanPackages;
+            return this;
+        }
+
         /**
          * @param storeEmpties if true empty maps and collection types are stored in the database
          * @return this
@@ -436,6 +549,20 @@ public class MapperOptions {
             return this;
         }
 
+        /**
+         * Enables change tracking.  When enabled, entities keep a snapshot of their state as it was loaded or last saved.  Saving such
+         * an entity then issues an update with only the changed fields rather than replacing the whole document, and merging returns
+         * the updated document from the same round trip.
+         *
+         * @param trackChanges if true, loaded entities are tracked for changes
+         * @return this
+         * @since 2.1
+         */
+        public Builder trackChanges(boolean trackChanges) {
+            this.trackChanges = trackChanges;
+            return this;
+        }
+
         /**
          * Configures the UUID representation to use
          *
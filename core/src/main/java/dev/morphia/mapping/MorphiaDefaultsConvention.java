@@ -10,6 +10,7 @@ import dev.morphia.annotations.Transient;
 import dev.morphia.annotations.experimental.IdField;
 import dev.morphia.mapping.codec.ArrayFieldAccessor;
 import dev.morphia.mapping.codec.FieldAccessor;
+import dev.morphia.mapping.codec.MethodHandleAccessor;
 import dev.morphia.mapping.codec.MorphiaPropertySerialization;
 import dev.morphia.mapping.codec.pojo.EntityModelBuilder;
 import dev.morphia.mapping.codec.pojo.FieldModelBuilder;
@@ -18,6 +19,7 @@ import org.bson.codecs.pojo.PropertyAccessor;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
 import java.util.Iterator;
 
@@ -101,7 +103,7 @@ public class MorphiaDefaultsConvention implements MorphiaConvention {
 
         builder
             .serialization(new MorphiaPropertySerialization(options, builder))
-            .accessor(getAccessor(field, builder));
+            .accessor(getAccessor(datastore.getMapper(), field, builder, options));
         configureCodec(datastore, builder, field);
 
         if (isNotConcrete(builder.typeData())) {
@@ -109,10 +111,25 @@ public class MorphiaDefaultsConvention implements MorphiaConvention {
         }
     }
 
-    private PropertyAccessor<? super Object> getAccessor(Field field, FieldModelBuilder property) {
-        return field.getType().isArray() && !field.getType().getComponentType().equals(byte.class)
-               ? new ArrayFieldAccessor(property.typeData(), field)
-               : new FieldAccessor(field);
+    private PropertyAccessor<? super Object> getAccessor(Mapper mapper, Field field, FieldModelBuilder property, MapperOptions options) {
+        if (field.getType().isArray() && !field.getType().getComponentType().equals(byte.class)) {
+            return new ArrayFieldAccessor(property.typeData(), field);
+        }
+        GeneratedModel generated = mapper.getGeneratedModel(field.getDeclaringClass());
+        if (generated != null) {
+            FieldAccessor accessor = generated.getAccessor(field);
+            if (accessor != null) {
+                return accessor;
+            }
+        }
+        if (options.getAccessorStrategy() == AccessorStrategy.METHOD_HANDLES) {
+            try {
+                return new MethodHandleAccessor(field);
+            } catch (IllegalAccessException | RuntimeException ignored) {
+                // fall back to reflection
+            }
+        }
+        return new FieldAccessor(field);
     }
 
     private void configureCodec(Datastore datastore, FieldModelBuilder builder, Field field) {
@@ -122,6 +139,11 @@ public class MorphiaDefaultsConvention implements MorphiaConvention {
                 builder.codec(handler.value()
                                      .getDeclaredConstructor(Datastore.class, Field.class, TypeData.class)
                                      .newInstance(datastore, field, builder.typeData()));
+            } catch (InvocationTargetException e) {
+                if (e.getCause() instanceof MappingException) {
+                    throw (MappingException) e.getCause();
+                }
+                throw new MappingException(e.getCause().getMessage(), e.getCause());
             } catch (ReflectiveOperationException e) {
                 throw new MappingException(e.getMessage(), e);
             }
@@ -149,6 +171,9 @@ public class MorphiaDefaultsConvention implements MorphiaConvention {
             if (handler == null) {
                 for (Annotation annotation : builder.annotations()) {
                     handler = annotation.annotationType().getAnnotation(Handler.class);
+                    if (handler != null) {
+                        break;
+                    }
                 }
             }
         }
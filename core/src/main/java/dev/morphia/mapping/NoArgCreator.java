@@ -4,14 +4,19 @@ import dev.morphia.mapping.codec.MorphiaInstanceCreator;
 import dev.morphia.mapping.codec.pojo.FieldModel;
 import dev.morphia.sofia.Sofia;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
 
+import static java.lang.invoke.MethodType.methodType;
+
 /**
  * @morphia.internal
  */
 public class NoArgCreator implements MorphiaInstanceCreator {
     private Object instance;
-    private final Constructor<?> noArgsConstructor;
+    private final Class<?> type;
+    private final MethodHandle noArgsConstructor;
 
     /**
      * Creates the creator
@@ -19,8 +24,23 @@ public class NoArgCreator implements MorphiaInstanceCreator {
      * @param noArgsConstructor the constructor
      */
     public NoArgCreator(Constructor<?> noArgsConstructor) {
+        this(noArgsConstructor.getDeclaringClass(), handle(noArgsConstructor));
+    }
+
+    NoArgCreator(Class<?> type, MethodHandle noArgsConstructor) {
+        this.type = type;
         this.noArgsConstructor = noArgsConstructor;
-        this.noArgsConstructor.setAccessible(true);
+    }
+
+    static MethodHandle handle(Constructor<?> constructor) {
+        constructor.setAccessible(true);
+        try {
+            return MethodHandles.lookup()
+                                .unreflectConstructor(constructor)
+                                .asType(methodType(Object.class));
+        } catch (IllegalAccessException e) {
+            throw new MappingException(Sofia.instantiationProblem(constructor.getDeclaringClass().getName(), e.getMessage()), e);
+        }
     }
 
     @Override
@@ -31,9 +51,11 @@ public class NoArgCreator implements MorphiaInstanceCreator {
     private Object instance() {
         if (instance == null) {
             try {
-                instance = noArgsConstructor.newInstance();
-            } catch (ReflectiveOperationException e) {
-                throw new MappingException(Sofia.instantiationProblem(noArgsConstructor.getDeclaringClass().getName(), e.getMessage()), e);
+                instance = noArgsConstructor.invokeExact();
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new MappingException(Sofia.instantiationProblem(type.getName(), e.getMessage()), e);
             }
         }
         return instance;
@@ -5,6 +5,7 @@ import morphia.org.bson.codecs.pojo.TypeData;
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.util.List;
+import java.util.function.Function;
 
 import static java.lang.String.format;
 
@@ -15,6 +16,7 @@ public class ArrayFieldAccessor extends FieldAccessor {
 
     private final TypeData typeData;
     private final Class<?> componentType;
+    private final Function<Object, ?> conversion;
 
     /**
      * Creates the accessor
@@ -26,6 +28,7 @@ public class ArrayFieldAccessor extends FieldAccessor {
         super(field);
         this.typeData = typeData;
         componentType = field.getType().getComponentType();
+        conversion = Conversions.to(componentType);
     }
 
     @Override
@@ -40,7 +43,7 @@ public class ArrayFieldAccessor extends FieldAccessor {
     private Object convert(Object[] value) {
         final Object newArray = Array.newInstance(componentType, value.length);
         for (int i = 0; i < value.length; i++) {
-            Object convert = convert(value[i], componentType);
+            Object convert = value[i] instanceof List ? convert(value[i], componentType) : conversion.apply(value[i]);
             Array.set(newArray, i, convert);
         }
         return newArray;
@@ -49,7 +52,8 @@ public class ArrayFieldAccessor extends FieldAccessor {
     private Object convert(List value) {
         final Object newArray = Array.newInstance(componentType, value.size());
         for (int i = 0; i < value.size(); i++) {
-            Object converted = convert(value.get(i), componentType);
+            Object element = value.get(i);
+            Object converted = element instanceof List ? convert(element, componentType) : conversion.apply(element);
             try {
                 Array.set(newArray, i, converted);
             } catch (IllegalArgumentException e) {
@@ -0,0 +1,64 @@
+package dev.morphia.mapping.codec;
+
+import dev.morphia.mapping.Mapper;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.DecoderContext;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Encodes {@code boolean[]} values without boxing their elements.
+ *
+ * @since 2.1
+ */
+class BooleanArrayCodec extends PrimitiveArrayCodec<boolean[]> {
+    BooleanArrayCodec(Mapper mapper) {
+        super(mapper, boolean[].class);
+    }
+
+    @Override
+    int getElementSize() {
+        return 1;
+    }
+
+    @Override
+    void pack(boolean[] value, ByteBuffer buffer) {
+        for (boolean element : value) {
+            buffer.put((byte) (element ? 1 : 0));
+        }
+    }
+
+    @Override
+    boolean[] readElements(BsonReader reader, DecoderContext decoderContext) {
+        boolean[] values = new boolean[16];
+        int size = 0;
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = reader.getCurrentBsonType() == BsonType.BOOLEAN
+                             ? reader.readBoolean()
+                             : (Boolean) readBoxed(reader, decoderContext);
+        }
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    @Override
+    boolean[] unpack(ByteBuffer buffer) {
+        boolean[] values = new boolean[buffer.remaining()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = buffer.get() != 0;
+        }
+        return values;
+    }
+
+    @Override
+    void writeElements(BsonWriter writer, boolean[] value) {
+        for (boolean element : value) {
+            writer.writeBoolean(element);
+        }
+    }
+}
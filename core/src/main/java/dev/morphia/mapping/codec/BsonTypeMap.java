@@ -1,5 +1,6 @@
 package dev.morphia.mapping.codec;
 
+import org.bson.BsonBinary;
 import org.bson.BsonDbPointer;
 import org.bson.BsonRegularExpression;
 import org.bson.BsonTimestamp;
@@ -15,6 +16,7 @@ import org.bson.types.MinKey;
 import org.bson.types.ObjectId;
 import org.bson.types.Symbol;
 
+import java.time.LocalDateTime;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -32,8 +34,10 @@ public class BsonTypeMap {
     public BsonTypeMap() {
         map.put(List.class, BsonType.ARRAY);
         map.put(Binary.class, BsonType.BINARY);
+        map.put(BsonBinary.class, BsonType.BINARY);
         map.put(Boolean.class, BsonType.BOOLEAN);
         map.put(Date.class, BsonType.DATE_TIME);
+        map.put(LocalDateTime.class, BsonType.DATE_TIME);
         map.put(BsonDbPointer.class, BsonType.DB_POINTER);
         map.put(Document.class, BsonType.DOCUMENT);
         map.put(Double.class, BsonType.DOUBLE);
@@ -9,9 +9,11 @@ import org.slf4j.LoggerFactory;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import static java.lang.Boolean.FALSE;
@@ -26,7 +28,11 @@ import static java.lang.Boolean.FALSE;
 public final class Conversions {
     private static final Logger LOG = LoggerFactory.getLogger(Conversions.class);
 
-    private static final Map<Class<?>, Map<Class<?>, Function<?, ?>>> CONVERSIONS = new HashMap<>();
+    private static final Map<Class<?>, Map<Class<?>, Function<?, ?>>> CONVERSIONS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Map<Class<?>, Function<Object, Object>>> RESOLVED = new ConcurrentHashMap<>();
+    private static final Function<Object, Object> IDENTITY = v -> v;
+    private static final Function<Object, Object> TO_STRING = Object::toString;
+    private static volatile int generation;
 
     static {
         registerStringConversions();
@@ -37,6 +43,7 @@ public final class Conversions {
         register(Instant.class, Long.class, Instant::toEpochMilli);
         register(Date.class, long.class, Date::getTime);
         register(Instant.class, long.class, Instant::toEpochMilli);
+        register(LocalDateTime.class, long.class, d -> d.toInstant(ZoneOffset.UTC).toEpochMilli());
 
         register(Double.class, Long.class, Double::longValue, "Converting a double value to a long.  Possible loss of precision.");
         register(Double.class, Integer.class, Double::intValue, "Converting a double value to an int.  Possible loss of precision.");
@@ -109,7 +116,7 @@ public final class Conversions {
      * @param <T>    the target type
      * @return the potentially converted value
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
+    @SuppressWarnings("unchecked")
     public static <T> T convert(Object value, Class<T> target) {
         if (value == null) {
             return (T) convertNull(target);
@@ -120,19 +127,20 @@ public final class Conversions {
             return (T) value;
         }
 
-        final Function function = CONVERSIONS
-                                      .computeIfAbsent(fromType, (f) -> new HashMap<>())
-                                      .get(target);
-        if (function == null) {
-            if (target.equals(String.class)) {
-                return (T) value.toString();
-            }
-            if (target.isEnum() && fromType.equals(String.class)) {
-                return (T) Enum.valueOf((Class<? extends Enum>) target, (String) value);
-            }
-            return (T) value;
-        }
-        return (T) function.apply(value);
+        return (T) resolve(fromType, target).apply(value);
+    }
+
+    /**
+     * Creates a converter to a fixed target type.  The converter remembers the conversion it used for the last source type it saw so
+     * that a field which always receives the same type of value skips the lookups {@link #convert(Object, Class)} does.
+     *
+     * @param target the target type
+     * @param <T>    the target type
+     * @return the converter
+     * @since 2.1
+     */
+    public static <T> Function<Object, T> to(Class<T> target) {
+        return new TargetConversion<>(target);
     }
 
     /**
@@ -150,8 +158,8 @@ public final class Conversions {
      * @param <S>      the source type
      * @param <T>      the target type.
      */
-    public static <S, T> void register(Class<S> source, Class<T> target, Function<S, T> function,
-                                       String warning) {
+    public static synchronized <S, T> void register(Class<S> source, Class<T> target, Function<S, T> function,
+                                                    String warning) {
         final Function<S, T> conversion = warning == null
                                           ? function
                                           : s -> {
@@ -160,8 +168,45 @@ public final class Conversions {
                                               }
                                               return function.apply(s);
                                           };
-        CONVERSIONS.computeIfAbsent(source, (Class<?> c) -> new HashMap<>())
+        CONVERSIONS.computeIfAbsent(source, (Class<?> c) -> new ConcurrentHashMap<>())
                    .put(target, conversion);
+        RESOLVED.clear();
+        generation++;
+    }
+
+    /**
+     * Finds the conversion between two types.  Pairs without a registered conversion resolve to the fallbacks {@link #convert(Object,
+     * Class)} has always applied and are cached just the same.
+     */
+    private static Function<Object, Object> resolve(Class<?> source, Class<?> target) {
+        Map<Class<?>, Function<Object, Object>> targets = RESOLVED.get(source);
+        Function<Object, Object> function = targets != null ? targets.get(target) : null;
+        return function != null ? function : resolveAndCache(source, target);
+    }
+
+    /**
+     * Holds the same lock as {@link #register(Class, Class, Function, String)} so a fallback resolved before a registration can not be
+     * cached after that registration cleared the resolved conversions.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static synchronized Function<Object, Object> resolveAndCache(Class<?> source, Class<?> target) {
+        Map<Class<?>, Function<Object, Object>> targets = RESOLVED.computeIfAbsent(source, s -> new ConcurrentHashMap<>());
+        Function<Object, Object> function = targets.get(target);
+        if (function == null) {
+            Map<Class<?>, Function<?, ?>> registered = CONVERSIONS.get(source);
+            function = registered != null ? (Function<Object, Object>) registered.get(target) : null;
+            if (function == null) {
+                if (target.equals(String.class)) {
+                    function = TO_STRING;
+                } else if (target.isEnum() && source.equals(String.class)) {
+                    function = value -> Enum.valueOf((Class<? extends Enum>) target, (String) value);
+                } else {
+                    function = IDENTITY;
+                }
+            }
+            targets.put(target, function);
+        }
+        return function;
     }
 
     private static Object convertNull(Class<?> toType) {
@@ -180,4 +225,44 @@ public final class Conversions {
     private static boolean isBoolean(Class<?> type) {
         return type.equals(boolean.class);
     }
+
+    private static final class TargetConversion<T> implements Function<Object, T> {
+        private final Class<T> target;
+        private volatile Resolved last = new Resolved(null, null, -1);
+
+        private TargetConversion(Class<T> target) {
+            this.target = target;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T apply(Object value) {
+            if (value == null) {
+                return (T) convertNull(target);
+            }
+            Class<?> fromType = value.getClass();
+            if (fromType == target) {
+                return (T) value;
+            }
+            Resolved resolved = last;
+            int current = generation;
+            if (resolved.source != fromType || resolved.generation != current) {
+                resolved = new Resolved(fromType, resolve(fromType, target), current);
+                last = resolved;
+            }
+            return (T) resolved.function.apply(value);
+        }
+    }
+
+    private static final class Resolved {
+        private final Class<?> source;
+        private final Function<Object, Object> function;
+        private final int generation;
+
+        private Resolved(Class<?> source, Function<Object, Object> function, int generation) {
+            this.source = source;
+            this.function = function;
+            this.generation = generation;
+        }
+    }
 }
@@ -0,0 +1,60 @@
+package dev.morphia.mapping.codec;
+
+import dev.morphia.mapping.Mapper;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.DecoderContext;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Encodes {@code double[]} values without boxing their elements.
+ *
+ * @since 2.1
+ */
+class DoubleArrayCodec extends PrimitiveArrayCodec<double[]> {
+    DoubleArrayCodec(Mapper mapper) {
+        super(mapper, double[].class);
+    }
+
+    @Override
+    int getElementSize() {
+        return Double.BYTES;
+    }
+
+    @Override
+    void pack(double[] value, ByteBuffer buffer) {
+        buffer.asDoubleBuffer().put(value);
+    }
+
+    @Override
+    double[] readElements(BsonReader reader, DecoderContext decoderContext) {
+        double[] values = new double[16];
+        int size = 0;
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = reader.getCurrentBsonType() == BsonType.DOUBLE
+                             ? reader.readDouble()
+                             : (Double) readBoxed(reader, decoderContext);
+        }
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    @Override
+    double[] unpack(ByteBuffer buffer) {
+        double[] values = new double[buffer.remaining() / Double.BYTES];
+        buffer.asDoubleBuffer().get(values);
+        return values;
+    }
+
+    @Override
+    void writeElements(BsonWriter writer, double[] value) {
+        for (double element : value) {
+            writer.writeDouble(element);
+        }
+    }
+}
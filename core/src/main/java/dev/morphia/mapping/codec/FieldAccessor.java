@@ -43,4 +43,64 @@ public class FieldAccessor implements PropertyAccessor {
             throw new MappingException(e.getMessage(), e);
         }
     }
+
+    /**
+     * Reads a {@code boolean} field without boxing the value
+     *
+     * @param instance the instance to read from
+     * @return the field value
+     * @since 2.1
+     */
+    public boolean getBoolean(Object instance) {
+        try {
+            return field.getBoolean(instance);
+        } catch (IllegalArgumentException | IllegalAccessException e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads a {@code double} or {@code float} field without boxing the value
+     *
+     * @param instance the instance to read from
+     * @return the field value
+     * @since 2.1
+     */
+    public double getDouble(Object instance) {
+        try {
+            return field.getDouble(instance);
+        } catch (IllegalArgumentException | IllegalAccessException e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads an {@code int}, {@code short} or {@code byte} field without boxing the value
+     *
+     * @param instance the instance to read from
+     * @return the field value
+     * @since 2.1
+     */
+    public int getInt(Object instance) {
+        try {
+            return field.getInt(instance);
+        } catch (IllegalArgumentException | IllegalAccessException e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads a {@code long} field without boxing the value
+     *
+     * @param instance the instance to read from
+     * @return the field value
+     * @since 2.1
+     */
+    public long getLong(Object instance) {
+        try {
+            return field.getLong(instance);
+        } catch (IllegalArgumentException | IllegalAccessException e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
 }
@@ -0,0 +1,60 @@
+package dev.morphia.mapping.codec;
+
+import dev.morphia.mapping.Mapper;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.DecoderContext;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Encodes {@code float[]} values without boxing their elements.
+ *
+ * @since 2.1
+ */
+class FloatArrayCodec extends PrimitiveArrayCodec<float[]> {
+    FloatArrayCodec(Mapper mapper) {
+        super(mapper, float[].class);
+    }
+
+    @Override
+    int getElementSize() {
+        return Float.BYTES;
+    }
+
+    @Override
+    void pack(float[] value, ByteBuffer buffer) {
+        buffer.asFloatBuffer().put(value);
+    }
+
+    @Override
+    float[] readElements(BsonReader reader, DecoderContext decoderContext) {
+        float[] values = new float[16];
+        int size = 0;
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = reader.getCurrentBsonType() == BsonType.DOUBLE
+                             ? (float) reader.readDouble()
+                             : (Float) readBoxed(reader, decoderContext);
+        }
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    @Override
+    float[] unpack(ByteBuffer buffer) {
+        float[] values = new float[buffer.remaining() / Float.BYTES];
+        buffer.asFloatBuffer().get(values);
+        return values;
+    }
+
+    @Override
+    void writeElements(BsonWriter writer, float[] value) {
+        for (float element : value) {
+            writer.writeDouble(element);
+        }
+    }
+}
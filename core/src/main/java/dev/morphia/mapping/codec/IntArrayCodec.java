@@ -0,0 +1,60 @@
+package dev.morphia.mapping.codec;
+
+import dev.morphia.mapping.Mapper;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.DecoderContext;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Encodes {@code int[]} values without boxing their elements.
+ *
+ * @since 2.1
+ */
+class IntArrayCodec extends PrimitiveArrayCodec<int[]> {
+    IntArrayCodec(Mapper mapper) {
+        super(mapper, int[].class);
+    }
+
+    @Override
+    int getElementSize() {
+        return Integer.BYTES;
+    }
+
+    @Override
+    void pack(int[] value, ByteBuffer buffer) {
+        buffer.asIntBuffer().put(value);
+    }
+
+    @Override
+    int[] readElements(BsonReader reader, DecoderContext decoderContext) {
+        int[] values = new int[16];
+        int size = 0;
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = reader.getCurrentBsonType() == BsonType.INT32
+                             ? reader.readInt32()
+                             : (Integer) readBoxed(reader, decoderContext);
+        }
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    @Override
+    int[] unpack(ByteBuffer buffer) {
+        int[] values = new int[buffer.remaining() / Integer.BYTES];
+        buffer.asIntBuffer().get(values);
+        return values;
+    }
+
+    @Override
+    void writeElements(BsonWriter writer, int[] value) {
+        for (int element : value) {
+            writer.writeInt32(element);
+        }
+    }
+}
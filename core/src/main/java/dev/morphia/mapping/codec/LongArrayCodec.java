@@ -0,0 +1,60 @@
+package dev.morphia.mapping.codec;
+
+import dev.morphia.mapping.Mapper;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.DecoderContext;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Encodes {@code long[]} values without boxing their elements.
+ *
+ * @since 2.1
+ */
+class LongArrayCodec extends PrimitiveArrayCodec<long[]> {
+    LongArrayCodec(Mapper mapper) {
+        super(mapper, long[].class);
+    }
+
+    @Override
+    int getElementSize() {
+        return Long.BYTES;
+    }
+
+    @Override
+    void pack(long[] value, ByteBuffer buffer) {
+        buffer.asLongBuffer().put(value);
+    }
+
+    @Override
+    long[] readElements(BsonReader reader, DecoderContext decoderContext) {
+        long[] values = new long[16];
+        int size = 0;
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = reader.getCurrentBsonType() == BsonType.INT64
+                             ? reader.readInt64()
+                             : (Long) readBoxed(reader, decoderContext);
+        }
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    @Override
+    long[] unpack(ByteBuffer buffer) {
+        long[] values = new long[buffer.remaining() / Long.BYTES];
+        buffer.asLongBuffer().get(values);
+        return values;
+    }
+
+    @Override
+    void writeElements(BsonWriter writer, long[] value) {
+        for (long element : value) {
+            writer.writeInt64(element);
+        }
+    }
+}
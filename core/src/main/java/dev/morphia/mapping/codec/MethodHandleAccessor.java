@@ -0,0 +1,141 @@
+package dev.morphia.mapping.codec;
+
+import dev.morphia.mapping.MappingException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.Field;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Accesses a field through {@link MethodHandle}s resolved once when the field is mapped.  Primitive fields get a specialized getter so
+ * they can be read without boxing.  Anything the handles can not do, e.g. writing a final field or widening a value to the field's
+ * type, is delegated to the reflective implementation.
+ *
+ * @morphia.internal
+ * @since 2.1
+ */
+public class MethodHandleAccessor extends FieldAccessor {
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+    private final MethodHandle booleanGetter;
+    private final MethodHandle intGetter;
+    private final MethodHandle longGetter;
+    private final MethodHandle doubleGetter;
+
+    /**
+     * Creates the accessor for a field
+     *
+     * @param field the field itself
+     * @throws IllegalAccessException if the field can not be read through a MethodHandle
+     */
+    public MethodHandleAccessor(Field field) throws IllegalAccessException {
+        super(field);
+        field.setAccessible(true);
+        Lookup lookup = MethodHandles.lookup();
+        MethodHandle read = lookup.unreflectGetter(field);
+        getter = read.asType(methodType(Object.class, Object.class));
+        setter = setter(lookup, field);
+
+        Class<?> type = field.getType();
+        booleanGetter = type == boolean.class ? read.asType(methodType(boolean.class, Object.class)) : null;
+        intGetter = type == int.class || type == short.class || type == byte.class
+                    ? read.asType(methodType(int.class, Object.class)) : null;
+        longGetter = type == long.class ? read.asType(methodType(long.class, Object.class)) : null;
+        doubleGetter = type == double.class || type == float.class ? read.asType(methodType(double.class, Object.class)) : null;
+    }
+
+    private static MethodHandle setter(Lookup lookup, Field field) {
+        try {
+            return lookup.unreflectSetter(field)
+                         .asType(methodType(void.class, Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public Object get(Object instance) {
+        try {
+            return getter.invokeExact(instance);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void set(Object instance, Object value) {
+        if (setter == null) {
+            super.set(instance, value);
+            return;
+        }
+        try {
+            setter.invokeExact(instance, value);
+        } catch (ClassCastException | NullPointerException e) {
+            // let reflection apply its widening conversions and report the failure consistently
+            super.set(instance, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public boolean getBoolean(Object instance) {
+        if (booleanGetter == null) {
+            return super.getBoolean(instance);
+        }
+        try {
+            return (boolean) booleanGetter.invokeExact(instance);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public double getDouble(Object instance) {
+        if (doubleGetter == null) {
+            return super.getDouble(instance);
+        }
+        try {
+            return (double) doubleGetter.invokeExact(instance);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int getInt(Object instance) {
+        if (intGetter == null) {
+            return super.getInt(instance);
+        }
+        try {
+            return (int) intGetter.invokeExact(instance);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public long getLong(Object instance) {
+        if (longGetter == null) {
+            return super.getLong(instance);
+        }
+        try {
+            return (long) longGetter.invokeExact(instance);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    private RuntimeException rethrow(Throwable e) {
+        if (e instanceof RuntimeException) {
+            return (RuntimeException) e;
+        }
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        return new MappingException(e.getMessage(), e);
+    }
+}
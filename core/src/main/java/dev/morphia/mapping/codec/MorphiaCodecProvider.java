@@ -12,9 +12,9 @@ import org.bson.codecs.configuration.CodecProvider;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.codecs.pojo.PropertyCodecProvider;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Provider for codecs for Morphia entities
@@ -22,7 +22,9 @@ import java.util.Map;
  * @morphia.internal
  */
 public class MorphiaCodecProvider implements CodecProvider {
-    private final Map<Class<?>, Codec<?>> codecs = new HashMap<>();
+    private static final Object NOT_MAPPABLE = new Object();
+
+    private final Map<Class<?>, Object> codecs = new ConcurrentHashMap<>();
     private final Mapper mapper;
     private final List<PropertyCodecProvider> propertyCodecProviders;
     private final Datastore datastore;
@@ -44,14 +46,31 @@ public class MorphiaCodecProvider implements CodecProvider {
     @Override
     @SuppressWarnings("unchecked")
     public <T> MorphiaCodec get(Class<T> type, CodecRegistry registry) {
-        MorphiaCodec codec = (MorphiaCodec) codecs.get(type);
-        if (codec == null && mapper.isMappable(type)) {
-            codec = new MorphiaCodec(datastore, mapper.getMappedClass(type), propertyCodecProviders,
-                mapper.getDiscriminatorLookup(), registry);
-            codecs.put(type, codec);
+        Object codec = codecs.get(type);
+        if (codec == null) {
+            codec = create(type, registry);
         }
 
-        return codec;
+        return codec != NOT_MAPPABLE ? (MorphiaCodec) codec : null;
+    }
+
+    private Object create(Class<?> type, CodecRegistry registry) {
+        if (!mapper.isMappable(type)) {
+            codecs.putIfAbsent(type, NOT_MAPPABLE);
+            return NOT_MAPPABLE;
+        }
+        // mapping happens outside the lock so that codec creation never waits on the mapper.  building a codec specializes the field
+        // codecs on the shared model so it must only ever happen once per type.  the lock is reentrant so embedded types can still be
+        // built while building their parent.
+        MappedClass mappedClass = mapper.getMappedClass(type);
+        synchronized (this) {
+            Object codec = codecs.get(type);
+            if (codec == null) {
+                codec = new MorphiaCodec(datastore, mappedClass, propertyCodecProviders, mapper.getDiscriminatorLookup(), registry);
+                codecs.put(type, codec);
+            }
+            return codec;
+        }
     }
 
     /**
@@ -36,15 +36,23 @@ public class MorphiaPropertySerialization implements PropertySerialization {
         if (!options.isStoreNulls() && value == null) {
             return false;
         }
-        if (options.isIgnoreFinals() && Modifier.isFinal(modifiers)) {
-            return false;
-        }
         if (!options.isStoreEmpties()) {
             if (value instanceof Map && ((Map) value).isEmpty()
                 || value instanceof Collection && ((Collection) value).isEmpty()) {
                 return false;
             }
         }
+        return shouldSerializeScalars();
+    }
+
+    /**
+     * @return true if non-null, non-container values of this property should be serialized.  The answer does not depend on the value.
+     * @since 2.1
+     */
+    public boolean shouldSerializeScalars() {
+        if (options.isIgnoreFinals() && Modifier.isFinal(modifiers)) {
+            return false;
+        }
         return !hasAnnotation(LoadOnly.class) && !hasAnnotation(NotSaved.class);
     }
 
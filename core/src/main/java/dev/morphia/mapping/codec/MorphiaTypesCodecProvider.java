@@ -1,5 +1,13 @@
 package dev.morphia.mapping.codec;
 
+import dev.morphia.geo.Geometry;
+import dev.morphia.geo.GeometryCodec;
+import dev.morphia.geo.LineString;
+import dev.morphia.geo.MultiLineString;
+import dev.morphia.geo.MultiPoint;
+import dev.morphia.geo.MultiPolygon;
+import dev.morphia.geo.Point;
+import dev.morphia.geo.Polygon;
 import dev.morphia.mapping.Mapper;
 import org.bson.codecs.Codec;
 import org.bson.codecs.MapCodec;
@@ -13,7 +21,7 @@ import java.util.Map;
 /**
  * Defines a provider of codecs for Morphia's types
  */
-@SuppressWarnings("unchecked")
+@SuppressWarnings({"unchecked", "removal"})
 public class MorphiaTypesCodecProvider implements CodecProvider {
     private final Mapper mapper;
     private final Map<Class<?>, Codec<?>> codecs = new HashMap<>();
@@ -40,14 +48,29 @@ public class MorphiaTypesCodecProvider implements CodecProvider {
         addCodec(new MorphiaQueryCodec(mapper));
         addCodec(new URICodec());
 
-        List.of(boolean.class, Boolean.class,
+        List.of(Geometry.class,
+            Point.class,
+            LineString.class,
+            MultiPoint.class,
+            Polygon.class,
+            MultiLineString.class,
+            MultiPolygon.class).forEach(c -> addCodec(new GeometryCodec<>(c)));
+
+        addCodec(new BooleanArrayCodec(mapper));
+        addCodec(new DoubleArrayCodec(mapper));
+        addCodec(new FloatArrayCodec(mapper));
+        addCodec(new IntArrayCodec(mapper));
+        addCodec(new LongArrayCodec(mapper));
+        addCodec(new ShortArrayCodec(mapper));
+
+        List.of(Boolean.class,
             byte.class, Byte.class,
             char.class, Character.class,
-            double.class, Double.class,
-            float.class, Float.class,
-            int.class, Integer.class,
-            long.class, Long.class,
-            short.class, Short.class).forEach(c -> addCodec(new TypedArrayCodec(c, mapper)));
+            Double.class,
+            Float.class,
+            Integer.class,
+            Long.class,
+            Short.class).forEach(c -> addCodec(new TypedArrayCodec(c, mapper)));
     }
 
     protected <T> void addCodec(Codec<T> codec) {
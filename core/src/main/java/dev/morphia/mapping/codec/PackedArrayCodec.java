@@ -0,0 +1,65 @@
+package dev.morphia.mapping.codec;
+
+import dev.morphia.Datastore;
+import dev.morphia.mapping.MappingException;
+import dev.morphia.mapping.codec.pojo.PropertyHandler;
+import dev.morphia.sofia.Sofia;
+import morphia.org.bson.codecs.pojo.TypeData;
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import java.lang.reflect.Field;
+
+/**
+ * Stores a primitive array as a single binary value rather than as a BSON array.
+ *
+ * @morphia.internal
+ * @see dev.morphia.annotations.experimental.Packed
+ * @since 2.1
+ */
+@SuppressWarnings("unchecked")
+public class PackedArrayCodec extends PropertyCodec<Object> implements PropertyHandler {
+    private final PrimitiveArrayCodec<Object> codec;
+
+    /**
+     * Creates a codec
+     *
+     * @param datastore the datastore to use
+     * @param field     the packed field
+     * @param typeData  the field type data
+     */
+    public PackedArrayCodec(Datastore datastore, Field field, TypeData typeData) {
+        super(datastore, field, typeData);
+        Class<?> type = field.getType();
+        Codec<?> arrayCodec = type.isArray() && type.getComponentType().isPrimitive()
+                              ? datastore.getMapper().getCodecRegistry().get(type)
+                              : null;
+        if (!(arrayCodec instanceof PrimitiveArrayCodec)) {
+            throw new MappingException(Sofia.notPackableType(field.getDeclaringClass().getName(), field.getName()));
+        }
+        codec = (PrimitiveArrayCodec<Object>) arrayCodec;
+    }
+
+    @Override
+    public Object decode(BsonReader reader, DecoderContext decoderContext) {
+        return codec.decode(reader, decoderContext);
+    }
+
+    @Override
+    public Object encode(Object value) {
+        return codec.getEncoderClass().isInstance(value) ? codec.pack(value) : value;
+    }
+
+    @Override
+    public void encode(BsonWriter writer, Object value, EncoderContext encoderContext) {
+        writer.writeBinaryData(codec.pack(value));
+    }
+
+    @Override
+    public Class<Object> getEncoderClass() {
+        return codec.getEncoderClass();
+    }
+}
@@ -0,0 +1,108 @@
+package dev.morphia.mapping.codec;
+
+import dev.morphia.mapping.Mapper;
+import org.bson.BsonBinary;
+import org.bson.BsonBinarySubType;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static java.lang.String.format;
+
+/**
+ * Base codec for arrays of primitives.  Elements are read and written directly rather than boxed and looked up in the codec registry.
+ * Arrays are stored as BSON arrays but a {@link #pack(Object) packed} binary value is read as well so that fields can switch between the
+ * two forms without migrating existing documents.
+ *
+ * @param <T> the array type
+ * @see dev.morphia.annotations.experimental.Packed
+ * @since 2.1
+ */
+abstract class PrimitiveArrayCodec<T> implements Codec<T> {
+    /**
+     * The binary sub type used for packed arrays
+     */
+    static final BsonBinarySubType PACKED = BsonBinarySubType.USER_DEFINED;
+
+    private final Mapper mapper;
+    private final Class<T> type;
+    private Codec<?> boxedCodec;
+
+    PrimitiveArrayCodec(Mapper mapper, Class<T> type) {
+        this.mapper = mapper;
+        this.type = type;
+    }
+
+    @Override
+    public T decode(BsonReader reader, DecoderContext decoderContext) {
+        if (reader.getCurrentBsonType() == BsonType.BINARY) {
+            return unpack(ByteBuffer.wrap(reader.readBinaryData().getData()).order(ByteOrder.LITTLE_ENDIAN));
+        }
+        reader.readStartArray();
+        T values = readElements(reader, decoderContext);
+        reader.readEndArray();
+        return values;
+    }
+
+    @Override
+    public void encode(BsonWriter writer, T value, EncoderContext encoderContext) {
+        writer.writeStartArray();
+        writeElements(writer, value);
+        writer.writeEndArray();
+    }
+
+    @Override
+    public Class<T> getEncoderClass() {
+        return type;
+    }
+
+    /**
+     * Encodes an array as a single binary value holding its elements in little endian order
+     *
+     * @param value the array
+     * @return the binary value
+     */
+    BsonBinary pack(T value) {
+        ByteBuffer buffer = ByteBuffer.allocate(getElementSize() * Array.getLength(value))
+                                      .order(ByteOrder.LITTLE_ENDIAN);
+        pack(value, buffer);
+        return new BsonBinary(PACKED, buffer.array());
+    }
+
+    /**
+     * Reads an element that is not stored as the array's natural BSON type, e.g. an int stored as a double, using the codec for the boxed
+     * type.
+     *
+     * @param reader         the reader
+     * @param decoderContext the context
+     * @return the element
+     */
+    Object readBoxed(BsonReader reader, DecoderContext decoderContext) {
+        if (boxedCodec == null) {
+            boxedCodec = mapper.getCodecRegistry().get(type.getComponentType());
+        }
+        return boxedCodec.decode(reader, decoderContext);
+    }
+
+    abstract int getElementSize();
+
+    abstract void pack(T value, ByteBuffer buffer);
+
+    abstract T readElements(BsonReader reader, DecoderContext decoderContext);
+
+    abstract T unpack(ByteBuffer buffer);
+
+    abstract void writeElements(BsonWriter writer, T value);
+
+    @Override
+    public String toString() {
+        return format("%s<%s>", getClass().getName(), type.getSimpleName());
+    }
+}
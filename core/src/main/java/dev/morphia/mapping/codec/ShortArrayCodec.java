@@ -0,0 +1,60 @@
+package dev.morphia.mapping.codec;
+
+import dev.morphia.mapping.Mapper;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.DecoderContext;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Encodes {@code short[]} values without boxing their elements.
+ *
+ * @since 2.1
+ */
+class ShortArrayCodec extends PrimitiveArrayCodec<short[]> {
+    ShortArrayCodec(Mapper mapper) {
+        super(mapper, short[].class);
+    }
+
+    @Override
+    int getElementSize() {
+        return Short.BYTES;
+    }
+
+    @Override
+    void pack(short[] value, ByteBuffer buffer) {
+        buffer.asShortBuffer().put(value);
+    }
+
+    @Override
+    short[] readElements(BsonReader reader, DecoderContext decoderContext) {
+        short[] values = new short[16];
+        int size = 0;
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = reader.getCurrentBsonType() == BsonType.INT32
+                             ? (short) reader.readInt32()
+                             : (Short) readBoxed(reader, decoderContext);
+        }
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    @Override
+    short[] unpack(ByteBuffer buffer) {
+        short[] values = new short[buffer.remaining() / Short.BYTES];
+        buffer.asShortBuffer().get(values);
+        return values;
+    }
+
+    @Override
+    void writeElements(BsonWriter writer, short[] value) {
+        for (short element : value) {
+            writer.writeInt32(element);
+        }
+    }
+}
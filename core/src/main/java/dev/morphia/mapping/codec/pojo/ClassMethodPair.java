@@ -6,71 +6,75 @@ import dev.morphia.sofia.Sofia;
 import org.bson.Document;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.List;
+
+import static java.lang.invoke.MethodType.methodType;
 
 /**
+ * A lifecycle method compiled to a {@link MethodHandle} taking the document and the entity.  The method's parameters are bound once
+ * when the pair is created.
+ *
  * @morphia.internal
  */
 public class ClassMethodPair {
-    private final Class<?> type;
+    private static final MethodType INVOKER = methodType(Object.class, Object.class, Object.class);
+
     private final Method method;
-    private final Datastore datastore;
+    private final Object listener;
     private final Class<? extends Annotation> event;
+    private final MethodHandle invoker;
 
-    ClassMethodPair(Datastore datastore, Method method, Class<?> type, Class<? extends Annotation> event) {
+    ClassMethodPair(Datastore datastore, Method method, Object listener, Class<? extends Annotation> event) {
         this.event = event;
-        this.type = type;
         this.method = method;
-        this.datastore = datastore;
+        this.listener = listener;
+        invoker = compile(datastore, method, listener);
     }
 
     void invoke(Document document, Object entity) {
+        Sofia.logCallingLifecycleMethod(event.getSimpleName(), method, listener != null ? listener : entity);
         try {
-            Object instance;
-            if (type != null) {
-                instance = getOrCreateInstance(type);
-            } else {
-                instance = entity;
-            }
-
-            final Method method = getMethod();
-            method.setAccessible(true);
-
-            Sofia.logCallingLifecycleMethod(event.getSimpleName(), method, instance);
-            List<Object> args = new ArrayList<>();
-
-            for (Class<?> parameterType : method.getParameterTypes()) {
-                if (parameterType.equals(Document.class)) {
-                    args.add(document);
-                } else if (parameterType.equals(Datastore.class)) {
-                    args.add(datastore);
-                } else {
-                    args.add(entity);
-                }
-            }
-            if (instance == null) {
-                method.invoke(args.toArray());
-            } else {
-                method.invoke(instance, args.toArray());
-            }
-        } catch (ReflectiveOperationException e) {
+            Object ignored = invoker.invokeExact((Object) document, entity);
+        } catch (Throwable e) {
             throw new IllegalStateException(e.getMessage(), e);
         }
     }
 
-    private Object getOrCreateInstance(Class<?> type) {
-        try {
-            return type.getDeclaredConstructor(new Class[0]).newInstance();
-        } catch (ReflectiveOperationException e) {
-            throw new MappingException(Sofia.cannotInstantiate(type, e.getMessage()));
-        }
-
-    }
-
     Method getMethod() {
         return method;
     }
 
+    /**
+     * Adapts the method to the {@link #INVOKER} type.  The receiver is either the listener or the entity.  Each parameter is fed the
+     * document, the datastore or the entity depending on its type just as the reflective dispatch did.
+     */
+    private static MethodHandle compile(Datastore datastore, Method method, Object listener) {
+        method.setAccessible(true);
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.lookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+        Class<?>[] parameters = method.getParameterTypes();
+        handle = handle.asType(MethodType.genericMethodType(parameters.length + 1));
+
+        // positions in the intermediate (document, entity, datastore, listener) signature
+        int[] reorder = new int[parameters.length + 1];
+        reorder[0] = listener != null ? 3 : 1;
+        for (int i = 0; i < parameters.length; i++) {
+            if (parameters[i].equals(Document.class)) {
+                reorder[i + 1] = 0;
+            } else if (parameters[i].equals(Datastore.class)) {
+                reorder[i + 1] = 2;
+            } else {
+                reorder[i + 1] = 1;
+            }
+        }
+        handle = MethodHandles.permuteArguments(handle, MethodType.genericMethodType(4), reorder);
+        return MethodHandles.insertArguments(handle, 2, datastore, listener);
+    }
 }
@@ -5,23 +5,26 @@ import dev.morphia.annotations.PreLoad;
 import dev.morphia.mapping.DiscriminatorLookup;
 import dev.morphia.mapping.codec.MorphiaInstanceCreator;
 import dev.morphia.mapping.codec.reader.DocumentReader;
+import org.bson.BsonBinaryReader;
 import org.bson.BsonInvalidOperationException;
 import org.bson.BsonReader;
 import org.bson.BsonReaderMark;
 import org.bson.BsonType;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.codecs.Codec;
 import org.bson.codecs.DecoderContext;
+import org.bson.codecs.RawBsonDocumentCodec;
 import org.bson.codecs.configuration.CodecConfigurationException;
 import org.bson.codecs.configuration.CodecRegistry;
 
-import static dev.morphia.mapping.codec.Conversions.convert;
-
 /**
  * @morphia.internal
  * @since 2.0
  */
 public class EntityDecoder implements org.bson.codecs.Decoder<Object> {
+    private static final DecoderContext CHECKED_DISCRIMINATOR = DecoderContext.builder().checkedDiscriminator(true).build();
+    private static final RawBsonDocumentCodec RAW_DOCUMENT_CODEC = new RawBsonDocumentCodec();
     private final MorphiaCodec<?> morphiaCodec;
 
     protected EntityDecoder(MorphiaCodec<?> morphiaCodec) {
@@ -30,10 +33,24 @@ public class EntityDecoder implements org.bson.codecs.Decoder<Object> {
 
     @Override
     public Object decode(BsonReader reader, DecoderContext decoderContext) {
+        if (morphiaCodec.isTracked() && !decoderContext.hasCheckedDiscriminator()) {
+            // the document as stored is the entity's snapshot.  subtypes decoded on behalf of this codec are recorded here too.
+            RawBsonDocument raw = RAW_DOCUMENT_CODEC.decode(reader, decoderContext);
+            Object entity;
+            try (BsonBinaryReader rawReader = new BsonBinaryReader(raw.getByteBuffer().asNIO())) {
+                entity = decodeEntity(rawReader, decoderContext);
+            }
+            if (entity != null) {
+                morphiaCodec.getMapper().getSnapshots().record(entity, raw);
+            }
+            return entity;
+        }
+        return decodeEntity(reader, decoderContext);
+    }
+
+    private Object decodeEntity(BsonReader reader, DecoderContext decoderContext) {
         Object entity;
-        if (morphiaCodec.getMappedClass().hasLifecycle(PreLoad.class)
-            || morphiaCodec.getMappedClass().hasLifecycle(PostLoad.class)
-            || morphiaCodec.getMapper().hasInterceptors()) {
+        if (usesLifecycle()) {
             entity = decodeWithLifecycle(reader, decoderContext);
         } else {
             EntityModel classModel = morphiaCodec.getEntityModel();
@@ -41,10 +58,12 @@ public class EntityDecoder implements org.bson.codecs.Decoder<Object> {
                 MorphiaInstanceCreator instanceCreator = getInstanceCreator(classModel);
                 decodeProperties(reader, decoderContext, instanceCreator);
                 return instanceCreator.getInstance();
+            } else if (classModel.useDiscriminator()) {
+                entity = decodePolymorphic(reader, decoderContext);
             } else {
                 entity = getCodecFromDocument(reader, classModel.useDiscriminator(), classModel.getDiscriminatorKey(),
                     morphiaCodec.getRegistry(), morphiaCodec.getDiscriminatorLookup(), morphiaCodec)
-                             .decode(reader, DecoderContext.builder().checkedDiscriminator(true).build());
+                             .decode(reader, CHECKED_DISCRIMINATOR);
             }
         }
 
@@ -68,7 +87,7 @@ public class EntityDecoder implements org.bson.codecs.Decoder<Object> {
             } catch (BsonInvalidOperationException e) {
                 mark.reset();
                 final Object value = morphiaCodec.getMapper().getCodecRegistry().get(Object.class).decode(reader, decoderContext);
-                instanceCreator.set(convert(value, model.getTypeData().getType()), model);
+                instanceCreator.set(model.convert(value), model);
             }
         } else {
             reader.skipValue();
@@ -78,18 +97,103 @@ public class EntityDecoder implements org.bson.codecs.Decoder<Object> {
     protected void decodeProperties(BsonReader reader, DecoderContext decoderContext,
                                     MorphiaInstanceCreator instanceCreator) {
         reader.readStartDocument();
-        EntityModel classModel = morphiaCodec.getEntityModel();
+        decodeFields(reader, decoderContext, instanceCreator, 0);
+    }
+
+    /**
+     * Decodes the rest of a document whose discriminator has already been read.  If the discriminator was the second field the reader
+     * is taken back to the first field's value and the discriminator is simply skipped on the way through.
+     *
+     * @param reader         the reader positioned just after the discriminator
+     * @param decoderContext the decoder context
+     * @param firstName      the name of the field before the discriminator or null if the discriminator came first
+     * @param firstValue     the mark at the value of that field or null if the discriminator came first
+     * @return the entity
+     */
+    Object decodeRemaining(BsonReader reader, DecoderContext decoderContext, String firstName, BsonReaderMark firstValue) {
+        MorphiaInstanceCreator instanceCreator = getInstanceCreator(morphiaCodec.getEntityModel());
+        int position = 0;
+        if (firstValue != null) {
+            firstValue.reset();
+            position = decodeField(reader, decoderContext, instanceCreator, firstName, position);
+        }
+        decodeFields(reader, decoderContext, instanceCreator, position);
+        return instanceCreator.getInstance();
+    }
+
+    boolean usesLifecycle() {
+        return morphiaCodec.getMappedClass().hasLifecycle(PreLoad.class)
+               || morphiaCodec.getMappedClass().hasLifecycle(PostLoad.class)
+               || morphiaCodec.getMapper().hasInterceptors();
+    }
+
+    private void decodeFields(BsonReader reader, DecoderContext decoderContext, MorphiaInstanceCreator instanceCreator, int start) {
+        int position = start;
         while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
-            String name = reader.readName();
-            if (classModel.useDiscriminator() && classModel.getDiscriminatorKey().equals(name)) {
-                reader.readString();
-            } else {
-                decodeModel(reader, decoderContext, instanceCreator, classModel.getFieldModelByName(name));
-            }
+            position = decodeField(reader, decoderContext, instanceCreator, reader.readName(), position);
         }
         reader.readEndDocument();
     }
 
+    private int decodeField(BsonReader reader, DecoderContext decoderContext, MorphiaInstanceCreator instanceCreator, String name,
+                            int position) {
+        FieldIndex.Slot slot = morphiaCodec.getEntityModel().getFieldIndex().find(name, position);
+        if (slot == null) {
+            reader.skipValue();
+            return position;
+        }
+        if (slot.isDiscriminator()) {
+            reader.readString();
+        } else {
+            decodeModel(reader, decoderContext, instanceCreator, slot.getModel());
+        }
+        return slot.next(position);
+    }
+
+    /**
+     * Picks the codec from the discriminator without a separate scan when the discriminator is the first or second field, which is
+     * where the encoder puts it.  Anything else falls back to scanning for it and is counted by the {@link DiscriminatorLookup}.
+     */
+    private Object decodePolymorphic(BsonReader reader, DecoderContext decoderContext) {
+        EntityModel classModel = morphiaCodec.getEntityModel();
+        String discriminatorKey = classModel.getDiscriminatorKey();
+        BsonReaderMark start = reader.getMark();
+        reader.readStartDocument();
+        if (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String firstName = reader.readName();
+            if (discriminatorKey.equals(firstName)) {
+                return decodeInPlace(reader, decoderContext, start, reader.readString(), null, null);
+            }
+            BsonReaderMark firstValue = reader.getMark();
+            reader.skipValue();
+            if (reader.readBsonType() != BsonType.END_OF_DOCUMENT && discriminatorKey.equals(reader.readName())) {
+                return decodeInPlace(reader, decoderContext, start, reader.readString(), firstName, firstValue);
+            }
+        }
+
+        morphiaCodec.getDiscriminatorLookup().recordScan();
+        start.reset();
+        return getCodecFromDocument(reader, true, discriminatorKey, morphiaCodec.getRegistry(), morphiaCodec.getDiscriminatorLookup(),
+            morphiaCodec)
+                   .decode(reader, CHECKED_DISCRIMINATOR);
+    }
+
+    private Object decodeInPlace(BsonReader reader, DecoderContext decoderContext, BsonReaderMark start, String discriminator,
+                                 String firstName, BsonReaderMark firstValue) {
+        Codec<?> codec;
+        try {
+            codec = morphiaCodec.getRegistry().get(morphiaCodec.getDiscriminatorLookup().lookup(discriminator));
+        } catch (Exception e) {
+            throw new CodecConfigurationException(String.format("Failed to decode '%s'. Decoding errored with: %s",
+                morphiaCodec.getEntityModel().getName(), e.getMessage()), e);
+        }
+        if (codec instanceof MorphiaCodec && !((MorphiaCodec<?>) codec).getDecoder().usesLifecycle()) {
+            return ((MorphiaCodec<?>) codec).getDecoder().decodeRemaining(reader, decoderContext, firstName, firstValue);
+        }
+        start.reset();
+        return codec.decode(reader, CHECKED_DISCRIMINATOR);
+    }
+
     @SuppressWarnings("unchecked")
     protected Codec<?> getCodecFromDocument(BsonReader reader, boolean useDiscriminator, String discriminatorKey,
                                             CodecRegistry registry, DiscriminatorLookup discriminatorLookup,
@@ -125,10 +229,18 @@ public class EntityDecoder implements org.bson.codecs.Decoder<Object> {
         final MorphiaInstanceCreator instanceCreator = getInstanceCreator(morphiaCodec.getEntityModel());
         entity = instanceCreator.getInstance();
 
-        Document document = morphiaCodec.getRegistry().get(Document.class).decode(reader, decoderContext);
+        RawBsonDocument raw = RAW_DOCUMENT_CODEC.decode(reader, decoderContext);
+        LazyDocument document = new LazyDocument(raw, morphiaCodec.getRegistry().get(Document.class));
         morphiaCodec.getMappedClass().callLifecycleMethods(PreLoad.class, entity, document, morphiaCodec.getMapper());
 
-        decodeProperties(new DocumentReader(document), decoderContext, instanceCreator);
+        // callbacks may have changed the document so only read the raw bytes if none of them looked at it
+        if (document.isMaterialized()) {
+            decodeProperties(new DocumentReader(document), decoderContext, instanceCreator);
+        } else {
+            try (BsonBinaryReader binaryReader = new BsonBinaryReader(raw.getByteBuffer().asNIO())) {
+                decodeProperties(binaryReader, decoderContext, instanceCreator);
+            }
+        }
 
         morphiaCodec.getMappedClass().callLifecycleMethods(PostLoad.class, entity, document, morphiaCodec.getMapper());
         return entity;
@@ -4,12 +4,17 @@ import dev.morphia.annotations.PostPersist;
 import dev.morphia.annotations.PrePersist;
 import dev.morphia.mapping.MappedClass;
 import dev.morphia.mapping.codec.DocumentWriter;
+import dev.morphia.mapping.codec.FieldAccessor;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
 import org.bson.BsonWriter;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.codecs.Codec;
 import org.bson.codecs.EncoderContext;
 import org.bson.codecs.IdGenerator;
 import org.bson.codecs.ObjectIdGenerator;
+import org.bson.io.BasicOutputBuffer;
 import org.bson.types.ObjectId;
 
 import java.util.Collection;
@@ -31,6 +36,24 @@ class EntityEncoder implements org.bson.codecs.Encoder<Object> {
 
     @Override
     public void encode(BsonWriter writer, Object value, EncoderContext encoderContext) {
+        if (morphiaCodec.isTracked() && encoderContext.isEncodingCollectibleDocument() && !(writer instanceof DocumentWriter)
+            && value.getClass().equals(morphiaCodec.getEntityModel().getType())) {
+            // keep what is about to be written so it can become the entity's snapshot once the write succeeds
+            BasicOutputBuffer buffer = new BasicOutputBuffer();
+            try (BsonBinaryWriter binaryWriter = new BsonBinaryWriter(buffer)) {
+                encodeUntracked(binaryWriter, value, encoderContext);
+            }
+            RawBsonDocument state = new RawBsonDocument(buffer.toByteArray());
+            morphiaCodec.getMapper().getSnapshots().stage(value, state);
+            try (BsonBinaryReader reader = new BsonBinaryReader(state.getByteBuffer().asNIO())) {
+                writer.pipe(reader);
+            }
+        } else {
+            encodeUntracked(writer, value, encoderContext);
+        }
+    }
+
+    private void encodeUntracked(BsonWriter writer, Object value, EncoderContext encoderContext) {
         MappedClass mappedClass = morphiaCodec.getMappedClass();
         if (mappedClass.hasLifecycle(PostPersist.class)
             || mappedClass.hasLifecycle(PrePersist.class)
@@ -54,7 +77,7 @@ class EntityEncoder implements org.bson.codecs.Encoder<Object> {
     }
 
     @SuppressWarnings("unchecked")
-    private void encodeEntity(BsonWriter writer, Object value, EncoderContext encoderContext) {
+    void encodeEntity(BsonWriter writer, Object value, EncoderContext encoderContext) {
         if (areEquivalentTypes(value.getClass(), morphiaCodec.getEntityModel().getType())) {
             document(writer, () -> {
 
@@ -99,8 +122,27 @@ class EntityEncoder implements org.bson.codecs.Encoder<Object> {
     private <S> void encodeProperty(BsonWriter writer, Object instance, EncoderContext encoderContext,
                                     FieldModel model) {
         if (model != null) {
-            Object value = model.getAccessor().get(instance);
-            encodeValue(writer, encoderContext, model, value);
+            if (model.isPrimitiveEncoding()) {
+                encodePrimitive(writer, instance, model);
+            } else {
+                Object value = model.getAccessor().get(instance);
+                encodeValue(writer, encoderContext, model, value);
+            }
+        }
+    }
+
+    private void encodePrimitive(BsonWriter writer, Object instance, FieldModel model) {
+        FieldAccessor accessor = (FieldAccessor) model.getAccessor();
+        Class<?> type = model.getType();
+        writer.writeName(model.getMappedName());
+        if (type == int.class || type == short.class || type == byte.class) {
+            writer.writeInt32(accessor.getInt(instance));
+        } else if (type == long.class) {
+            writer.writeInt64(accessor.getLong(instance));
+        } else if (type == double.class || type == float.class) {
+            writer.writeDouble(accessor.getDouble(instance));
+        } else {
+            writer.writeBoolean(accessor.getBoolean(instance));
         }
     }
 
@@ -118,15 +160,37 @@ class EntityEncoder implements org.bson.codecs.Encoder<Object> {
     }
 
     private void encodeWithLifecycle(BsonWriter writer, Object value, EncoderContext encoderContext) {
+        MappedClass mappedClass = morphiaCodec.getMappedClass();
         Document document = new Document();
-        morphiaCodec.getMappedClass().callLifecycleMethods(PrePersist.class, value, document, morphiaCodec.getMapper());
+        mappedClass.callLifecycleMethods(PrePersist.class, value, document, morphiaCodec.getMapper());
+
+        if (!document.isEmpty() || writer instanceof DocumentWriter) {
+            final DocumentWriter documentWriter = new DocumentWriter(document);
+            encodeEntity(documentWriter, value, encoderContext);
+            document = documentWriter.getDocument();
+            mappedClass.callLifecycleMethods(PostPersist.class, value, document, morphiaCodec.getMapper());
 
-        final DocumentWriter documentWriter = new DocumentWriter(document);
-        encodeEntity(documentWriter, value, encoderContext);
-        document = documentWriter.getDocument();
-        morphiaCodec.getMappedClass().callLifecycleMethods(PostPersist.class, value, document, morphiaCodec.getMapper());
+            morphiaCodec.getRegistry().get(Document.class).encode(writer, document, encoderContext);
+        } else if (!mappedClass.hasLifecycle(PostPersist.class) && !morphiaCodec.getMapper().hasInterceptors()) {
+            encodeEntity(writer, value, encoderContext);
+        } else {
+            BasicOutputBuffer buffer = new BasicOutputBuffer();
+            try (BsonBinaryWriter binaryWriter = new BsonBinaryWriter(buffer)) {
+                encodeEntity(binaryWriter, value, encoderContext);
+            }
+            RawBsonDocument raw = new RawBsonDocument(buffer.getInternalBuffer(), 0, buffer.getPosition());
+            LazyDocument lazy = new LazyDocument(raw, morphiaCodec.getRegistry().get(Document.class));
+            mappedClass.callLifecycleMethods(PostPersist.class, value, lazy, morphiaCodec.getMapper());
 
-        morphiaCodec.getRegistry().get(Document.class).encode(writer, document, encoderContext);
+            // callbacks may have changed the document so only copy the raw bytes if none of them looked at it
+            if (lazy.isMaterialized()) {
+                morphiaCodec.getRegistry().get(Document.class).encode(writer, lazy, encoderContext);
+            } else {
+                try (BsonBinaryReader reader = new BsonBinaryReader(raw.getByteBuffer().asNIO())) {
+                    writer.pipe(reader);
+                }
+            }
+        }
     }
 
     private IdGenerator getIdGenerator() {
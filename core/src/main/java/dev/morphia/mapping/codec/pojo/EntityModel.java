@@ -16,6 +16,7 @@ import dev.morphia.sofia.Sofia;
 import org.bson.Document;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
@@ -53,7 +54,8 @@ public class EntityModel {
     private final String discriminator;
     private final Class<?> type;
     private final String collectionName;
-    private Map<Class<? extends Annotation>, List<ClassMethodPair>> lifecycleMethods;
+    private final FieldIndex fieldIndex;
+    private final Map<Class<? extends Annotation>, List<ClassMethodPair>> lifecycleMethods = new HashMap<>();
 
     /**
      * Creates a new instance
@@ -86,9 +88,12 @@ public class EntityModel {
             fieldModelsByField.putIfAbsent(model.getName(), model);
         });
 
+        fieldIndex = new FieldIndex(this, fieldModelsByMappedName, fieldModelsByField);
+
         this.datastore = builder.getDatastore();
         this.collectionName = builder.getCollectionName();
         creatorFactory = new InstanceCreatorFactoryImpl(this);
+        mapLifecycleMethods();
     }
 
     /**
@@ -164,7 +169,24 @@ public class EntityModel {
      * @return the named FieldModel or null if it does not exist
      */
     public FieldModel getFieldModelByName(String name) {
-        return fieldModelsByMappedName.getOrDefault(name, fieldModelsByField.get(name));
+        FieldIndex.Slot slot = fieldIndex.lookup(name);
+        if (slot == null) {
+            return null;
+        }
+        if (slot.isDiscriminator()) {
+            FieldModel model = fieldModelsByMappedName.get(name);
+            return model != null ? model : fieldModelsByField.get(name);
+        }
+        return slot.getModel();
+    }
+
+    /**
+     * @return the index used to resolve document field names while decoding
+     * @morphia.internal
+     * @since 2.1
+     */
+    public FieldIndex getFieldIndex() {
+        return fieldIndex;
     }
 
     /**
@@ -202,18 +224,6 @@ public class EntityModel {
      * @return the lifecycle event methods
      */
     public Map<Class<? extends Annotation>, List<ClassMethodPair>> getLifecycleMethods() {
-        if (lifecycleMethods == null) {
-            lifecycleMethods = new HashMap<>();
-
-            final EntityListeners entityLisAnn = getAnnotation(EntityListeners.class);
-            if (entityLisAnn != null && entityLisAnn.value().length != 0) {
-                for (Class<?> aClass : entityLisAnn.value()) {
-                    mapEvent(aClass, true);
-                }
-            }
-
-            mapEvent(getType(), false);
-        }
         return lifecycleMethods;
     }
 
@@ -314,14 +324,39 @@ public class EntityModel {
         return methods;
     }
 
+    private void mapLifecycleMethods() {
+        final EntityListeners entityLisAnn = getAnnotation(EntityListeners.class);
+        if (entityLisAnn != null && entityLisAnn.value().length != 0) {
+            for (Class<?> aClass : entityLisAnn.value()) {
+                mapEvent(aClass, true);
+            }
+        }
+
+        mapEvent(getType(), false);
+    }
+
     private void mapEvent(Class<?> type, boolean entityListener) {
+        Object listener = null;
         for (Method method : getDeclaredAndInheritedMethods(type)) {
             for (Class<? extends Annotation> annotationClass : LIFECYCLE_ANNOTATIONS) {
                 if (method.isAnnotationPresent(annotationClass)) {
+                    if (entityListener && listener == null) {
+                        listener = createListener(type);
+                    }
                     lifecycleMethods.computeIfAbsent(annotationClass, c -> new ArrayList<>())
-                                    .add(new ClassMethodPair(datastore, method, entityListener ? type : null, annotationClass));
+                                    .add(new ClassMethodPair(datastore, method, listener, annotationClass));
                 }
             }
         }
     }
+
+    private static Object createListener(Class<?> type) {
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor.newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new MappingException(Sofia.cannotInstantiate(type, e.getMessage()));
+        }
+    }
 }
@@ -0,0 +1,168 @@
+package dev.morphia.mapping.codec.pojo;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the encoded state of entities as they were last loaded or saved so that later writes can be reduced to the fields that
+ * actually changed.  Entities are tracked by identity and are only weakly held.
+ * <p>
+ * A loaded entity's snapshot is the raw document it was decoded from.  When an entity is encoded to be written the document is
+ * {@link #stage(Object, RawBsonDocument) staged} and only becomes its snapshot once the write is known to have succeeded.
+ *
+ * @morphia.internal
+ * @since 2.1
+ */
+public class EntitySnapshots {
+    private static final String ID = "_id";
+
+    private final Map<IdentityKey, RawBsonDocument> snapshots = new ConcurrentHashMap<>();
+    private final Map<IdentityKey, RawBsonDocument> staged = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+    /**
+     * Computes the update needed to turn one state in to another.
+     *
+     * @param before the previous state
+     * @param after  the current state
+     * @param unset  true if fields missing from the current state should be removed
+     * @return the update document or null if nothing changed
+     */
+    public static BsonDocument diff(RawBsonDocument before, BsonDocument after, boolean unset) {
+        BsonDocument previous = new BsonDocument();
+        previous.putAll(before);
+
+        BsonDocument set = new BsonDocument();
+        for (Entry<String, BsonValue> entry : after.entrySet()) {
+            String key = entry.getKey();
+            if (!ID.equals(key) && !entry.getValue().equals(previous.get(key))) {
+                set.put(key, entry.getValue());
+            }
+        }
+
+        BsonDocument unsets = new BsonDocument();
+        if (unset) {
+            for (String key : previous.keySet()) {
+                if (!ID.equals(key) && !after.containsKey(key)) {
+                    unsets.put(key, new BsonString(""));
+                }
+            }
+        }
+
+        BsonDocument update = new BsonDocument();
+        if (!set.isEmpty()) {
+            update.put("$set", set);
+        }
+        if (!unsets.isEmpty()) {
+            update.put("$unset", unsets);
+        }
+        return update.isEmpty() ? null : update;
+    }
+
+    /**
+     * Removes any snapshot held for an entity
+     *
+     * @param entity the entity
+     */
+    public void forget(Object entity) {
+        IdentityKey key = new IdentityKey(entity, null);
+        snapshots.remove(key);
+        staged.remove(key);
+    }
+
+    /**
+     * Makes the state last staged for an entity its snapshot.  If nothing was staged the entity is no longer tracked.
+     *
+     * @param entity the entity
+     */
+    public void commit(Object entity) {
+        RawBsonDocument state = staged.remove(new IdentityKey(entity, null));
+        if (state != null) {
+            record(entity, state);
+        } else {
+            forget(entity);
+        }
+    }
+
+    /**
+     * @param entity the entity
+     * @return the snapshot for the entity or null if it is not tracked
+     */
+    public RawBsonDocument get(Object entity) {
+        return snapshots.get(new IdentityKey(entity, null));
+    }
+
+    /**
+     * Records the current state of an entity
+     *
+     * @param entity the entity
+     * @param state  the encoded state
+     */
+    public void record(Object entity, RawBsonDocument state) {
+        expunge();
+        snapshots.put(new IdentityKey(entity, queue), state);
+    }
+
+    /**
+     * Holds the state an entity was encoded with until the write it was encoded for succeeds
+     *
+     * @param entity the entity
+     * @param state  the encoded state
+     * @see #commit(Object)
+     */
+    public void stage(Object entity, RawBsonDocument state) {
+        expunge();
+        staged.put(new IdentityKey(entity, queue), state);
+    }
+
+    /**
+     * @return the number of entities currently tracked
+     */
+    public int size() {
+        expunge();
+        return snapshots.size();
+    }
+
+    private void expunge() {
+        Reference<?> reference;
+        while ((reference = queue.poll()) != null) {
+            snapshots.remove(reference);
+            staged.remove(reference);
+        }
+    }
+
+    private static final class IdentityKey extends WeakReference<Object> {
+        private final int hash;
+
+        private IdentityKey(Object referent, ReferenceQueue<Object> queue) {
+            super(referent, queue);
+            hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof IdentityKey)) {
+                return false;
+            }
+            Object referent = get();
+            return referent != null && referent == ((IdentityKey) o).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package dev.morphia.mapping.codec.pojo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resolves document field names to {@link FieldModel}s while decoding.  Documents written by Morphia arrive in the order the encoder
+ * wrote them so the next field is first predicted from its position.  Only when that prediction misses is the name hashed, using a
+ * perfect hash table built for the model's names so that a lookup costs a single probe and comparison.  If no such table fits within
+ * eight slots per name, or two names share a hash code, a plain {@link HashMap} is used instead.
+ *
+ * @morphia.internal
+ * @since 2.1
+ */
+public final class FieldIndex {
+    private static final int MAX_SEEDS = 64;
+    private static final int MAX_TABLE_SCALE = 8;
+
+    private final Slot[] order;
+    private final Slot[] table;
+    private final int mask;
+    private final int seed;
+    private final Map<String, Slot> fallback;
+
+    FieldIndex(EntityModel model, Map<String, FieldModel> byMappedName, Map<String, FieldModel> byField) {
+        List<Slot> wire = new ArrayList<>();
+        Map<String, Slot> slots = new LinkedHashMap<>();
+
+        FieldModel idModel = byMappedName.get("_id");
+        if (idModel != null) {
+            wire.add(new Slot(idModel.getMappedName(), idModel, false, wire.size() + 1));
+        }
+        if (model.useDiscriminator()) {
+            wire.add(new Slot(model.getDiscriminatorKey(), null, true, wire.size() + 1));
+        }
+        for (FieldModel fieldModel : byField.values()) {
+            if (!fieldModel.equals(idModel)) {
+                wire.add(new Slot(fieldModel.getMappedName(), fieldModel, false, wire.size() + 1));
+            }
+        }
+        order = wire.toArray(new Slot[0]);
+
+        for (Slot slot : order) {
+            slots.putIfAbsent(slot.name, slot);
+        }
+        byMappedName.forEach((name, fieldModel) -> slots.putIfAbsent(name, new Slot(name, fieldModel, false, -1)));
+        byField.forEach((name, fieldModel) -> slots.putIfAbsent(name, new Slot(name, fieldModel, false, -1)));
+
+        Slot[] perfect = null;
+        int perfectSeed = 0;
+        int size = Integer.highestOneBit(Math.max(2, slots.size() * 2) - 1) << 1;
+        int maxSize = hasDistinctHashes(slots.values()) ? Math.max(size, slots.size() * MAX_TABLE_SCALE) : 0;
+        while (perfect == null && size <= maxSize) {
+            for (int candidate = 0; perfect == null && candidate < MAX_SEEDS; candidate++) {
+                perfect = place(slots.values(), size, candidate);
+                perfectSeed = candidate;
+            }
+            size <<= 1;
+        }
+
+        if (perfect != null) {
+            table = perfect;
+            mask = perfect.length - 1;
+            seed = perfectSeed;
+            fallback = null;
+        } else {
+            table = null;
+            mask = 0;
+            seed = 0;
+            fallback = new HashMap<>(slots);
+        }
+    }
+
+    private static int hash(String name, int seed) {
+        int h = (name.hashCode() ^ seed) * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static boolean hasDistinctHashes(Collection<Slot> slots) {
+        Set<Integer> hashes = new HashSet<>();
+        for (Slot slot : slots) {
+            if (!hashes.add(slot.name.hashCode())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Slot[] place(Iterable<Slot> slots, int size, int seed) {
+        Slot[] table = new Slot[size];
+        for (Slot slot : slots) {
+            int index = hash(slot.name, seed) & (size - 1);
+            if (table[index] != null) {
+                return null;
+            }
+            table[index] = slot;
+        }
+        return table;
+    }
+
+    /**
+     * Finds the slot for a field name.
+     *
+     * @param name     the document field name
+     * @param position the predicted position of the field
+     * @return the slot or null if the name is not mapped
+     */
+    public Slot find(String name, int position) {
+        if (position >= 0 && position < order.length) {
+            Slot predicted = order[position];
+            if (predicted.name.equals(name)) {
+                return predicted;
+            }
+        }
+        return lookup(name);
+    }
+
+    /**
+     * Finds the slot for a field name without a position hint.
+     *
+     * @param name the document field name
+     * @return the slot or null if the name is not mapped
+     */
+    public Slot lookup(String name) {
+        if (table != null) {
+            Slot slot = table[hash(name, seed) & mask];
+            return slot != null && slot.name.equals(name) ? slot : null;
+        }
+        return fallback.get(name);
+    }
+
+    /**
+     * A resolved field name
+     *
+     * @morphia.internal
+     */
+    public static final class Slot {
+        private final String name;
+        private final FieldModel model;
+        private final boolean discriminator;
+        private final int next;
+
+        Slot(String name, FieldModel model, boolean discriminator, int next) {
+            this.name = name;
+            this.model = model;
+            this.discriminator = discriminator;
+            this.next = next;
+        }
+
+        /**
+         * @return the field model or null if this slot holds the discriminator
+         */
+        public FieldModel getModel() {
+            return model;
+        }
+
+        /**
+         * @return true if this slot holds the discriminator
+         */
+        public boolean isDiscriminator() {
+            return discriminator;
+        }
+
+        /**
+         * @param position the current position
+         * @return the position of the field expected to follow this one
+         */
+        public int next(int position) {
+            return next >= 0 ? next : position;
+        }
+    }
+}
@@ -23,11 +23,20 @@ import dev.morphia.annotations.Reference;
 import dev.morphia.annotations.Transient;
 import dev.morphia.mapping.MappingException;
 import dev.morphia.mapping.codec.Conversions;
+import dev.morphia.mapping.codec.FieldAccessor;
+import dev.morphia.mapping.codec.MorphiaPropertySerialization;
 import dev.morphia.mapping.codec.references.MorphiaProxy;
 import dev.morphia.sofia.Sofia;
 import morphia.org.bson.codecs.pojo.TypeData;
 import org.bson.Document;
+import org.bson.codecs.BooleanCodec;
+import org.bson.codecs.ByteCodec;
 import org.bson.codecs.Codec;
+import org.bson.codecs.DoubleCodec;
+import org.bson.codecs.FloatCodec;
+import org.bson.codecs.IntegerCodec;
+import org.bson.codecs.LongCodec;
+import org.bson.codecs.ShortCodec;
 import org.bson.codecs.pojo.PropertyAccessor;
 import org.bson.codecs.pojo.PropertySerialization;
 
@@ -43,6 +52,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.function.Function;
 
 import static java.util.Arrays.asList;
 
@@ -53,6 +63,9 @@ import static java.util.Arrays.asList;
  * @since 2.0
  */
 public final class FieldModel {
+    private static final Set<Class<?>> PRIMITIVE_CODECS = Set.of(BooleanCodec.class, ByteCodec.class, ShortCodec.class, IntegerCodec.class,
+        LongCodec.class, FloatCodec.class, DoubleCodec.class);
+
     private final Field field;
     private final String name;
     private final TypeData<?> typeData;
@@ -63,7 +76,10 @@ public final class FieldModel {
     private final Map<Class<? extends Annotation>, Annotation> annotationMap = new HashMap<>();
     private final List<String> loadNames; // List of stored names in order of trying, contains nameToStore and potential aliases
     private final EntityModel entityModel;
+    private final Function<Object, ?> valueConversion;
+    private final Function<Object, ?> fieldConversion;
     private volatile Codec<? super Object> cachedCodec;
+    private volatile boolean primitiveEncoding;
     private Class<?> normalizedType;
 
     FieldModel(FieldModelBuilder builder) {
@@ -78,6 +94,8 @@ public final class FieldModel {
         serialization = builder.serialization();
 
         field.setAccessible(true);
+        valueConversion = Conversions.to(typeData.getType());
+        fieldConversion = Conversions.to(field.getType());
         builder.annotations().forEach(ann -> annotationMap.put(ann.annotationType(), ann));
 
         List<String> result;
@@ -369,6 +387,17 @@ public final class FieldModel {
                && Modifier.isTransient(getType().getModifiers());
     }
 
+    /**
+     * Converts a value to this field's type using the {@link Conversions} resolved for it
+     *
+     * @param value the value to convert
+     * @return the potentially converted value
+     * @since 2.1
+     */
+    public Object convert(Object value) {
+        return valueConversion.apply(value);
+    }
+
     /**
      * Sets the value for the java field
      *
@@ -377,8 +406,7 @@ public final class FieldModel {
      */
     public void setValue(Object instance, Object value) {
         try {
-            final Field field = getField();
-            field.set(instance, Conversions.convert(value, field.getType()));
+            getField().set(instance, fieldConversion.apply(value));
         } catch (IllegalAccessException e) {
             throw new MappingException(e.getMessage(), e);
         }
@@ -414,6 +442,18 @@ public final class FieldModel {
 
     void cachedCodec(Codec<? super Object> codec) {
         this.cachedCodec = codec;
+        primitiveEncoding = getType().isPrimitive()
+                            && accessor instanceof FieldAccessor
+                            && serialization instanceof MorphiaPropertySerialization
+                            && ((MorphiaPropertySerialization) serialization).shouldSerializeScalars()
+                            && codec != null && PRIMITIVE_CODECS.contains(codec.getClass());
+    }
+
+    /**
+     * @return true if this primitive field can be written directly from its {@link FieldAccessor} without boxing
+     */
+    boolean isPrimitiveEncoding() {
+        return primitiveEncoding;
     }
 
 }
@@ -0,0 +1,272 @@
+package dev.morphia.mapping.codec.pojo;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Decoder;
+import org.bson.codecs.Encoder;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.json.JsonWriterSettings;
+import org.bson.types.ObjectId;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A Document handed to lifecycle callbacks that is only decoded from its raw bytes if a callback actually looks at it.  Any use at all
+ * materializes it, after which it behaves like any other Document and the caller must treat it as possibly modified.
+ *
+ * @morphia.internal
+ * @since 2.1
+ */
+final class LazyDocument extends Document {
+    private static final long serialVersionUID = 1L;
+
+    private transient RawBsonDocument raw;
+    private transient Decoder<Document> decoder;
+
+    LazyDocument(RawBsonDocument raw, Decoder<Document> decoder) {
+        this.raw = raw;
+        this.decoder = decoder;
+    }
+
+    /**
+     * @return true if a caller has used this document
+     */
+    boolean isMaterialized() {
+        return raw == null;
+    }
+
+    @Override
+    public <C> BsonDocument toBsonDocument(Class<C> documentClass, CodecRegistry codecRegistry) {
+        materialize();
+        return super.toBsonDocument(documentClass, codecRegistry);
+    }
+
+    @Override
+    public Document append(String key, Object value) {
+        materialize();
+        return super.append(key, value);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> clazz) {
+        materialize();
+        return super.get(key, clazz);
+    }
+
+    @Override
+    public <T> T get(Object key, T defaultValue) {
+        materialize();
+        return super.get(key, defaultValue);
+    }
+
+    @Override
+    public <T> T getEmbedded(List<?> keys, Class<T> clazz) {
+        materialize();
+        return super.getEmbedded(keys, clazz);
+    }
+
+    @Override
+    public <T> T getEmbedded(List<?> keys, T defaultValue) {
+        materialize();
+        return super.getEmbedded(keys, defaultValue);
+    }
+
+    @Override
+    public Integer getInteger(Object key) {
+        materialize();
+        return super.getInteger(key);
+    }
+
+    @Override
+    public int getInteger(Object key, int defaultValue) {
+        materialize();
+        return super.getInteger(key, defaultValue);
+    }
+
+    @Override
+    public Long getLong(Object key) {
+        materialize();
+        return super.getLong(key);
+    }
+
+    @Override
+    public Double getDouble(Object key) {
+        materialize();
+        return super.getDouble(key);
+    }
+
+    @Override
+    public String getString(Object key) {
+        materialize();
+        return super.getString(key);
+    }
+
+    @Override
+    public Boolean getBoolean(Object key) {
+        materialize();
+        return super.getBoolean(key);
+    }
+
+    @Override
+    public boolean getBoolean(Object key, boolean defaultValue) {
+        materialize();
+        return super.getBoolean(key, defaultValue);
+    }
+
+    @Override
+    public ObjectId getObjectId(Object key) {
+        materialize();
+        return super.getObjectId(key);
+    }
+
+    @Override
+    public Date getDate(Object key) {
+        materialize();
+        return super.getDate(key);
+    }
+
+    @Override
+    public <T> List<T> getList(Object key, Class<T> clazz) {
+        materialize();
+        return super.getList(key, clazz);
+    }
+
+    @Override
+    public <T> List<T> getList(Object key, Class<T> clazz, List<T> defaultValue) {
+        materialize();
+        return super.getList(key, clazz, defaultValue);
+    }
+
+    @Override
+    public String toJson() {
+        materialize();
+        return super.toJson();
+    }
+
+    @Override
+    public String toJson(JsonWriterSettings writerSettings) {
+        materialize();
+        return super.toJson(writerSettings);
+    }
+
+    @Override
+    public String toJson(Encoder<Document> encoder) {
+        materialize();
+        return super.toJson(encoder);
+    }
+
+    @Override
+    public String toJson(JsonWriterSettings writerSettings, Encoder<Document> encoder) {
+        materialize();
+        return super.toJson(writerSettings, encoder);
+    }
+
+    @Override
+    public int size() {
+        materialize();
+        return super.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        materialize();
+        return super.isEmpty();
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        materialize();
+        return super.containsValue(value);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        materialize();
+        return super.containsKey(key);
+    }
+
+    @Override
+    public Object get(Object key) {
+        materialize();
+        return super.get(key);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        materialize();
+        return super.put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        materialize();
+        return super.remove(key);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> map) {
+        materialize();
+        super.putAll(map);
+    }
+
+    @Override
+    public void clear() {
+        materialize();
+        super.clear();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        materialize();
+        return super.keySet();
+    }
+
+    @Override
+    public Collection<Object> values() {
+        materialize();
+        return super.values();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        materialize();
+        return super.entrySet();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        materialize();
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        materialize();
+        return super.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        materialize();
+        return super.toString();
+    }
+
+    private void materialize() {
+        if (raw != null) {
+            RawBsonDocument source = raw;
+            raw = null;
+            super.putAll(source.decode(decoder));
+            decoder = null;
+        }
+    }
+
+    private Object writeReplace() {
+        materialize();
+        return new Document(this);
+    }
+}
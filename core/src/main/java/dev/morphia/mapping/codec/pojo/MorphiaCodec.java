@@ -1,6 +1,7 @@
 package dev.morphia.mapping.codec.pojo;
 
 import dev.morphia.Datastore;
+import dev.morphia.annotations.Entity;
 import dev.morphia.mapping.DiscriminatorLookup;
 import dev.morphia.mapping.MappedClass;
 import dev.morphia.mapping.Mapper;
@@ -40,6 +41,8 @@ public class MorphiaCodec<T> implements CollectibleCodec<T> {
     private final PropertyCodecRegistry propertyCodecRegistry;
     private final DiscriminatorLookup discriminatorLookup;
     private final EntityEncoder encoder = new EntityEncoder(this);
+    private final EntityDecoder decoder = new EntityDecoder(this);
+    private final boolean tracked;
 
     /**
      * Creates a new codec
@@ -61,6 +64,9 @@ public class MorphiaCodec<T> implements CollectibleCodec<T> {
         this.registry = fromRegistries(fromCodecs(this), registry);
         this.propertyCodecRegistry = new PropertyCodecRegistryImpl(this, registry, propertyCodecProviders);
         idField = mappedClass.getIdField();
+        tracked = mapper.getOptions().isTrackChanges()
+                  && entityModel.getAnnotation(Entity.class) != null
+                  && idField != null;
         specializePropertyCodecs();
     }
 
@@ -87,7 +93,7 @@ public class MorphiaCodec<T> implements CollectibleCodec<T> {
     }
 
     protected EntityDecoder getDecoder() {
-        return new EntityDecoder(this);
+        return decoder;
     }
 
     @Override
@@ -150,4 +156,13 @@ public class MorphiaCodec<T> implements CollectibleCodec<T> {
         return registry;
     }
 
+    /**
+     * @return true if entities of this type are tracked for changes
+     * @morphia.internal
+     * @since 2.1
+     */
+    public boolean isTracked() {
+        return tracked;
+    }
+
 }
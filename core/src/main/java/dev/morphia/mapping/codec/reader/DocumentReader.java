@@ -15,6 +15,7 @@ import org.bson.BsonSerializationException;
 import org.bson.BsonTimestamp;
 import org.bson.BsonType;
 import org.bson.Document;
+import org.bson.types.Binary;
 import org.bson.types.Decimal128;
 import org.bson.types.ObjectId;
 
@@ -50,17 +51,24 @@ public class DocumentReader implements BsonReader {
 
     @Override
     public BsonBinary readBinaryData() {
-        return stage().value();
+        return binary(stage().value());
     }
 
     @Override
     public byte peekBinarySubType() {
-        return stage().<BsonBinary>value().getType();
+        return binary(stage().peekValue()).getType();
     }
 
     @Override
     public int peekBinarySize() {
-        return stage().<BsonBinary>value().getData().length;
+        return binary(stage().peekValue()).getData().length;
+    }
+
+    private static BsonBinary binary(Object value) {
+        if (value instanceof Binary) {
+            return new BsonBinary(((Binary) value).getType(), ((Binary) value).getData());
+        }
+        return (BsonBinary) value;
     }
 
     @Override
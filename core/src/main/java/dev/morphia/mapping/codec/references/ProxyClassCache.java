@@ -0,0 +1,242 @@
+package dev.morphia.mapping.codec.references;
+
+import dev.morphia.mapping.MappingException;
+import dev.morphia.mapping.experimental.MorphiaReference;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy.Default;
+import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
+import net.bytebuddy.implementation.FieldAccessor;
+import net.bytebuddy.implementation.InvocationHandlerAdapter;
+import net.bytebuddy.implementation.MethodCall;
+import net.bytebuddy.matcher.ElementMatchers;
+
+import java.lang.ref.Reference;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caches the generated lazy reference proxy classes so that each type is only generated once per class loader.  Decoding a lazy
+ * reference then only needs to instantiate the cached class, passing the {@link ReferenceProxy} handling the reference to its
+ * constructor so that it is in place before the proxied type's own constructor runs.
+ * <p>
+ * The cache only holds weak references to the proxied types and class loaders and soft references to the generated classes so that it
+ * never keeps a redeployed application's class loader alive.
+ *
+ * @morphia.internal
+ * @since 2.1
+ */
+public class ProxyClassCache {
+    private static final String HANDLER_FIELD = "__morphiaReferenceProxy";
+
+    private final Map<CacheKey, ProxyClass> classes = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder generationTime = new LongAdder();
+    private final int maximumSize;
+
+    /**
+     * Creates a new cache
+     *
+     * @param maximumSize the maximum number of proxy classes to retain before evicting the least recently used
+     */
+    public ProxyClassCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("The maximum size must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Creates a new proxy instance for the given type backed by the given reference.
+     *
+     * @param type      the type to proxy
+     * @param reference the reference to inject in to the proxy
+     * @param <T>       the type of the proxy
+     * @return the new proxy
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T createProxy(Class<?> type, MorphiaReference<?> reference) {
+        Constructor<?> constructor = lookup(type, Thread.currentThread().getContextClassLoader());
+        try {
+            return (T) constructor.newInstance(new ReferenceProxy(reference));
+        } catch (ReflectiveOperationException | IllegalArgumentException e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return the number of proxy instances created from an already generated class
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of proxy classes generated
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of proxy classes evicted from the cache
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * @param unit the unit of time to report in
+     * @return the total time spent generating proxy classes
+     */
+    public long getGenerationTime(TimeUnit unit) {
+        return unit.convert(generationTime.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return the number of proxy classes currently cached
+     */
+    public int size() {
+        return classes.size();
+    }
+
+    /**
+     * Removes all the cached proxy classes.  Statistics are retained.
+     */
+    public void clear() {
+        classes.clear();
+    }
+
+    private Constructor<?> lookup(Class<?> type, ClassLoader classLoader) {
+        CacheKey key = new CacheKey(type, classLoader);
+        ProxyClass proxyClass = classes.get(key);
+        Constructor<?> constructor = proxyClass != null ? proxyClass.constructor.get() : null;
+        if (constructor != null) {
+            hits.increment();
+        } else {
+            // the generated class may have been collected since, in which case it is generated again
+            proxyClass = classes.compute(key, (k, current) -> current != null && current.constructor.get() != null
+                                                              ? current
+                                                              : generate(type, classLoader));
+            constructor = proxyClass.constructor.get();
+            evict();
+        }
+        proxyClass.lastUsed = clock.incrementAndGet();
+        return constructor;
+    }
+
+    private ProxyClass generate(Class<?> type, ClassLoader classLoader) {
+        long start = System.nanoTime();
+        try {
+            String name = (type.getPackageName().startsWith("java") ? type.getSimpleName() : type.getName()) + "$$Proxy";
+            InvocationHandlerAdapter adapter = InvocationHandlerAdapter.toField(HANDLER_FIELD);
+            Constructor<?> superConstructor = (type.isInterface() ? Object.class : type).getDeclaredConstructor();
+            Class<?> loaded = new ByteBuddy()
+                                  .subclass(type, ConstructorStrategy.Default.NO_CONSTRUCTORS)
+                                  .implement(MorphiaProxy.class)
+                                  .name(name)
+                                  .defineField(HANDLER_FIELD, InvocationHandler.class, Visibility.PRIVATE)
+
+                                  // the handler is assigned before calling super() so it is there for any method the super
+                                  // constructor calls
+                                  .defineConstructor(Visibility.PUBLIC)
+                                  .withParameters(InvocationHandler.class)
+                                  .intercept(FieldAccessor.ofField(HANDLER_FIELD).setsArgumentAt(0)
+                                                          .andThen(MethodCall.invoke(superConstructor)))
+
+                                  .invokable(ElementMatchers.isDeclaredBy(type))
+                                  .intercept(adapter)
+
+                                  .method(ElementMatchers.isDeclaredBy(MorphiaProxy.class))
+                                  .intercept(adapter)
+
+                                  .make()
+                                  .load(classLoader, Default.WRAPPER)
+                                  .getLoaded();
+
+            return new ProxyClass(loaded.getDeclaredConstructor(InvocationHandler.class));
+        } catch (ReflectiveOperationException | IllegalArgumentException e) {
+            throw new MappingException(e.getMessage(), e);
+        } finally {
+            misses.increment();
+            generationTime.add(System.nanoTime() - start);
+        }
+    }
+
+    private void evict() {
+        classes.entrySet().removeIf(entry -> entry.getKey().isCleared() || entry.getValue().constructor.get() == null);
+        while (classes.size() > maximumSize) {
+            Map.Entry<CacheKey, ProxyClass> eldest = null;
+            for (Map.Entry<CacheKey, ProxyClass> entry : classes.entrySet()) {
+                if (eldest == null || entry.getValue().lastUsed < eldest.getValue().lastUsed) {
+                    eldest = entry;
+                }
+            }
+            if (eldest != null && classes.remove(eldest.getKey(), eldest.getValue())) {
+                evictions.increment();
+            }
+        }
+    }
+
+    private static final class CacheKey {
+        private final Reference<Class<?>> type;
+        private final Reference<ClassLoader> classLoader;
+        private final boolean bootstrap;
+        private final int hash;
+
+        private CacheKey(Class<?> type, ClassLoader classLoader) {
+            this.type = new WeakReference<>(type);
+            this.classLoader = new WeakReference<>(classLoader);
+            bootstrap = classLoader == null;
+            hash = 31 * type.hashCode() + System.identityHashCode(classLoader);
+        }
+
+        private boolean isCleared() {
+            return type.get() == null || !bootstrap && classLoader.get() == null;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey that = (CacheKey) o;
+            Class<?> referent = type.get();
+            return referent != null && referent == that.type.get() && bootstrap == that.bootstrap
+                   && classLoader.get() == that.classLoader.get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public String toString() {
+            return "CacheKey{type=" + type.get() + ", classLoader=" + Objects.toString(classLoader.get()) + "}";
+        }
+    }
+
+    private static final class ProxyClass {
+        private final Reference<Constructor<?>> constructor;
+        private volatile long lastUsed;
+
+        private ProxyClass(Constructor<?> constructor) {
+            this.constructor = new SoftReference<>(constructor);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package dev.morphia.mapping.codec.references;
+
+import com.mongodb.DBRef;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import dev.morphia.Datastore;
+import dev.morphia.annotations.Reference;
+import dev.morphia.mapping.MappedClass;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.MappingException;
+import dev.morphia.mapping.codec.pojo.FieldModel;
+import dev.morphia.query.FindOptions;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DecoderContext;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import static com.mongodb.client.model.Filters.in;
+
+/**
+ * Collects the IDs referenced by a page of query results so that every referenced collection can be read with a single {@code $in}
+ * query.  While a batch is {@link Mapper#setReferenceBatch(ReferenceBatch) active} eager {@link Reference references} are resolved from
+ * the documents it loaded rather than with a query of their own.  Each lookup decodes a new instance just as a query would.
+ *
+ * @morphia.internal
+ * @since 2.1
+ */
+public class ReferenceBatch {
+    private final Datastore datastore;
+    private final FindOptions options;
+    private final ClientSession session;
+    private final Map<Class<?>, List<FieldModel>> references = new HashMap<>();
+    private final Map<String, Set<Object>> pending = new LinkedHashMap<>();
+    private final Map<String, Map<Object, RawBsonDocument>> loaded = new HashMap<>();
+
+    /**
+     * Creates a batch
+     *
+     * @param datastore the datastore
+     * @param options   the options of the query whose results are batched.  Their read preference and concern apply to the batch.
+     * @param session   the session the query runs in or null
+     */
+    public ReferenceBatch(Datastore datastore, FindOptions options, ClientSession session) {
+        this.datastore = datastore;
+        this.options = options;
+        this.session = session;
+    }
+
+    /**
+     * Records the IDs of the eager references held in a document
+     *
+     * @param document the document
+     * @param type     the type the document will be decoded as
+     */
+    public void collect(BsonDocument document, Class<?> type) {
+        Mapper mapper = datastore.getMapper();
+        MappedClass mappedClass = mapper.getMappedClass(type);
+        BsonValue discriminator = document.get(mappedClass.getEntityModel().getDiscriminatorKey());
+        if (discriminator != null && discriminator.isString()) {
+            MappedClass subtype = null;
+            try {
+                subtype = mapper.getMappedClass(mapper.getClass(discriminator.asString().getValue()));
+            } catch (MappingException ignored) {
+                // an unknown discriminator.  the declared type's references are collected instead.
+            }
+            if (subtype != null) {
+                mappedClass = subtype;
+            }
+        }
+        for (FieldModel field : references.computeIfAbsent(mappedClass.getType(), k -> findReferences(k))) {
+            BsonValue value = document.get(field.getMappedName());
+            if (value != null && !value.isNull()) {
+                ((ReferenceCodec) field.getCachedCodec()).collect(value, this);
+            }
+        }
+    }
+
+    /**
+     * Reads all the entities referenced by the documents collected since the last load.  One query is run per referenced collection.
+     */
+    public void load() {
+        for (Entry<String, Set<Object>> entry : pending.entrySet()) {
+            Map<Object, RawBsonDocument> documents = loaded.computeIfAbsent(entry.getKey(), k -> new HashMap<>());
+            for (Object id : entry.getValue()) {
+                documents.put(id, null);
+            }
+            MongoCollection<RawBsonDocument> collection = options.prepare(datastore.getDatabase()
+                                                                                   .getCollection(entry.getKey(), RawBsonDocument.class));
+            FindIterable<RawBsonDocument> found = session == null
+                                                  ? collection.find(in("_id", entry.getValue()))
+                                                  : collection.find(session, in("_id", entry.getValue()));
+            try (MongoCursor<RawBsonDocument> cursor = found.iterator()) {
+                while (cursor.hasNext()) {
+                    RawBsonDocument document = cursor.next();
+                    documents.put(decodeId(document.get("_id")), document);
+                }
+            }
+        }
+        pending.clear();
+    }
+
+    /**
+     * Discards everything collected and loaded so far
+     */
+    public void clear() {
+        pending.clear();
+        loaded.clear();
+    }
+
+    /**
+     * Checks if the batch loaded an ID
+     *
+     * @param collection the collection name
+     * @param id         the ID
+     * @return true if the batch has looked up this ID.  The entity itself may not exist.
+     */
+    public boolean contains(String collection, Object id) {
+        Map<Object, RawBsonDocument> documents = loaded.get(collection);
+        return documents != null && documents.containsKey(id);
+    }
+
+    /**
+     * Decodes a loaded entity
+     *
+     * @param collection the collection name
+     * @param id         the ID
+     * @param type       the type to decode the entity as.  This should be the type a query for the reference would have used.
+     * @return the entity or null if it does not exist
+     * @see #contains(String, Object)
+     */
+    public Object get(String collection, Object id, Class<?> type) {
+        Map<Object, RawBsonDocument> documents = loaded.get(collection);
+        RawBsonDocument document = documents != null ? documents.get(id) : null;
+        if (document == null) {
+            return null;
+        }
+        return document.decode(datastore.getMapper().getCodecRegistry().get(type));
+    }
+
+    /**
+     * Decodes the loaded entities for a list of IDs
+     *
+     * @param collection the collection name
+     * @param ids        the IDs
+     * @param type       the type to decode the entities as
+     * @return the entities found keyed by their IDs or null if the batch has not looked up all the IDs
+     */
+    public Map<Object, Object> find(String collection, List<Object> ids, Class<?> type) {
+        Map<Object, Object> entities = new HashMap<>();
+        for (Object id : ids) {
+            if (!contains(collection, id)) {
+                return null;
+            }
+            Object entity = get(collection, id, type);
+            if (entity != null) {
+                entities.put(datastore.getMapper().getId(entity), entity);
+            }
+        }
+        return entities;
+    }
+
+    void add(MappedClass fieldClass, Object ids) {
+        if (ids instanceof DBRef) {
+            register(((DBRef) ids).getCollectionName(), ((DBRef) ids).getId());
+        } else if (ids instanceof Iterable) {
+            for (Object id : (Iterable<?>) ids) {
+                add(fieldClass, id);
+            }
+        } else if (ids != null && !(ids instanceof Document) && !fieldClass.getType().isInstance(ids)) {
+            register(fieldClass.getCollectionName(), ids);
+        }
+    }
+
+    private Object decodeId(BsonValue value) {
+        BsonDocumentReader reader = new BsonDocumentReader(new BsonDocument("_id", value));
+        reader.readStartDocument();
+        reader.readBsonType();
+        reader.skipName();
+        return ReferenceCodec.readValue(datastore.getMapper(), reader, DecoderContext.builder().build());
+    }
+
+    private List<FieldModel> findReferences(Class<?> type) {
+        List<FieldModel> fields = new ArrayList<>();
+        for (FieldModel field : datastore.getMapper().getMappedClass(type).getFields()) {
+            if (field.getCachedCodec() instanceof ReferenceCodec && !field.getAnnotation(Reference.class).lazy()) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    private void register(String collection, Object id) {
+        if (!contains(collection, id)) {
+            pending.computeIfAbsent(collection, k -> new LinkedHashSet<>()).add(id);
+        }
+    }
+}
@@ -21,12 +21,10 @@ import dev.morphia.mapping.experimental.SingleReference;
 import dev.morphia.mapping.lazy.proxy.ReferenceException;
 import dev.morphia.sofia.Sofia;
 import morphia.org.bson.codecs.pojo.TypeData;
-import net.bytebuddy.ByteBuddy;
-import net.bytebuddy.dynamic.DynamicType.Loaded;
-import net.bytebuddy.dynamic.loading.ClassLoadingStrategy.Default;
-import net.bytebuddy.implementation.InvocationHandlerAdapter;
-import net.bytebuddy.matcher.ElementMatchers;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
 import org.bson.BsonReader;
+import org.bson.BsonValue;
 import org.bson.BsonWriter;
 import org.bson.Document;
 import org.bson.codecs.BsonTypeClassMap;
@@ -51,8 +49,8 @@ import static dev.morphia.aggregation.experimental.codecs.ExpressionHelper.docum
  */
 @SuppressWarnings("unchecked")
 public class ReferenceCodec extends PropertyCodec<Object> implements PropertyHandler {
+    private static final BsonTypeClassMap BSON_TYPE_CLASS_MAP = new BsonTypeClassMap();
     private final Reference annotation;
-    private final BsonTypeClassMap bsonTypeClassMap = new BsonTypeClassMap();
 
     /**
      * Creates a codec
@@ -144,11 +142,15 @@ public class ReferenceCodec extends PropertyCodec<Object> implements PropertyHan
         return idValue;
     }
 
+    static Object readValue(Mapper mapper, BsonReader reader, DecoderContext decoderContext) {
+        return mapper.getCodecRegistry()
+                     .get(BSON_TYPE_CLASS_MAP.get(reader.getCurrentBsonType()))
+                     .decode(reader, decoderContext);
+    }
+
     @Override
     public Object decode(BsonReader reader, DecoderContext decoderContext) {
-        Object decode = getDatastore().getMapper().getCodecRegistry()
-                                      .get(bsonTypeClassMap.get(reader.getCurrentBsonType()))
-                                      .decode(reader, decoderContext);
+        Object decode = readValue(getDatastore().getMapper(), reader, decoderContext);
         decode = processId(decode, getDatastore().getMapper(), decoderContext);
         return fetch(decode);
     }
@@ -214,30 +216,21 @@ public class ReferenceCodec extends PropertyCodec<Object> implements PropertyHan
         }
     }
 
-    private <T> T createProxy(MorphiaReference reference) {
-        ReferenceProxy referenceProxy = new ReferenceProxy(reference);
-        try {
-            Class<?> type = getField().getType();
-            String name = (type.getPackageName().startsWith("java") ? type.getSimpleName() : type.getName()) + "$$Proxy";
-            return ((Loaded<T>) new ByteBuddy()
-                                    .subclass(type)
-                                    .implement(MorphiaProxy.class)
-                                    .name(name)
-
-                                    .invokable(ElementMatchers.isDeclaredBy(type))
-                                    .intercept(InvocationHandlerAdapter.of(referenceProxy))
-
-                                    .method(ElementMatchers.isDeclaredBy(MorphiaProxy.class))
-                                    .intercept(InvocationHandlerAdapter.of(referenceProxy))
-
-                                    .make()
-                                    .load(Thread.currentThread().getContextClassLoader(), Default.WRAPPER))
-                       .getLoaded()
-                       .getDeclaredConstructor()
-                       .newInstance();
-        } catch (ReflectiveOperationException | IllegalArgumentException e) {
-            throw new MappingException(e.getMessage(), e);
+    void collect(BsonValue value, ReferenceBatch batch) {
+        BsonDocumentReader reader = new BsonDocumentReader(new BsonDocument("ref", value));
+        reader.readStartDocument();
+        reader.readBsonType();
+        reader.skipName();
+        DecoderContext decoderContext = DecoderContext.builder().build();
+        Object ids = processId(readValue(getDatastore().getMapper(), reader, decoderContext), getDatastore().getMapper(), decoderContext);
+        if (ids instanceof Map && Map.class.isAssignableFrom(getField().getType())) {
+            ids = ((Map<?, ?>) ids).values();
         }
+        batch.add(getFieldMappedClass(), ids);
+    }
+
+    private <T> T createProxy(MorphiaReference reference) {
+        return getDatastore().getMapper().getProxyClassCache().createProxy(getField().getType(), reference);
     }
 
     private Object fetch(Object value) {
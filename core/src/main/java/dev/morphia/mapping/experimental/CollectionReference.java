@@ -6,6 +6,7 @@ import dev.morphia.Datastore;
 import dev.morphia.mapping.MappedClass;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.FieldModel;
+import dev.morphia.mapping.codec.references.ReferenceBatch;
 import dev.morphia.mapping.codec.references.ReferenceCodec;
 import dev.morphia.mapping.lazy.proxy.ReferenceException;
 import dev.morphia.sofia.Sofia;
@@ -158,21 +159,26 @@ public abstract class CollectionReference<C extends Collection> extends MorphiaR
     abstract Collection<?> getValues();
 
     Map<Object, Object> query(String collection, List<Object> collectionIds) {
-
-        final Map<Object, Object> idMap = new HashMap<>();
-        try (MongoCursor<?> cursor = getDatastore().find(collection)
-                                                   .disableValidation()
-                                                   .filter(in("_id", collectionIds)).iterator()) {
-            while (cursor.hasNext()) {
-                final Object entity = cursor.next();
-                idMap.put(getDatastore().getMapper().getId(entity), entity);
+        ReferenceBatch batch = getDatastore().getMapper().getReferenceBatch();
+        Map<Object, Object> idMap = batch != null
+                                    ? batch.find(collection, collectionIds, getDatastore().getMapper().getClassFromCollection(collection))
+                                    : null;
+        if (idMap == null) {
+            idMap = new HashMap<>();
+            try (MongoCursor<?> cursor = getDatastore().find(collection)
+                                                       .disableValidation()
+                                                       .filter(in("_id", collectionIds)).iterator()) {
+                while (cursor.hasNext()) {
+                    final Object entity = cursor.next();
+                    idMap.put(getDatastore().getMapper().getId(entity), entity);
+                }
             }
+        }
 
-            if (!ignoreMissing() && idMap.size() != collectionIds.size()) {
-                throw new ReferenceException(
-                    Sofia.missingReferencedEntities(mappedClass.getType().getSimpleName()));
+        if (!ignoreMissing() && idMap.size() != collectionIds.size()) {
+            throw new ReferenceException(
+                Sofia.missingReferencedEntities(mappedClass.getType().getSimpleName()));
 
-            }
         }
 
         return idMap;
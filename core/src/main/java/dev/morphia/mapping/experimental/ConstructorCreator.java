@@ -7,11 +7,14 @@ import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.FieldModel;
 import dev.morphia.sofia.Sofia;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Parameter;
-import java.util.LinkedHashMap;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.function.BiFunction;
+
+import static java.lang.invoke.MethodType.methodType;
 
 /**
  * Defines a Creator that uses a full constructor to create an instance rather than field injection.  This requires that a class have a
@@ -20,40 +23,25 @@ import java.util.function.BiFunction;
  * @morphia.internal
  */
 public class ConstructorCreator implements MorphiaInstanceCreator {
+    private final Layout layout;
     private final Object[] parameters;
-    private final Constructor<?> constructor;
-    private final EntityModel model;
-    private final Map<String, BiFunction<Object[], Object, Void>> positions = new LinkedHashMap<>();
 
     /**
      * @param model the model
      */
     public ConstructorCreator(EntityModel model) {
-        this.model = model;
-        constructor = getFullConstructor(model);
-        if (constructor == null) {
-            throw new MappingException(Sofia.noSuitableConstructor(model.getType()));
-        }
-        constructor.setAccessible(true);
-
-        final Parameter[] constructorParameters = constructor.getParameters();
-        this.parameters = new Object[constructorParameters.length];
-        for (int i = 0; i < constructorParameters.length; i++) {
-            final Parameter parameter = constructorParameters[i];
-            final int finalI = i;
-            String name = getParameterName(parameter);
-            if (name.matches("arg[0-9]+")) {
-                throw new MappingException(Sofia.unnamedConstructorParameter(model.getType().getName()));
-            }
-            BiFunction<Object[], Object, Void> old = positions.put(name, (Object[] params, Object v) -> {
-                params[finalI] = v;
-                return null;
-            });
+        this(new Layout(model));
+    }
 
-            if (old != null) {
-                throw new MappingException(Sofia.duplicatedParameterName(model.getType().getName(), name));
-            }
-        }
+    /**
+     * Creates a creator for a constructor that has already been resolved
+     *
+     * @param layout the constructor layout
+     * @since 2.1
+     */
+    public ConstructorCreator(Layout layout) {
+        this.layout = layout;
+        this.parameters = new Object[layout.positions.size()];
     }
 
     /**
@@ -83,15 +71,63 @@ public class ConstructorCreator implements MorphiaInstanceCreator {
 
     @Override
     public void set(Object value, FieldModel model) {
-        positions.get(model.getName()).apply(parameters, value);
+        parameters[layout.positions.get(model.getName())] = value;
     }
 
     @Override
     public Object getInstance() {
         try {
-            return constructor.newInstance(parameters);
-        } catch (ReflectiveOperationException e) {
-            throw new MappingException(Sofia.cannotInstantiate(model.getType().getName(), e.getMessage()));
+            return layout.constructor.invokeExact(parameters);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new MappingException(Sofia.cannotInstantiate(layout.model.getType().getName(), e.getMessage()), e);
+        }
+    }
+
+    /**
+     * The parts of a {@link ConstructorCreator} that are the same for every instance of a type: the constructor itself and the position
+     * of each field in its parameter list.
+     *
+     * @morphia.internal
+     * @since 2.1
+     */
+    public static final class Layout {
+        private final EntityModel model;
+        private final MethodHandle constructor;
+        private final Map<String, Integer> positions = new HashMap<>();
+
+        /**
+         * Resolves the full constructor of a type
+         *
+         * @param model the model
+         */
+        public Layout(EntityModel model) {
+            this.model = model;
+            Constructor<?> fullConstructor = getFullConstructor(model);
+            if (fullConstructor == null) {
+                throw new MappingException(Sofia.noSuitableConstructor(model.getType()));
+            }
+            fullConstructor.setAccessible(true);
+
+            final Parameter[] constructorParameters = fullConstructor.getParameters();
+            for (int i = 0; i < constructorParameters.length; i++) {
+                String name = getParameterName(constructorParameters[i]);
+                if (name.matches("arg[0-9]+")) {
+                    throw new MappingException(Sofia.unnamedConstructorParameter(model.getType().getName()));
+                }
+                if (positions.put(name, i) != null) {
+                    throw new MappingException(Sofia.duplicatedParameterName(model.getType().getName(), name));
+                }
+            }
+            try {
+                constructor = MethodHandles.lookup()
+                                           .unreflectConstructor(fullConstructor)
+                                           .asSpreader(Object[].class, constructorParameters.length)
+                                           .asType(methodType(Object.class, Object[].class));
+            } catch (IllegalAccessException e) {
+                throw new MappingException(Sofia.cannotInstantiate(model.getType().getName(), e.getMessage()), e);
+            }
         }
     }
 }
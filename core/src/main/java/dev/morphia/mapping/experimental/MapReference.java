@@ -6,6 +6,7 @@ import dev.morphia.Datastore;
 import dev.morphia.mapping.MappedClass;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.FieldModel;
+import dev.morphia.mapping.codec.references.ReferenceBatch;
 import dev.morphia.mapping.codec.references.ReferenceCodec;
 import org.bson.Document;
 
@@ -137,20 +138,27 @@ public class MapReference<T> extends MorphiaReference<Map<Object, T>> {
     @SuppressWarnings("unchecked")
     private void readFromSingleCollection(String collection, List<Object> collectionIds) {
 
-        try (MongoCursor<T> cursor = (MongoCursor<T>) getDatastore().find(collection)
-                                                                    .filter(in("_id", collectionIds)).iterator()) {
-            final Map<Object, T> idMap = new HashMap<>();
-            while (cursor.hasNext()) {
-                final T entity = cursor.next();
-                idMap.put(getDatastore().getMapper().getId(entity), entity);
+        ReferenceBatch batch = getDatastore().getMapper().getReferenceBatch();
+        Map<Object, T> idMap = batch != null
+                               ? (Map<Object, T>) batch.find(collection, collectionIds,
+                                   getDatastore().getMapper().getClassFromCollection(collection))
+                               : null;
+        if (idMap == null) {
+            idMap = new HashMap<>();
+            try (MongoCursor<T> cursor = (MongoCursor<T>) getDatastore().find(collection)
+                                                                        .filter(in("_id", collectionIds)).iterator()) {
+                while (cursor.hasNext()) {
+                    final T entity = cursor.next();
+                    idMap.put(getDatastore().getMapper().getId(entity), entity);
+                }
             }
+        }
 
-            for (Entry<String, Object> entry : ids.entrySet()) {
-                final Object id = entry.getValue();
-                final T value = idMap.get(id instanceof DBRef ? ((DBRef) id).getId() : id);
-                if (value != null) {
-                    values.put(entry.getKey(), value);
-                }
+        for (Entry<String, Object> entry : ids.entrySet()) {
+            final Object id = entry.getValue();
+            final T value = idMap.get(id instanceof DBRef ? ((DBRef) id).getId() : id);
+            if (value != null) {
+                values.put(entry.getKey(), value);
             }
         }
     }
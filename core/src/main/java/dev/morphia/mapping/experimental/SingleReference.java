@@ -5,6 +5,7 @@ import dev.morphia.Datastore;
 import dev.morphia.mapping.MappedClass;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.FieldModel;
+import dev.morphia.mapping.codec.references.ReferenceBatch;
 import dev.morphia.mapping.lazy.proxy.ReferenceException;
 import dev.morphia.query.Query;
 import dev.morphia.sofia.Sofia;
@@ -77,7 +78,7 @@ public class SingleReference<T> extends MorphiaReference<T> {
     @Override
     public T get() {
         if (!isResolved() && value == null && id != null) {
-            value = (T) buildQuery().iterator().tryNext();
+            value = (T) fetch();
             if (value == null && !ignoreMissing()) {
                 throw new ReferenceException(
                     Sofia.missingReferencedEntity(mappedClass.getType().getSimpleName()));
@@ -92,6 +93,21 @@ public class SingleReference<T> extends MorphiaReference<T> {
         return (Class<T>) mappedClass.getType();
     }
 
+    private Object fetch() {
+        ReferenceBatch batch = getDatastore().getMapper().getReferenceBatch();
+        if (batch != null) {
+            String collection = id instanceof DBRef ? ((DBRef) id).getCollectionName() : mappedClass.getCollectionName();
+            Object key = id instanceof DBRef ? ((DBRef) id).getId() : id;
+            if (batch.contains(collection, key)) {
+                Class<?> type = id instanceof DBRef
+                                ? getDatastore().getMapper().getClassFromCollection(collection)
+                                : mappedClass.getType();
+                return batch.get(collection, key, type);
+            }
+        }
+        return buildQuery().iterator().tryNext();
+    }
+
     Query<?> buildQuery() {
         final Query<?> query;
         if (id instanceof DBRef) {
@@ -35,6 +35,7 @@ import org.bson.types.ObjectId;
 
 import java.util.Map.Entry;
 import java.util.StringJoiner;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -68,6 +69,9 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
     private Projection projection;
     private String queryLogId;
     private ClientSession clientSession;
+    private int referencePageSize;
+    private int prefetch;
+    private Executor prefetchExecutor;
 
     /**
      * Creates an instance with default values
@@ -213,6 +217,9 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
         this.projection = original.projection;
         this.queryLogId = original.queryLogId;
         this.clientSession = original.clientSession;
+        this.referencePageSize = original.referencePageSize;
+        this.prefetch = original.prefetch;
+        this.prefetchExecutor = original.prefetchExecutor;
 
         return this;
     }
@@ -369,6 +376,8 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
                    .add("readPreference=" + readPreference)
                    .add("projection=" + projection)
                    .add("queryLogId='" + queryLogId + "'")
+                   .add("referencePageSize=" + referencePageSize)
+                   .add("prefetch=" + prefetch)
                    .toString();
     }
 
@@ -394,6 +403,33 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
         return this;
     }
 
+    /**
+     * @return the number of results to resolve eager references for at a time
+     * @see #referencePageSize(int)
+     * @since 2.1
+     */
+    public int getReferencePageSize() {
+        return referencePageSize;
+    }
+
+    /**
+     * @return the number of results to read ahead of the application
+     * @see #prefetch(int)
+     * @since 2.1
+     */
+    public int getPrefetch() {
+        return prefetch;
+    }
+
+    /**
+     * @return the executor to read ahead on or null to use Morphia's own
+     * @see #prefetch(int, Executor)
+     * @since 2.1
+     */
+    public Executor getPrefetchExecutor() {
+        return prefetchExecutor;
+    }
+
     /**
      * @return the sort criteria
      */
@@ -585,6 +621,42 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
         return this;
     }
 
+    /**
+     * Reads results ahead of the application on a background thread.  The thread runs the {@code getMore} for the next batch and
+     * decodes it while the application works through the results already read.  At most this many decoded results are held waiting
+     * for the application.  Tailable cursors and cursors read in a {@link com.mongodb.client.ClientSession} are never read ahead.
+     * <p>
+     * The cursor must be closed if it is not read to the end so the background read stops.
+     *
+     * @param prefetch the number of results to hold.  0, the default, disables reading ahead.
+     * @throws IllegalArgumentException if prefetch is negative
+     * @return this
+     * @since 2.1
+     */
+    public FindOptions prefetch(int prefetch) {
+        return prefetch(prefetch, null);
+    }
+
+    /**
+     * Reads results ahead of the application on the given executor.  Each cursor occupies one of the executor's threads until it is read
+     * to the end or closed.
+     *
+     * @param prefetch the number of results to hold.  0, the default, disables reading ahead.
+     * @param executor the executor to read on or null to use Morphia's own
+     * @return this
+     * @throws IllegalArgumentException if prefetch is negative
+     * @see #prefetch(int)
+     * @since 2.1
+     */
+    public FindOptions prefetch(int prefetch, Executor executor) {
+        if (prefetch < 0) {
+            throw new IllegalArgumentException(Sofia.invalidPrefetch(prefetch));
+        }
+        this.prefetch = prefetch;
+        this.prefetchExecutor = executor;
+        return this;
+    }
+
     /**
      * @return the projection
      */
@@ -627,6 +699,9 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
         result = 31 * result + (isShowRecordId() ? 1 : 0);
         result = 31 * result + (getReadPreference() != null ? getReadPreference().hashCode() : 0);
         result = 31 * result + (getProjection() != null ? getProjection().hashCode() : 0);
+        result = 31 * result + getReferencePageSize();
+        result = 31 * result + getPrefetch();
+        result = 31 * result + (getPrefetchExecutor() != null ? getPrefetchExecutor().hashCode() : 0);
         return result;
     }
 
@@ -671,12 +746,23 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
         if (isShowRecordId() != that.isShowRecordId()) {
             return false;
         }
+        if (getReferencePageSize() != that.getReferencePageSize()) {
+            return false;
+        }
         if (getSort() != null ? !getSort().equals(that.getSort()) : that.getSort() != null) {
             return false;
         }
         if (getCursorType() != that.getCursorType()) {
             return false;
         }
+        if (getPrefetch() != that.getPrefetch()) {
+            return false;
+        }
+        if (getPrefetchExecutor() != null
+            ? !getPrefetchExecutor().equals(that.getPrefetchExecutor())
+            : that.getPrefetchExecutor() != null) {
+            return false;
+        }
         if (getCollation() != null ? !getCollation().equals(that.getCollation()) : that.getCollation() != null) {
             return false;
         }
@@ -701,6 +787,23 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
         return getProjection() != null ? getProjection().equals(that.getProjection()) : that.getProjection() == null;
     }
 
+    /**
+     * Resolves the eager {@link dev.morphia.annotations.Reference references} of the results a page at a time.  The cursor decodes this
+     * many documents at once and reads every entity they reference with one query per referenced collection instead of one query per
+     * reference.  Tailable cursors always resolve references as each document arrives.
+     *
+     * @param referencePageSize the number of results per page.  0, the default, disables batching.
+     * @return this
+     * @since 2.1
+     */
+    public FindOptions referencePageSize(int referencePageSize) {
+        if (referencePageSize < 0) {
+            throw new IllegalArgumentException(Sofia.invalidReferencePageSize(referencePageSize));
+        }
+        this.referencePageSize = referencePageSize;
+        return this;
+    }
+
     /**
      * Sets if only the key value should be returned
      *
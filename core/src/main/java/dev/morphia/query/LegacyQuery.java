@@ -161,14 +161,18 @@ public class LegacyQuery<T> implements CriteriaContainer, Query<T> {
     public DeleteResult delete(DeleteOptions options) {
         MongoCollection<T> collection = options.prepare(getCollection());
         ClientSession session = datastore.findSession(options);
-        if (options.isMulti()) {
-            return session == null
-                   ? collection.deleteMany(getQueryDocument(), options)
-                   : collection.deleteMany(session, getQueryDocument(), options);
-        } else {
-            return session == null
-                   ? collection.deleteOne(getQueryDocument(), options)
-                   : collection.deleteOne(session, getQueryDocument(), options);
+        try {
+            if (options.isMulti()) {
+                return session == null
+                       ? collection.deleteMany(getQueryDocument(), options)
+                       : collection.deleteMany(session, getQueryDocument(), options);
+            } else {
+                return session == null
+                       ? collection.deleteOne(getQueryDocument(), options)
+                       : collection.deleteOne(session, getQueryDocument(), options);
+            }
+        } finally {
+            mapper.getEntityCache().invalidate(getCollection().getNamespace().getCollectionName(), getQueryDocument(), session);
         }
     }
 
@@ -190,9 +194,13 @@ public class LegacyQuery<T> implements CriteriaContainer, Query<T> {
     public T findAndDelete(FindAndDeleteOptions options) {
         MongoCollection<T> mongoCollection = options.prepare(getCollection());
         ClientSession session = datastore.findSession(options);
-        return session == null
-               ? mongoCollection.findOneAndDelete(getQueryDocument(), options)
-               : mongoCollection.findOneAndDelete(session, getQueryDocument(), options);
+        try {
+            return session == null
+                   ? mongoCollection.findOneAndDelete(getQueryDocument(), options)
+                   : mongoCollection.findOneAndDelete(session, getQueryDocument(), options);
+        } finally {
+            mapper.getEntityCache().invalidate(getCollection().getNamespace().getCollectionName(), getQueryDocument(), session);
+        }
     }
 
     /**
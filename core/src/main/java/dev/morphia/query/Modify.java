@@ -45,9 +45,14 @@ public class Modify<T> extends UpdateBase<T> {
     public T execute(ModifyOptions options) {
         ClientSession session = getDatastore().findSession(options);
         Document update = toDocument();
-
-        return session == null
-               ? options.prepare(getCollection()).findOneAndUpdate(getQuery().toDocument(), update, options)
-               : options.prepare(getCollection()).findOneAndUpdate(session, getQuery().toDocument(), update, options);
+        Document query = getQuery().toDocument();
+
+        try {
+            return session == null
+                   ? options.prepare(getCollection()).findOneAndUpdate(query, update, options)
+                   : options.prepare(getCollection()).findOneAndUpdate(session, query, update, options);
+        } finally {
+            invalidate(query, session);
+        }
     }
 }
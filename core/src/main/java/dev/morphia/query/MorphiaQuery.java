@@ -9,6 +9,7 @@ import com.mongodb.client.result.DeleteResult;
 import dev.morphia.Datastore;
 import dev.morphia.DeleteOptions;
 import dev.morphia.annotations.Entity;
+import dev.morphia.internal.EntityCache.Region;
 import dev.morphia.mapping.MappedClass;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.DocumentWriter;
@@ -16,20 +17,35 @@ import dev.morphia.query.experimental.filters.Filter;
 import dev.morphia.query.experimental.filters.Filters;
 import dev.morphia.query.experimental.filters.NearFilter;
 import dev.morphia.query.experimental.updates.UpdateOperator;
+import dev.morphia.query.internal.CachedCursor;
 import dev.morphia.query.internal.MorphiaCursor;
 import dev.morphia.query.internal.MorphiaKeyCursor;
+import dev.morphia.query.internal.PrefetchingCursor;
+import dev.morphia.query.internal.QueryTemplate;
+import dev.morphia.query.internal.QueryTemplate.TemplateWriter;
+import dev.morphia.query.internal.ReferenceBatchingCursor;
 import dev.morphia.sofia.Sofia;
+import org.bson.BsonArray;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.codecs.EncoderContext;
+import org.bson.conversions.Bson;
+import org.bson.io.BasicOutputBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.StringJoiner;
+import java.util.stream.Stream;
 
 import static com.mongodb.CursorType.NonTailable;
 import static dev.morphia.aggregation.experimental.codecs.ExpressionHelper.document;
@@ -97,24 +113,35 @@ public class MorphiaQuery<T> implements Query<T> {
 
     @Override
     public long count(CountOptions options) {
+        return count(getQueryBson(false), options);
+    }
+
+    long count(Bson query, CountOptions options) {
         ClientSession session = datastore.findSession(options);
-        Document query = getQueryDocument();
         return session == null ? getCollection().countDocuments(query, options)
                                : getCollection().countDocuments(session, query, options);
     }
 
     @Override
     public DeleteResult delete(DeleteOptions options) {
+        return delete(getQueryBson(false), options);
+    }
+
+    DeleteResult delete(Bson query, DeleteOptions options) {
         MongoCollection<T> collection = options.prepare(getCollection());
         ClientSession session = datastore.findSession(options);
-        if (options.isMulti()) {
-            return session == null
-                   ? collection.deleteMany(getQueryDocument(), options)
-                   : collection.deleteMany(session, getQueryDocument(), options);
-        } else {
-            return session == null
-                   ? collection.deleteOne(getQueryDocument(), options)
-                   : collection.deleteOne(session, getQueryDocument(), options);
+        try {
+            if (options.isMulti()) {
+                return session == null
+                       ? collection.deleteMany(query, options)
+                       : collection.deleteMany(session, query, options);
+            } else {
+                return session == null
+                       ? collection.deleteOne(query, options)
+                       : collection.deleteOne(session, query, options);
+            }
+        } finally {
+            mapper.getEntityCache().invalidate(getCollectionName(), query, session);
         }
     }
 
@@ -135,7 +162,7 @@ public class MorphiaQuery<T> implements Query<T> {
         return new LinkedHashMap<>(datastore.getDatabase()
                                             .runCommand(new Document("explain",
                                                 new Document("find", getCollection().getNamespace().getCollectionName())
-                                                    .append("filter", getQueryDocument()))));
+                                                    .append("filter", getQueryBson(false)))));
     }
 
     @Override
@@ -169,11 +196,19 @@ public class MorphiaQuery<T> implements Query<T> {
 
     @Override
     public T findAndDelete(FindAndDeleteOptions options) {
+        return findAndDelete(getQueryBson(false), options);
+    }
+
+    T findAndDelete(Bson query, FindAndDeleteOptions options) {
         MongoCollection<T> mongoCollection = options.prepare(getCollection());
         ClientSession session = datastore.findSession(options);
-        return session == null
-               ? mongoCollection.findOneAndDelete(getQueryDocument(), options)
-               : mongoCollection.findOneAndDelete(session, getQueryDocument(), options);
+        try {
+            return session == null
+                   ? mongoCollection.findOneAndDelete(query, options)
+                   : mongoCollection.findOneAndDelete(session, query, options);
+        } finally {
+            mapper.getEntityCache().invalidate(getCollectionName(), query, session);
+        }
     }
 
     @Override
@@ -183,7 +218,11 @@ public class MorphiaQuery<T> implements Query<T> {
 
     @Override
     public T first(FindOptions options) {
-        try (MongoCursor<T> it = iterator(options.copy().limit(1))) {
+        return first(getQueryBson(true), options);
+    }
+
+    T first(Bson query, FindOptions options) {
+        try (MongoCursor<T> it = iterator(query, options.copy().limit(1))) {
             return it.tryNext();
         }
     }
@@ -200,7 +239,121 @@ public class MorphiaQuery<T> implements Query<T> {
 
     @Override
     public MorphiaCursor<T> iterator(FindOptions options) {
-        return new MorphiaCursor<>(prepareCursor(options, getCollection()));
+        return iterator(getQueryBson(true), options);
+    }
+
+    MorphiaCursor<T> iterator(Bson query, FindOptions options) {
+        Region region = cacheRegion(options);
+        List<BsonValue> ids = region != null ? mapper.getEntityCache().ids(query) : null;
+        if (ids != null && (options.getLimit() == 0 || Math.abs(options.getLimit()) >= ids.size())) {
+            return new MorphiaCursor<>(new CachedCursor<>(lookup(region, ids, options), mapper.getCodecRegistry().get(clazz)));
+        }
+        boolean nonTailable = options.getCursorType() == null || options.getCursorType() == NonTailable;
+        MongoCursor<T> cursor;
+        if (options.getReferencePageSize() > 0 && nonTailable) {
+            MongoCollection<RawBsonDocument> collection = getCollection().withDocumentClass(RawBsonDocument.class);
+            cursor = new ReferenceBatchingCursor<>(datastore, clazz, prepareCursor(query, options, collection), options,
+                datastore.findSession(options));
+        } else {
+            cursor = prepareCursor(query, options, getCollection());
+        }
+        // a session must not be used from more than one thread at a time so reads on one are never moved to the background
+        if (options.getPrefetch() > 0 && nonTailable && datastore.findSession(options) == null) {
+            cursor = new PrefetchingCursor<>(cursor, options.getPrefetch(), options.getPrefetchExecutor());
+        }
+        return new MorphiaCursor<>(cursor);
+    }
+
+    /**
+     * Finds the cache region this query can be answered from.  Any option which changes what is read or where it is read from, or which
+     * only applies to a server cursor, rules the cache out.
+     *
+     * @return the region or null if the results must be read from the server
+     */
+    private Region cacheRegion(FindOptions options) {
+        Region region = clazz != null && seedQuery == null
+                        ? mapper.getEntityCache().getRegion(mapper.getMappedClass(clazz), getCollectionName())
+                        : null;
+        if (region == null || options.isLogQuery() || datastore.findSession(options) != null) {
+            return null;
+        }
+        FindOptions plain = options.copy()
+                                   .limit(0)
+                                   .batchSize(0)
+                                   .prefetch(0)
+                                   .referencePageSize(0);
+        return plain.equals(new FindOptions()) ? region : null;
+    }
+
+    /**
+     * Looks IDs up in the cache and reads those missing with a single query, caching what it finds.
+     */
+    private List<RawBsonDocument> lookup(Region region, List<BsonValue> ids, FindOptions options) {
+        long stamp = region.stamp();
+        List<RawBsonDocument> documents = new ArrayList<>(ids.size());
+        List<BsonValue> missing = new ArrayList<>();
+        for (BsonValue id : ids) {
+            RawBsonDocument document = region.get(id);
+            if (document != null) {
+                documents.add(document);
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            BsonValue condition = missing.size() == 1 ? missing.get(0) : new BsonDocument("$in", new BsonArray(missing));
+            BsonDocument query = new BsonDocument("_id", condition);
+            try (MongoCursor<RawBsonDocument> cursor = prepareCursor(query, options,
+                getCollection().withDocumentClass(RawBsonDocument.class))) {
+                while (cursor.hasNext()) {
+                    RawBsonDocument document = cursor.next();
+                    region.put(document, stamp);
+                    documents.add(document);
+                }
+            }
+        }
+        return documents;
+    }
+
+    /**
+     * Runs this query, narrowed by an additional filter that is not kept, returning the raw documents
+     *
+     * @param additional the filter to add or null
+     * @param options    the options to apply
+     * @return the cursor
+     */
+    MongoCursor<RawBsonDocument> rawIterator(Filter additional, FindOptions options) {
+        Bson query;
+        if (additional != null) {
+            DocumentWriter writer = new DocumentWriter();
+            document(writer, () -> additional.entityType(getEntityClass())
+                                             .isValidating(validate && getEntityClass() != null)
+                                             .encode(mapper, writer, EncoderContext.builder().build()));
+            query = getQueryBson(writer.getDocument());
+        } else {
+            query = getQueryBson(true);
+        }
+        return prepareCursor(query, options, getCollection().withDocumentClass(RawBsonDocument.class));
+    }
+
+    /**
+     * Samples the IDs of the collection this query targets.  The sample ignores this query's filters so the server can pick documents at
+     * random rather than scan for matches.
+     *
+     * @param size    the number of IDs to sample
+     * @param options the options whose session to use
+     * @return the sampled IDs in ascending order
+     */
+    List<BsonValue> sampleIds(int size, FindOptions options) {
+        MongoCollection<RawBsonDocument> raw = getCollection().withDocumentClass(RawBsonDocument.class);
+        List<Bson> pipeline = List.of(new Document("$sample", new Document("size", size)),
+            new Document("$project", new Document("_id", 1)),
+            new Document("$sort", new Document("_id", 1)));
+        ClientSession session = datastore.findSession(options);
+        List<BsonValue> ids = new ArrayList<>(size);
+        (session == null ? raw.aggregate(pipeline) : raw.aggregate(session, pipeline))
+            .forEach(document -> ids.add(document.get("_id")));
+        return ids;
     }
 
     @Override
@@ -214,7 +367,7 @@ public class MorphiaQuery<T> implements Query<T> {
                                                  .projection()
                                                  .include("_id");
 
-        return new MorphiaKeyCursor<>(prepareCursor(includeId,
+        return new MorphiaKeyCursor<>(prepareCursor(getQueryBson(true), includeId,
             datastore.getDatabase().getCollection(getCollectionName())), datastore.getMapper(),
             clazz, getCollectionName());
     }
@@ -224,6 +377,16 @@ public class MorphiaQuery<T> implements Query<T> {
         return new Modify<>(datastore, mapper, getCollection(), this, getEntityClass(), first, updates);
     }
 
+    @Override
+    public Paginator<T> paginate(int pageSize, Sort... sort) {
+        return new Paginator<>(this, mapper, validate && getEntityClass() != null, pageSize, sort);
+    }
+
+    @Override
+    public Stream<T> partitioned(int partitions, FindOptions options) {
+        return PartitionSpliterator.stream(this, partitions, options);
+    }
+
     @Override
     public Query<T> search(String searchText) {
         return filter(text(searchText));
@@ -242,23 +405,7 @@ public class MorphiaQuery<T> implements Query<T> {
      */
     @Override
     public Document toDocument() {
-        final Document query = getQueryDocument();
-        MappedClass mappedClass = mapper.getMappedClass(getEntityClass());
-        Entity entityAnnotation = mappedClass != null ? mappedClass.getEntityAnnotation() : null;
-        if (entityAnnotation != null && entityAnnotation.useDiscriminator()
-            && !query.containsKey("_id")
-            && !query.containsKey(mappedClass.getEntityModel().getDiscriminatorKey())) {
-
-            List<MappedClass> subtypes = mapper.getMappedClass(getEntityClass()).getSubtypes();
-            List<String> values = new ArrayList<>();
-            values.add(mappedClass.getEntityModel().getDiscriminator());
-            for (MappedClass subtype : subtypes) {
-                values.add(subtype.getEntityModel().getDiscriminator());
-            }
-            query.put(mappedClass.getEntityModel().getDiscriminatorKey(),
-                new Document("$in", values));
-        }
-        return query;
+        return withDiscriminators(getQueryDocument());
     }
 
     @Override
@@ -305,9 +452,16 @@ public class MorphiaQuery<T> implements Query<T> {
         return collectionName;
     }
 
+    /**
+     * @param additional the filter to add
+     * @return this query, with discriminators, narrowed by a filter that is not kept on this query
+     */
+    Bson getQueryBson(Bson additional) {
+        return new Document("$and", List.of(getQueryBson(true), additional));
+    }
+
     @SuppressWarnings("ConstantConditions")
-    private <E> MongoCursor<E> prepareCursor(FindOptions findOptions, MongoCollection<E> collection) {
-        final Document query = toDocument();
+    private <E> MongoCursor<E> prepareCursor(Bson query, FindOptions findOptions, MongoCollection<E> collection) {
 
         if (LOG.isTraceEnabled()) {
             LOG.trace(format("Running query(%s) : %s, options: %s,", getCollectionName(), query, findOptions));
@@ -344,8 +498,100 @@ public class MorphiaQuery<T> implements Query<T> {
         }
     }
 
+    /**
+     * Lists the discriminator values to restrict this query to if the query does not already select by ID or discriminator.
+     *
+     * @param keys the top level names in the query
+     * @return the values or null if no restriction is needed
+     */
+    private List<String> discriminatorValues(Set<String> keys) {
+        MappedClass mappedClass = mapper.getMappedClass(getEntityClass());
+        Entity entityAnnotation = mappedClass != null ? mappedClass.getEntityAnnotation() : null;
+        if (entityAnnotation != null && entityAnnotation.useDiscriminator()
+            && !keys.contains("_id")
+            && !keys.contains(mappedClass.getEntityModel().getDiscriminatorKey())) {
+
+            List<String> values = new ArrayList<>();
+            values.add(mappedClass.getEntityModel().getDiscriminator());
+            for (MappedClass subtype : mappedClass.getSubtypes()) {
+                values.add(subtype.getEntityModel().getDiscriminator());
+            }
+            return values;
+        }
+        return null;
+    }
+
+    /**
+     * Encodes the filters straight to BSON so the driver can send the bytes as they are.  Filters sharing a name have to be merged in to
+     * one document so those queries, and those with a seed document, are still built as a {@link Document}.
+     *
+     * @param discriminators true if the discriminator values should be added as in {@link #toDocument()}
+     * @return the query
+     */
+    Bson getQueryBson(boolean discriminators) {
+        Filter discriminatorFilter = seedQuery == null ? mapper.getDiscriminatorFilter(getEntityClass()) : null;
+        Set<String> names = new HashSet<>();
+        if (discriminatorFilter != null) {
+            names.add(discriminatorFilter.encodedName(mapper));
+        }
+        boolean distinct = seedQuery == null;
+        for (int i = 0; distinct && i < filters.size(); i++) {
+            Filter filter = filters.get(i);
+            distinct = names.add(filter.encodedName(mapper)) && filter.hasDistinctNames(mapper);
+        }
+        if (!distinct) {
+            return discriminators ? toDocument() : getQueryDocument();
+        }
+
+        List<String> values = discriminators ? discriminatorValues(names) : null;
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            document(writer, () -> {
+                EncoderContext context = EncoderContext.builder().build();
+                if (discriminatorFilter != null) {
+                    discriminatorFilter.encode(mapper, writer, context);
+                }
+                for (Filter filter : filters) {
+                    filter.encode(mapper, writer, context);
+                }
+                if (values != null) {
+                    writer.writeStartDocument(mapper.getMappedClass(getEntityClass()).getEntityModel().getDiscriminatorKey());
+                    writer.writeStartArray("$in");
+                    values.forEach(writer::writeString);
+                    writer.writeEndArray();
+                    writer.writeEndDocument();
+                }
+            });
+        }
+        return new RawBsonDocument(buffer.getInternalBuffer(), 0, buffer.getPosition());
+    }
+
+    /**
+     * Compiles this query in to a template for a {@link PreparedQuery}.
+     *
+     * @param discriminators true if the discriminator values should be added as in {@link #toDocument()}
+     * @return the template
+     */
+    QueryTemplate compile(boolean discriminators) {
+        TemplateWriter writer = new TemplateWriter(seedQuery != null ? new Document(seedQuery) : null);
+        Document query = getQueryDocument(writer);
+        return new QueryTemplate(mapper, writer, discriminators ? withDiscriminators(query) : query);
+    }
+
+    private Document withDiscriminators(Document query) {
+        List<String> values = discriminatorValues(query.keySet());
+        if (values != null) {
+            query.put(mapper.getMappedClass(getEntityClass()).getEntityModel().getDiscriminatorKey(),
+                new Document("$in", values));
+        }
+        return query;
+    }
+
     Document getQueryDocument() {
-        DocumentWriter writer = new DocumentWriter(seedQuery);
+        return getQueryDocument(new DocumentWriter(seedQuery));
+    }
+
+    private Document getQueryDocument(DocumentWriter writer) {
         document(writer, () -> {
             mapper.updateQueryWithDiscriminators(writer, getEntityClass());
             EncoderContext context = EncoderContext.builder().build();
@@ -0,0 +1,40 @@
+package dev.morphia.query;
+
+import java.util.List;
+
+/**
+ * One page of results fetched by a {@link Paginator}.
+ *
+ * @param <T> the type
+ * @since 2.1
+ */
+public final class Page<T> {
+    private final List<T> results;
+    private final String nextToken;
+
+    Page(List<T> results, String nextToken) {
+        this.results = results;
+        this.nextToken = nextToken;
+    }
+
+    /**
+     * @return the entities on this page in sort order
+     */
+    public List<T> getResults() {
+        return results;
+    }
+
+    /**
+     * @return the token to pass to {@link Paginator#page(String)} for the page following this one or null if this is the last page
+     */
+    public String getNextToken() {
+        return nextToken;
+    }
+
+    /**
+     * @return true if there is a page following this one
+     */
+    public boolean hasNext() {
+        return nextToken != null;
+    }
+}
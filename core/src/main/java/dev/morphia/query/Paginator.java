@@ -0,0 +1,224 @@
+package dev.morphia.query;
+
+import com.mongodb.client.MongoCursor;
+import dev.morphia.internal.PathTarget;
+import dev.morphia.mapping.MappedClass;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.query.experimental.filters.Filter;
+import dev.morphia.sofia.Sofia;
+import org.bson.BSONException;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonNull;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.Codec;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static dev.morphia.query.experimental.filters.Filters.and;
+import static dev.morphia.query.experimental.filters.Filters.eq;
+import static dev.morphia.query.experimental.filters.Filters.gt;
+import static dev.morphia.query.experimental.filters.Filters.lt;
+import static dev.morphia.query.experimental.filters.Filters.ne;
+import static dev.morphia.query.experimental.filters.Filters.or;
+
+/**
+ * Pages through the results of a query by seeking past the sort key of the last entity seen rather than skipping over every earlier
+ * document, so fetching a page deep in the results costs as much as fetching the first.
+ * <p>
+ * Each {@link Page} carries an opaque token holding the sort key of its last entity.  The token can be handed to a client and passed
+ * back later to resume from that point.  The sort is always completed with {@code _id} so that entities with equal sort keys are neither
+ * repeated nor skipped between pages.
+ * <p>
+ * Sort keys are compared with the server's {@code $gt} and {@code $lt} operators, which only match values of the same BSON type, so the
+ * sorted fields should hold values of one type.  Missing and null values are handled.
+ *
+ * <pre>
+ * Paginator&lt;User&gt; pages = datastore.find(User.class).paginate(50, descending("age"), ascending("name"));
+ * Page&lt;User&gt; page = pages.page(token);
+ * </pre>
+ *
+ * @param <T> the type
+ * @see Query#paginate(int, Sort...)
+ * @since 2.1
+ */
+public final class Paginator<T> {
+    private static final String SORT = "s";
+    private static final String VALUES = "v";
+
+    private final MorphiaQuery<T> query;
+    private final Mapper mapper;
+    private final int pageSize;
+    private final List<String> fields = new ArrayList<>();
+    private final List<String> paths = new ArrayList<>();
+    private final List<Integer> orders = new ArrayList<>();
+    private final BsonDocument sort = new BsonDocument();
+
+    Paginator(MorphiaQuery<T> query, Mapper mapper, boolean validate, int pageSize, Sort... sorts) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException(Sofia.invalidPageSize(pageSize));
+        }
+        this.query = query;
+        this.mapper = mapper;
+        this.pageSize = pageSize;
+        MappedClass mappedClass = mapper.getMappedClass(query.getEntityClass());
+        for (Sort order : sorts) {
+            if (order.getField().equals("$natural")) {
+                throw new IllegalArgumentException(Sofia.naturalSortNotPageable());
+            }
+            add(order.getField(), new PathTarget(mapper, mappedClass, order.getField(), validate).translatedPath(), order.getOrder());
+        }
+        if (!sort.containsKey("_id")) {
+            add("_id", "_id", 1);
+        }
+    }
+
+    /**
+     * Fetches the first page
+     *
+     * @return the page
+     */
+    public Page<T> first() {
+        return page(null);
+    }
+
+    /**
+     * Fetches the page following the one the token was taken from
+     *
+     * @param token the token from {@link Page#getNextToken()} or null for the first page
+     * @return the page
+     * @throws IllegalArgumentException if the token is malformed or was created for a different sort
+     */
+    public Page<T> page(String token) {
+        return page(token, new FindOptions());
+    }
+
+    /**
+     * Fetches the page following the one the token was taken from
+     *
+     * @param token   the token from {@link Page#getNextToken()} or null for the first page
+     * @param options the options to apply to the find operation.  The sort, skip and limit are replaced by the paginator's.  Any projection
+     *                must include the sorted fields.
+     * @return the page
+     * @throws IllegalArgumentException if the token is malformed or was created for a different sort
+     */
+    public Page<T> page(String token, FindOptions options) {
+        FindOptions findOptions = options.copy()
+                                         .sort(sortDocument())
+                                         .skip(0)
+                                         .limit(pageSize + 1);
+        Filter after = token != null ? after(decode(token)) : null;
+        Codec<T> codec = mapper.getCodecRegistry().get(query.getEntityClass());
+
+        List<T> results = new ArrayList<>(pageSize);
+        RawBsonDocument last = null;
+        boolean more = false;
+        try (MongoCursor<RawBsonDocument> cursor = query.rawIterator(after, findOptions)) {
+            while (cursor.hasNext()) {
+                RawBsonDocument document = cursor.next();
+                if (results.size() == pageSize) {
+                    more = true;
+                    break;
+                }
+                results.add(document.decode(codec));
+                last = document;
+            }
+        }
+        return new Page<>(results, more ? encode(last) : null);
+    }
+
+    /**
+     * Builds the filter matching everything sorted after the given key.  Each branch of the {@code $or} fixes a prefix of the key and
+     * seeks past the next value in its sort direction.
+     *
+     * @param values the last seen value of each sorted field
+     * @return the filter
+     */
+    Filter after(BsonArray values) {
+        List<Filter> branches = new ArrayList<>();
+        for (int i = 0; i < fields.size(); i++) {
+            Filter seek = seek(fields.get(i), orders.get(i), values.get(i));
+            if (seek != null) {
+                Filter[] terms = new Filter[i + 1];
+                for (int j = 0; j < i; j++) {
+                    terms[j] = eq(fields.get(j), values.get(j));
+                }
+                terms[i] = seek;
+                branches.add(terms.length == 1 ? seek : and(terms));
+            }
+        }
+        return branches.size() == 1 ? branches.get(0) : or(branches.toArray(new Filter[0]));
+    }
+
+    /**
+     * Nulls and missing values sort before every other value.  Ascending, every non-null value follows a null.  Descending, nulls follow
+     * every value and nothing follows a null.
+     */
+    private static Filter seek(String field, int order, BsonValue value) {
+        if (order > 0) {
+            return value.isNull() ? ne(field, value) : gt(field, value);
+        }
+        return value.isNull() ? null : or(lt(field, value), eq(field, BsonNull.VALUE));
+    }
+
+    private void add(String field, String path, int order) {
+        fields.add(field);
+        paths.add(path);
+        orders.add(order);
+        sort.append(path, new BsonInt32(order));
+    }
+
+    private Document sortDocument() {
+        Document document = new Document();
+        for (int i = 0; i < fields.size(); i++) {
+            document.append(fields.get(i), orders.get(i));
+        }
+        return document;
+    }
+
+    String encode(RawBsonDocument last) {
+        BsonArray values = new BsonArray();
+        for (String path : paths) {
+            values.add(value(last, path));
+        }
+        RawBsonDocument token = new RawBsonDocument(new BsonDocument(SORT, sort).append(VALUES, values), new BsonDocumentCodec());
+        ByteBuffer buffer = token.getByteBuffer().asNIO();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    BsonArray decode(String token) {
+        BsonDocument tokenSort;
+        BsonArray values;
+        try {
+            BsonDocument document = new RawBsonDocument(Base64.getUrlDecoder().decode(token));
+            tokenSort = document.getDocument(SORT);
+            values = document.getArray(VALUES);
+        } catch (BSONException | IllegalArgumentException e) {
+            throw new IllegalArgumentException(Sofia.invalidPageToken(), e);
+        }
+        if (!sort.equals(tokenSort) || values.size() != paths.size()) {
+            throw new IllegalArgumentException(Sofia.invalidPageToken());
+        }
+        return values;
+    }
+
+    private static BsonValue value(BsonDocument document, String path) {
+        BsonValue value = document;
+        for (String name : path.split("\\.")) {
+            value = value.isDocument() ? value.asDocument().get(name) : null;
+            if (value == null) {
+                return BsonNull.VALUE;
+            }
+        }
+        return value;
+    }
+}
@@ -0,0 +1,159 @@
+package dev.morphia.query;
+
+import com.mongodb.client.MongoCursor;
+import dev.morphia.sofia.Sofia;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streams a query as a series of {@code _id} ranges, each read through its own cursor.  Splitting hands the first half of the ranges not
+ * yet started to a new spliterator so every range is opened, and its documents decoded, by whichever fork-join worker consumes it.
+ * <p>
+ * The range bounds are taken from a sorted sample of the collection's IDs.  Range filters only match IDs of the same BSON type as their
+ * bounds, so one more range picks up any document whose ID is of another type.  A sample mixing types is not split at all.
+ *
+ * @param <T> the type
+ * @morphia.internal
+ * @since 2.1
+ */
+final class PartitionSpliterator<T> implements Spliterator<T> {
+    private static final int SAMPLES_PER_PARTITION = 20;
+
+    private final MorphiaQuery<T> query;
+    private final Bson filter;
+    private final FindOptions options;
+    private final List<Bson> ranges;
+    private final Set<MongoCursor<T>> open;
+    private final int end;
+    private int next;
+    private MongoCursor<T> cursor;
+
+    private PartitionSpliterator(MorphiaQuery<T> query, Bson filter, FindOptions options, List<Bson> ranges, Set<MongoCursor<T>> open,
+                                 int next, int end) {
+        this.query = query;
+        this.filter = filter;
+        this.options = options;
+        this.ranges = ranges;
+        this.open = open;
+        this.next = next;
+        this.end = end;
+    }
+
+    static <T> Stream<T> stream(MorphiaQuery<T> query, int partitions, FindOptions options) {
+        if (partitions <= 0) {
+            throw new IllegalArgumentException(Sofia.invalidPartitionCount(partitions));
+        }
+        FindOptions findOptions = options.copy()
+                                         .sort(new Document("_id", 1))
+                                         .skip(0)
+                                         .limit(0);
+        // encoded once up front as encoding the query's filters is not safe to do from several workers at once
+        Bson filter = query.getQueryBson(true);
+        Set<MongoCursor<T>> open = ConcurrentHashMap.newKeySet();
+        return StreamSupport.stream(() -> {
+            List<Bson> ranges = ranges(query, partitions, options);
+            return new PartitionSpliterator<>(query, filter, findOptions, ranges, open, 0, ranges.size());
+        }, ORDERED | NONNULL, true)
+                            .onClose(() -> {
+                                for (MongoCursor<T> cursor : open) {
+                                    cursor.close();
+                                }
+                                open.clear();
+                            });
+    }
+
+    /**
+     * @return the filter of each range or a single null to run the query as it is
+     */
+    static List<Bson> ranges(MorphiaQuery<?> query, int partitions, FindOptions options) {
+        List<BsonValue> bounds = new ArrayList<>();
+        List<BsonValue> ids = partitions > 1 ? query.sampleIds(partitions * SAMPLES_PER_PARTITION, options) : List.of();
+        if (!ids.isEmpty() && ids.stream().allMatch(id -> bracket(id).equals(bracket(ids.get(0))))) {
+            for (int i = 1; i < partitions; i++) {
+                BsonValue bound = ids.get(i * ids.size() / partitions);
+                if (bounds.isEmpty() || !bounds.get(bounds.size() - 1).equals(bound)) {
+                    bounds.add(bound);
+                }
+            }
+        }
+
+        List<Bson> ranges = new ArrayList<>();
+        if (bounds.isEmpty()) {
+            ranges.add(null);
+            return ranges;
+        }
+        ranges.add(range(new BsonDocument("$lt", bounds.get(0))));
+        for (int i = 1; i < bounds.size(); i++) {
+            ranges.add(range(new BsonDocument("$gte", bounds.get(i - 1)).append("$lt", bounds.get(i))));
+        }
+        ranges.add(range(new BsonDocument("$gte", bounds.get(bounds.size() - 1))));
+        ranges.add(range(new BsonDocument("$not", new BsonDocument("$type", bracket(ids.get(0))))));
+        return ranges;
+    }
+
+    /**
+     * @return the {@code $type} matching every value the server compares with the given one
+     */
+    private static BsonValue bracket(BsonValue value) {
+        return value.isNumber() ? new BsonString("number") : new BsonInt32(value.getBsonType().getValue());
+    }
+
+    private static Bson range(BsonDocument condition) {
+        return new BsonDocument("_id", condition);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        while (true) {
+            if (cursor == null) {
+                if (next == end) {
+                    return false;
+                }
+                Bson range = ranges.get(next++);
+                cursor = query.iterator(range != null ? new Document("$and", List.of(filter, range)) : filter, options);
+                open.add(cursor);
+            }
+            if (cursor.hasNext()) {
+                action.accept(cursor.next());
+                return true;
+            }
+            open.remove(cursor);
+            cursor.close();
+            cursor = null;
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        if (cursor != null || end - next < 2) {
+            return null;
+        }
+        int mid = next + (end - next) / 2;
+        PartitionSpliterator<T> prefix = new PartitionSpliterator<>(query, filter, options, ranges, open, next, mid);
+        next = mid;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+}
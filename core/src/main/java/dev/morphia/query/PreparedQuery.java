@@ -0,0 +1,197 @@
+package dev.morphia.query;
+
+import com.mongodb.client.result.DeleteResult;
+import dev.morphia.Datastore;
+import dev.morphia.DeleteOptions;
+import dev.morphia.query.experimental.filters.Filter;
+import dev.morphia.query.experimental.filters.Filters;
+import dev.morphia.query.internal.MorphiaCursor;
+import dev.morphia.query.internal.QueryTemplate;
+import dev.morphia.sofia.Sofia;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.configuration.CodecConfigurationException;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * A query whose filters are compiled once and then run any number of times with different values.  Paths are translated, discriminators
+ * resolved and every constant part of the query document is encoded when the query is prepared.  Each execution only encodes the values
+ * bound to the query's {@link Filters#parameter(String) parameters}.
+ * <p>
+ * Prepared queries are immutable and may be shared between threads.
+ *
+ * <pre>
+ * PreparedQuery&lt;User&gt; query = datastore.prepare(User.class, eq("name", parameter("name")), gt("age", parameter("age")));
+ * User user = query.first(Map.of("name", "Bob", "age", 21));
+ * </pre>
+ *
+ * @param <T> the type
+ * @see Datastore#prepare(Class, Filter...)
+ * @since 2.1
+ */
+public final class PreparedQuery<T> {
+    private final MorphiaQuery<T> query;
+    private final QueryTemplate find;
+    private final QueryTemplate filter;
+
+    /**
+     * Prepares a query
+     *
+     * @param datastore the datastore
+     * @param type      the type to query
+     * @param filters   the filters
+     * @throws QueryException if a parameter is used anywhere but as the value of a filter
+     * @morphia.internal
+     */
+    public PreparedQuery(Datastore datastore, Class<T> type, Filter... filters) {
+        Set<String> declared = new TreeSet<>();
+        for (Filter filter : filters) {
+            filter.findParameters(declared);
+        }
+        query = new MorphiaQuery<>(datastore, null, type);
+        query.filter(filters);
+        try {
+            find = query.compile(true);
+            filter = query.compile(false);
+        } catch (CodecConfigurationException e) {
+            // a parameter nested in a value the filter encodes itself has no codec
+            if (declared.isEmpty()) {
+                throw e;
+            }
+            throw new QueryException(Sofia.unsupportedParameter(declared), e);
+        }
+        // filters which write their values without writeNamedValue()/writeUnnamedValue() would drop a parameter silently
+        declared.removeAll(find.getParameterNames());
+        if (!declared.isEmpty()) {
+            throw new QueryException(Sofia.unsupportedParameter(declared));
+        }
+    }
+
+    /**
+     * Counts the matching documents
+     *
+     * @param parameters the parameter values
+     * @return the count
+     * @see Query#count()
+     */
+    public long count(Map<String, ?> parameters) {
+        return count(parameters, new CountOptions());
+    }
+
+    /**
+     * Counts the matching documents
+     *
+     * @param parameters the parameter values
+     * @param options    the options to apply
+     * @return the count
+     * @see Query#count(CountOptions)
+     */
+    public long count(Map<String, ?> parameters, CountOptions options) {
+        return query.count(filter.encode(parameters), options);
+    }
+
+    /**
+     * Deletes the first matching document
+     *
+     * @param parameters the parameter values
+     * @return the results
+     * @see Query#delete()
+     */
+    public DeleteResult delete(Map<String, ?> parameters) {
+        return delete(parameters, new DeleteOptions());
+    }
+
+    /**
+     * Deletes the matching documents
+     *
+     * @param parameters the parameter values
+     * @param options    the options to apply
+     * @return the results
+     * @see Query#delete(DeleteOptions)
+     */
+    public DeleteResult delete(Map<String, ?> parameters, DeleteOptions options) {
+        return query.delete(filter.encode(parameters), options);
+    }
+
+    /**
+     * Deletes the first matching document and returns it
+     *
+     * @param parameters the parameter values
+     * @param options    the options to apply
+     * @return the deleted entity
+     * @see Query#findAndDelete(FindAndDeleteOptions)
+     */
+    public T findAndDelete(Map<String, ?> parameters, FindAndDeleteOptions options) {
+        return query.findAndDelete(filter.encode(parameters), options);
+    }
+
+    /**
+     * Gets the first matching entity
+     *
+     * @param parameters the parameter values
+     * @return the entity or null
+     * @see Query#first()
+     */
+    public T first(Map<String, ?> parameters) {
+        return first(parameters, new FindOptions());
+    }
+
+    /**
+     * Gets the first matching entity
+     *
+     * @param parameters the parameter values
+     * @param options    the options to apply
+     * @return the entity or null
+     * @see Query#first(FindOptions)
+     */
+    public T first(Map<String, ?> parameters, FindOptions options) {
+        return query.first(find.encode(parameters), options);
+    }
+
+    /**
+     * @return the type being queried
+     */
+    public Class<T> getEntityClass() {
+        return query.getEntityClass();
+    }
+
+    /**
+     * Runs the query
+     *
+     * @param parameters the parameter values
+     * @return the cursor over the matching entities
+     * @see Query#iterator()
+     */
+    public MorphiaCursor<T> iterator(Map<String, ?> parameters) {
+        return iterator(parameters, new FindOptions());
+    }
+
+    /**
+     * Runs the query
+     *
+     * @param parameters the parameter values
+     * @param options    the options to apply
+     * @return the cursor over the matching entities
+     * @see Query#iterator(FindOptions)
+     */
+    public MorphiaCursor<T> iterator(Map<String, ?> parameters, FindOptions options) {
+        return query.iterator(find.encode(parameters), options);
+    }
+
+    /**
+     * Encodes the query document a find would send for the given parameter values
+     *
+     * @param parameters the parameter values
+     * @return the query document
+     */
+    public RawBsonDocument toDocument(Map<String, ?> parameters) {
+        return find.encode(parameters);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PreparedQuery{type=%s, query=%s}", getEntityClass().getSimpleName(), query);
+    }
+}
@@ -11,6 +11,8 @@ import dev.morphia.sofia.Sofia;
 import org.bson.Document;
 
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 
 import static dev.morphia.query.MorphiaQuery.legacyOperation;
 
@@ -287,6 +289,58 @@ public interface Query<T> extends CriteriaContainer, Iterable<T> {
      */
     MorphiaCursor<T> iterator(FindOptions options);
 
+    /**
+     * Runs this query as one cursor per range of {@code _id} values and streams the results in parallel.  There are as many ranges as
+     * four times the parallelism of the common fork-join pool.
+     *
+     * @return the stream.  Close it to release any cursors still open.
+     * @see #partitioned(int, FindOptions)
+     * @since 2.1
+     */
+    default Stream<T> parallelStream() {
+        return partitioned(4 * ForkJoinPool.getCommonPoolParallelism());
+    }
+
+    /**
+     * Runs this query as one cursor per range of {@code _id} values and streams the results in parallel.
+     *
+     * @param partitions the number of ranges to split the collection in to
+     * @return the stream.  Close it to release any cursors still open.
+     * @see #partitioned(int, FindOptions)
+     * @since 2.1
+     */
+    default Stream<T> partitioned(int partitions) {
+        return partitioned(partitions, new FindOptions());
+    }
+
+    /**
+     * Runs this query as one cursor per range of {@code _id} values and streams the results in parallel.  The ranges are bounded by IDs
+     * sampled from the collection.  Each cursor is opened, and its results decoded, by the thread consuming that range.  The stream is
+     * ordered by {@code _id}, with any documents whose ID is of a different type than the sampled IDs last.  Call
+     * {@link Stream#unordered()} when the order does not matter.
+     *
+     * @param partitions the number of ranges to split the collection in to
+     * @param options    the options to apply to each range's find operation.  The sort, skip and limit are replaced.
+     * @return the stream.  Close it to release any cursors still open.
+     * @since 2.1
+     */
+    default Stream<T> partitioned(int partitions, FindOptions options) {
+        throw new UnsupportedOperationException(Sofia.notAvailableInLegacy());
+    }
+
+    /**
+     * Pages through the results of this query by seeking past the sort key of the last entity on the previous page instead of skipping.
+     * The sort is completed with {@code _id} if it does not already include it.
+     *
+     * @param pageSize the number of entities per page
+     * @param sort     the sort to page in
+     * @return the paginator
+     * @since 2.1
+     */
+    default Paginator<T> paginate(int pageSize, Sort... sort) {
+        throw new UnsupportedOperationException(Sofia.notAvailableInLegacy());
+    }
+
     /**
      * Execute the query and get the results (as a {@code MorphiaCursor<Key<T>>})
      *
@@ -1,5 +1,6 @@
 package dev.morphia.query;
 
+import com.mongodb.client.ClientSession;
 import com.mongodb.client.MongoCollection;
 import dev.morphia.Datastore;
 import dev.morphia.internal.PathTarget;
@@ -99,6 +100,16 @@ public abstract class UpdateBase<T> {
         return query;
     }
 
+    /**
+     * Removes the cached entities the update may have changed
+     *
+     * @param query   the filter the update ran with
+     * @param session the session the update ran in or null
+     */
+    void invalidate(Document query, ClientSession session) {
+        mapper.getEntityCache().invalidate(collection.getNamespace().getCollectionName(), query, session);
+    }
+
     /**
      * @return the updates
      * @morphia.internal
@@ -4,7 +4,9 @@ import dev.morphia.mapping.Mapper;
 import org.bson.BsonWriter;
 import org.bson.codecs.EncoderContext;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 class ElemMatchFilter extends Filter {
     ElemMatchFilter(String field, List<Filter> query) {
@@ -29,4 +31,14 @@ class ElemMatchFilter extends Filter {
         writer.writeEndDocument();
     }
 
+    @Override
+    public boolean hasDistinctNames(Mapper mapper) {
+        Set<String> names = new HashSet<>();
+        for (Filter filter : (List<Filter>) getValue()) {
+            if (!names.add(filter.encodedName(mapper)) || !filter.hasDistinctNames(mapper)) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
@@ -10,6 +10,8 @@ import org.bson.Document;
 import org.bson.codecs.Codec;
 import org.bson.codecs.EncoderContext;
 
+import java.util.Set;
+
 import static java.lang.String.format;
 
 /**
@@ -61,6 +63,40 @@ public class Filter {
         writer.writeEndDocument();
     }
 
+    /**
+     * Returns the name this filter is written under in the query document.  Filters sharing a name have to be merged in to a single
+     * document rather than written one after another.
+     *
+     * @param mapper the mapper
+     * @return the top level name of this filter
+     * @morphia.internal
+     * @since 2.1
+     */
+    public String encodedName(Mapper mapper) {
+        return field != null ? path(mapper) : filterName;
+    }
+
+    /**
+     * @param mapper the mapper
+     * @return true if this filter can be written without merging any of the documents it contains
+     * @morphia.internal
+     * @since 2.1
+     */
+    public boolean hasDistinctNames(Mapper mapper) {
+        return true;
+    }
+
+    /**
+     * Finds the parameters given anywhere in this filter's value, including in any nested filters
+     *
+     * @param names the set to add the parameter names to
+     * @morphia.internal
+     * @since 2.1
+     */
+    public void findParameters(Set<String> names) {
+        Parameter.find(value, names);
+    }
+
     /**
      * Sets the query entity type on the filter
      *
@@ -104,7 +140,10 @@ public class Filter {
     protected Object getValue(Mapper mapper) {
         if (!mapped) {
             PathTarget target = pathTarget(mapper);
-            if (target != null) {
+            if (value instanceof Parameter) {
+                // the bound value is converted for the target field when the query is executed
+                this.value = ((Parameter) value).target(target != null ? target.getTarget() : null);
+            } else if (target != null) {
                 OperationTarget operationTarget = new OperationTarget(pathTarget, value);
                 this.value = operationTarget.getValue();
                 FieldModel mappedField = target.getTarget();
@@ -145,7 +184,9 @@ public class Filter {
     protected void writeNamedValue(String name, Object named, Mapper mapper, BsonWriter writer,
                                    EncoderContext encoderContext) {
         writer.writeName(name);
-        if (named != null) {
+        if (named instanceof Parameter) {
+            ((Parameter) named).encode(writer);
+        } else if (named != null) {
             Codec codec = mapper.getCodecRegistry().get(named.getClass());
             encoderContext.encodeWithChildContext(codec, writer, named);
         } else {
@@ -155,7 +196,9 @@ public class Filter {
 
     protected void writeUnnamedValue(Object value, Mapper mapper, BsonWriter writer,
                                      EncoderContext encoderContext) {
-        if (value != null) {
+        if (value instanceof Parameter) {
+            ((Parameter) value).encode(writer);
+        } else if (value != null) {
             Codec codec = mapper.getCodecRegistry().get(value.getClass());
             encoderContext.encodeWithChildContext(codec, writer, value);
         } else {
@@ -368,6 +368,19 @@ public final class Filters {
         return new Filter("$bitsAnySet", field, val);
     }
 
+    /**
+     * Creates a named placeholder to use as a filter value in a {@link dev.morphia.query.PreparedQuery}.  The value is supplied each
+     * time the query is run.
+     *
+     * @param name the name of the parameter
+     * @return the parameter
+     * @see dev.morphia.Datastore#prepare(Class, Filter...)
+     * @since 2.1
+     */
+    public static Parameter parameter(String name) {
+        return new Parameter(name);
+    }
+
     /**
      * Adds a comment to a query predicate.
      *
@@ -522,6 +535,20 @@ public final class Filters {
         return new Filter("$in", field, val);
     }
 
+    /**
+     * The $in operator selects the documents where the value of a field equals any value in the array bound to the parameter.
+     *
+     * @param field the field to check
+     * @param val   the parameter holding the values to check
+     * @return the filter
+     * @query.filter $in
+     * @see dev.morphia.query.PreparedQuery
+     * @since 2.1
+     */
+    public static Filter in(String field, Parameter val) {
+        return new Filter("$in", field, val);
+    }
+
     /**
      * $lt selects the documents where the value of the field is less than the specified value.
      *
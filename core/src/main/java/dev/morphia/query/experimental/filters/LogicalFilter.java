@@ -6,6 +6,7 @@ import org.bson.codecs.EncoderContext;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
 import static dev.morphia.aggregation.experimental.codecs.ExpressionHelper.document;
 import static java.lang.String.format;
@@ -27,6 +28,23 @@ class LogicalFilter extends Filter {
         writer.writeEndArray();
     }
 
+    @Override
+    public boolean hasDistinctNames(Mapper mapper) {
+        for (Filter filter : filters) {
+            if (!filter.hasDistinctNames(mapper)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void findParameters(Set<String> names) {
+        for (Filter filter : filters) {
+            filter.findParameters(names);
+        }
+    }
+
     @Override
     public Filter entityType(Class<?> type) {
         super.entityType(type);
@@ -0,0 +1,81 @@
+package dev.morphia.query.experimental.filters;
+
+import dev.morphia.mapping.codec.pojo.FieldModel;
+import dev.morphia.query.QueryException;
+import dev.morphia.query.internal.QueryTemplate.TemplateWriter;
+import dev.morphia.sofia.Sofia;
+import org.bson.BsonWriter;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * A named placeholder for a value in a filter.  Filters using parameters can only be run through a
+ * {@link dev.morphia.query.PreparedQuery} which supplies the values on each execution.
+ *
+ * @see Filters#parameter(String)
+ * @since 2.1
+ */
+public final class Parameter {
+    private final String name;
+    private final FieldModel target;
+
+    Parameter(String name) {
+        this(name, null);
+    }
+
+    private Parameter(String name, FieldModel target) {
+        this.name = name;
+        this.target = target;
+    }
+
+    /**
+     * @return the name of this parameter
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the field this parameter is compared against or null if it is not known
+     * @morphia.internal
+     */
+    public FieldModel getTarget() {
+        return target;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", Parameter.class.getSimpleName() + "[", "]")
+                   .add("name='" + name + "'")
+                   .toString();
+    }
+
+    static void find(Object value, Set<String> names) {
+        if (value instanceof Parameter) {
+            names.add(((Parameter) value).name);
+        } else if (value instanceof Filter) {
+            ((Filter) value).findParameters(names);
+        } else if (value instanceof Map) {
+            for (Object element : ((Map<?, ?>) value).values()) {
+                find(element, names);
+            }
+        } else if (value instanceof Iterable) {
+            for (Object element : (Iterable<?>) value) {
+                find(element, names);
+            }
+        }
+    }
+
+    Parameter target(FieldModel target) {
+        return new Parameter(name, target);
+    }
+
+    void encode(BsonWriter writer) {
+        if (!(writer instanceof TemplateWriter)) {
+            throw new QueryException(Sofia.unboundParameter(name));
+        }
+        ((TemplateWriter) writer).writeParameter(this);
+    }
+}
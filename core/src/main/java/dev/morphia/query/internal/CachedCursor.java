@@ -0,0 +1,67 @@
+package dev.morphia.query.internal;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterates documents already in memory, decoding each one as it is reached.
+ *
+ * @param <T> the result type
+ * @morphia.internal
+ * @see dev.morphia.annotations.experimental.Cached
+ * @since 2.1
+ */
+public class CachedCursor<T> implements MongoCursor<T> {
+    private final Iterator<RawBsonDocument> documents;
+    private final Codec<T> codec;
+
+    /**
+     * Creates a cursor
+     *
+     * @param documents the documents to iterate
+     * @param codec     the codec to decode them with
+     */
+    public CachedCursor(List<RawBsonDocument> documents, Codec<T> codec) {
+        this.documents = documents.iterator();
+        this.codec = codec;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public boolean hasNext() {
+        return documents.hasNext();
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return documents.next().decode(codec);
+    }
+
+    @Override
+    public T tryNext() {
+        return hasNext() ? next() : null;
+    }
+
+    @Override
+    public ServerCursor getServerCursor() {
+        return null;
+    }
+
+    @Override
+    public ServerAddress getServerAddress() {
+        return null;
+    }
+}
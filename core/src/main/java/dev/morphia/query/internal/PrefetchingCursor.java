@@ -0,0 +1,178 @@
+package dev.morphia.query.internal;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reads a cursor on a background thread, keeping a bounded number of results ready for the application.  The background thread is the
+ * only one to touch the wrapped cursor so its {@code getMore} calls and decoding overlap with the application's processing.
+ * <p>
+ * Closing stops the background read and waits for it to close the wrapped cursor, which happens as soon as any {@code getMore} in
+ * flight returns.
+ *
+ * @param <T> the result type
+ * @morphia.internal
+ * @see dev.morphia.query.FindOptions#prefetch(int)
+ * @since 2.1
+ */
+public class PrefetchingCursor<T> implements MongoCursor<T> {
+    private static final Object END = new Object();
+    private static final Object NONE = new Object();
+
+    private final MongoCursor<T> wrapped;
+    private final BlockingQueue<Object> results;
+    private final CountDownLatch done = new CountDownLatch(1);
+    private volatile boolean closed;
+    private volatile Throwable failure;
+    private Object next = NONE;
+    private boolean finished;
+
+    /**
+     * Creates a cursor and starts reading ahead
+     *
+     * @param cursor   the cursor to read
+     * @param prefetch the number of results to hold
+     * @param executor the executor to read on or null to use a shared pool of daemon threads
+     */
+    public PrefetchingCursor(MongoCursor<T> cursor, int prefetch, Executor executor) {
+        this.wrapped = cursor;
+        this.results = new ArrayBlockingQueue<>(prefetch);
+        try {
+            (executor != null ? executor : Pool.EXECUTOR).execute(this::read);
+        } catch (RejectedExecutionException e) {
+            cursor.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            results.clear();
+            try {
+                done.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next != NONE) {
+            return true;
+        }
+        if (finished || closed) {
+            return false;
+        }
+        Object result;
+        try {
+            result = results.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+        if (result == END) {
+            finished = true;
+            Throwable thrown = failure;
+            if (thrown instanceof RuntimeException) {
+                throw (RuntimeException) thrown;
+            } else if (thrown instanceof Error) {
+                throw (Error) thrown;
+            } else if (thrown != null) {
+                throw new IllegalStateException(thrown.getMessage(), thrown);
+            }
+            return false;
+        }
+        next = result;
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T result = (T) next;
+        next = NONE;
+        return result;
+    }
+
+    @Override
+    public T tryNext() {
+        return hasNext() ? next() : null;
+    }
+
+    @Override
+    public ServerCursor getServerCursor() {
+        return wrapped.getServerCursor();
+    }
+
+    @Override
+    public ServerAddress getServerAddress() {
+        return wrapped.getServerAddress();
+    }
+
+    private void read() {
+        try {
+            while (!closed && wrapped.hasNext()) {
+                if (!offer(wrapped.next())) {
+                    break;
+                }
+            }
+        } catch (Throwable e) {
+            failure = e;
+        } finally {
+            try {
+                wrapped.close();
+            } finally {
+                try {
+                    offer(END);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    results.clear();
+                    results.offer(END);
+                } finally {
+                    done.countDown();
+                }
+            }
+        }
+    }
+
+    /**
+     * Waits for room in the buffer, checking regularly whether the application has closed the cursor
+     *
+     * @return false if the cursor was closed first
+     */
+    private boolean offer(Object result) throws InterruptedException {
+        while (!closed) {
+            if (results.offer(result, 100, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class Pool {
+        private static final AtomicInteger THREADS = new AtomicInteger();
+        private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "morphia-prefetch-" + THREADS.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
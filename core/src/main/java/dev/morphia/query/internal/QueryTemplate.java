@@ -0,0 +1,190 @@
+package dev.morphia.query.internal;
+
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.DocumentWriter;
+import dev.morphia.mapping.codec.pojo.FieldModel;
+import dev.morphia.mapping.codec.pojo.PropertyHandler;
+import dev.morphia.query.QueryException;
+import dev.morphia.query.experimental.filters.Parameter;
+import dev.morphia.sofia.Sofia;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.BsonWriter;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.BsonValueCodec;
+import org.bson.codecs.Codec;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+/**
+ * A query document compiled once with placeholders for its parameters.  Each execution then only encodes the bound parameter values;
+ * everything else in the document was encoded when the template was compiled.
+ *
+ * @morphia.internal
+ * @since 2.1
+ */
+public final class QueryTemplate {
+    private static final String MARKER = "\u0000morphia.parameter:";
+    private static final BsonValueCodec BSON_VALUE_CODEC = new BsonValueCodec();
+
+    private final Mapper mapper;
+    private final Segment root;
+    private final Set<String> parameterNames = new HashSet<>();
+
+    /**
+     * Compiles a template from the document written by a {@link TemplateWriter}.
+     *
+     * @param mapper the mapper
+     * @param writer the writer holding the template document
+     * @param query  the query document written to the writer
+     */
+    public QueryTemplate(Mapper mapper, TemplateWriter writer, Document query) {
+        this.mapper = mapper;
+        BsonDocument document = query.toBsonDocument(BsonDocument.class, mapper.getCodecRegistry());
+        root = compile(document, writer.parameters);
+        for (Parameter parameter : writer.parameters) {
+            parameterNames.add(parameter.getName());
+        }
+    }
+
+    /**
+     * @return the names of the parameters written in to the template
+     */
+    public Set<String> getParameterNames() {
+        return parameterNames;
+    }
+
+    /**
+     * Encodes the query document for the given parameter values.
+     *
+     * @param parameters the parameter values by name
+     * @return the query document
+     */
+    public RawBsonDocument encode(Map<String, ?> parameters) {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            root.write(writer, parameters, EncoderContext.builder().build());
+        }
+        return new RawBsonDocument(buffer.getInternalBuffer(), 0, buffer.getPosition());
+    }
+
+    private Segment compile(BsonValue value, List<Parameter> parameters) {
+        if (value.isSymbol() && value.asSymbol().getSymbol().startsWith(MARKER)) {
+            Parameter parameter = parameters.get(Integer.parseInt(value.asSymbol().getSymbol().substring(MARKER.length())));
+            return (writer, values, context) -> writeParameter(parameter, writer, values, context);
+        }
+        if (!containsParameter(value)) {
+            BsonValue constant = value.isDocument()
+                                 ? new RawBsonDocument(value.asDocument(), new BsonDocumentCodec())
+                                 : value;
+            return (writer, values, context) -> context.encodeWithChildContext(BSON_VALUE_CODEC, writer, constant);
+        }
+        if (value.isArray()) {
+            List<Segment> elements = new ArrayList<>();
+            for (BsonValue element : value.asArray()) {
+                elements.add(compile(element, parameters));
+            }
+            return (writer, values, context) -> {
+                writer.writeStartArray();
+                for (Segment element : elements) {
+                    element.write(writer, values, context);
+                }
+                writer.writeEndArray();
+            };
+        }
+        List<String> names = new ArrayList<>();
+        List<Segment> fields = new ArrayList<>();
+        for (Entry<String, BsonValue> entry : value.asDocument().entrySet()) {
+            names.add(entry.getKey());
+            fields.add(compile(entry.getValue(), parameters));
+        }
+        return (writer, values, context) -> {
+            writer.writeStartDocument();
+            for (int i = 0; i < names.size(); i++) {
+                writer.writeName(names.get(i));
+                fields.get(i).write(writer, values, context);
+            }
+            writer.writeEndDocument();
+        };
+    }
+
+    private static boolean containsParameter(BsonValue value) {
+        if (value.isSymbol()) {
+            return value.asSymbol().getSymbol().startsWith(MARKER);
+        } else if (value.isArray()) {
+            for (BsonValue element : value.asArray()) {
+                if (containsParameter(element)) {
+                    return true;
+                }
+            }
+        } else if (value.isDocument()) {
+            for (BsonValue element : value.asDocument().values()) {
+                if (containsParameter(element)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void writeParameter(Parameter parameter, BsonWriter writer, Map<String, ?> values, EncoderContext context) {
+        Object value = values.get(parameter.getName());
+        if (value == null && !values.containsKey(parameter.getName())) {
+            throw new QueryException(Sofia.missingParameter(parameter.getName()));
+        }
+        FieldModel target = parameter.getTarget();
+        if (value != null && target != null && target.getCachedCodec() instanceof PropertyHandler) {
+            value = ((PropertyHandler) target.getCachedCodec()).encode(value);
+        }
+        if (value == null) {
+            writer.writeNull();
+        } else {
+            Codec codec = mapper.getCodecRegistry().get(value.getClass());
+            context.encodeWithChildContext(codec, writer, value);
+        }
+    }
+
+    private interface Segment {
+        void write(BsonWriter writer, Map<String, ?> values, EncoderContext context);
+    }
+
+    /**
+     * Writes a query document recording the parameters it contains.
+     *
+     * @morphia.internal
+     * @since 2.1
+     */
+    public static final class TemplateWriter extends DocumentWriter {
+        private final List<Parameter> parameters = new ArrayList<>();
+
+        /**
+         * Creates a writer
+         *
+         * @param seed the document to start from.  May be null.
+         */
+        public TemplateWriter(Document seed) {
+            super(seed);
+        }
+
+        /**
+         * Writes a placeholder for a parameter
+         *
+         * @param parameter the parameter
+         */
+        public void writeParameter(Parameter parameter) {
+            writeSymbol(MARKER + parameters.size());
+            parameters.add(parameter);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package dev.morphia.query.internal;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoCursor;
+import dev.morphia.Datastore;
+import dev.morphia.mapping.codec.references.ReferenceBatch;
+import dev.morphia.query.FindOptions;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Decodes query results a page at a time.  The references of every document in a page are collected before any of them are decoded so
+ * that each referenced collection is read only once per page.
+ *
+ * @param <T> the entity type
+ * @morphia.internal
+ * @see dev.morphia.query.FindOptions#referencePageSize(int)
+ * @since 2.1
+ */
+public class ReferenceBatchingCursor<T> implements MongoCursor<T> {
+    private final MongoCursor<RawBsonDocument> wrapped;
+    private final Datastore datastore;
+    private final Class<T> type;
+    private final Codec<T> codec;
+    private final int pageSize;
+    private final ReferenceBatch batch;
+    private final Deque<T> page = new ArrayDeque<>();
+
+    /**
+     * Creates a cursor
+     *
+     * @param datastore the datastore
+     * @param type      the entity type
+     * @param cursor    the cursor over the raw results
+     * @param options   the options of the query
+     * @param session   the session the query runs in or null
+     */
+    public ReferenceBatchingCursor(Datastore datastore, Class<T> type, MongoCursor<RawBsonDocument> cursor, FindOptions options,
+                                   ClientSession session) {
+        this.wrapped = cursor;
+        this.datastore = datastore;
+        this.type = type;
+        this.codec = datastore.getMapper().getCodecRegistry().get(type);
+        this.pageSize = options.getReferencePageSize();
+        this.batch = new ReferenceBatch(datastore, options, session);
+    }
+
+    @Override
+    public void close() {
+        page.clear();
+        wrapped.close();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !page.isEmpty() || wrapped.hasNext();
+    }
+
+    @Override
+    public T next() {
+        if (page.isEmpty()) {
+            fill();
+        }
+        if (page.isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return page.poll();
+    }
+
+    @Override
+    public T tryNext() {
+        return hasNext() ? next() : null;
+    }
+
+    @Override
+    public ServerCursor getServerCursor() {
+        return wrapped.getServerCursor();
+    }
+
+    @Override
+    public ServerAddress getServerAddress() {
+        return wrapped.getServerAddress();
+    }
+
+    private void fill() {
+        List<RawBsonDocument> documents = new ArrayList<>(pageSize);
+        while (documents.size() < pageSize && wrapped.hasNext()) {
+            RawBsonDocument document = wrapped.next();
+            batch.collect(document, type);
+            documents.add(document);
+        }
+        batch.load();
+        ReferenceBatch previous = datastore.getMapper().setReferenceBatch(batch);
+        try {
+            for (RawBsonDocument document : documents) {
+                page.add(document.decode(codec));
+            }
+        } finally {
+            datastore.getMapper().setReferenceBatch(previous);
+            batch.clear();
+        }
+    }
+}
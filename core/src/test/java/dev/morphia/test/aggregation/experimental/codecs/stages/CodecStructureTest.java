@@ -4,6 +4,7 @@ import com.mongodb.client.model.MergeOptions.WhenMatched;
 import com.mongodb.client.model.MergeOptions.WhenNotMatched;
 import com.mongodb.client.model.geojson.Point;
 import com.mongodb.client.model.geojson.Position;
+import dev.morphia.aggregation.experimental.PipelineStage;
 import dev.morphia.aggregation.experimental.expressions.AccumulatorExpressions;
 import dev.morphia.aggregation.experimental.expressions.ConditionalExpressions;
 import dev.morphia.aggregation.experimental.expressions.MathExpressions;
@@ -20,15 +21,26 @@ import dev.morphia.aggregation.experimental.stages.ReplaceWith;
 import dev.morphia.aggregation.experimental.stages.Sample;
 import dev.morphia.aggregation.experimental.stages.Skip;
 import dev.morphia.aggregation.experimental.stages.SortByCount;
+import dev.morphia.aggregation.experimental.stages.Stage;
 import dev.morphia.aggregation.experimental.stages.Unset;
 import dev.morphia.aggregation.experimental.stages.Unwind;
 import dev.morphia.mapping.codec.DocumentWriter;
+import dev.morphia.query.experimental.filters.Filters;
 import dev.morphia.test.TestBase;
+import org.bson.BsonArray;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
 import org.bson.Document;
+import org.bson.codecs.BsonDocumentCodec;
 import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
 import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
 import org.testng.annotations.Test;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 
 import static dev.morphia.aggregation.experimental.expressions.AccumulatorExpressions.push;
@@ -123,6 +135,14 @@ public class CodecStructureTest extends TestBase {
             Match.on(exists("price")));
     }
 
+    @Test
+    public void testMatchMergesRepeatedNames() {
+        evaluate(parse("{ $match: { age: { $gt: 1, $lt: 5 }, name: 'Bob' } }"),
+            Match.on(Filters.gt("age", 1), Filters.lt("age", 5), eq("name", "Bob")));
+        evaluate(parse("{ $match: { scores: { $elemMatch: { value: { $gt: 5, $lt: 9 } } } } }"),
+            Match.on(Filters.elemMatch("scores", Filters.gt("value", 5), Filters.lt("value", 9))));
+    }
+
     @Test
     public void testGraphLookup() {
         Document document = parse("{$graphLookup: {from: 'employees',startWith: '$reportsTo',connectFromField: 'reportsTo',"
@@ -246,6 +266,24 @@ public class CodecStructureTest extends TestBase {
         assertEquals(writer.getArraysLevel(), 0);
 
         assertDocumentEquals(actual, expected);
+        if (value instanceof Stage) {
+            assertDocumentEquals(encodeAsCommand((Stage) value), expected);
+        }
+    }
+
+    /**
+     * Encodes the stage the way the driver does when it sends a pipeline
+     */
+    private Document encodeAsCommand(Stage stage) {
+        BsonDocument command = new BsonDocument("pipeline", new BsonArray(List.of(
+            new PipelineStage(stage, getMapper().getStageCodec(stage.getClass()))
+                .toBsonDocument(Document.class, getMapper().getCodecRegistry()))));
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        new BsonDocumentCodec(getMapper().getCodecRegistry())
+            .encode(new BsonBinaryWriter(buffer), command, EncoderContext.builder().build());
+        Document decoded = new DocumentCodec().decode(new BsonBinaryReader(ByteBuffer.wrap(buffer.toByteArray())),
+            DecoderContext.builder().build());
+        return decoded.getList("pipeline", Document.class).get(0);
     }
 
     @Test
@@ -17,7 +17,11 @@ package dev.morphia;
 
 import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.Id;
+import dev.morphia.annotations.PrePersist;
 import dev.morphia.annotations.Version;
+import dev.morphia.mapping.MapperOptions;
+import dev.morphia.query.experimental.updates.UpdateOperators;
+import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.junit.Assert;
 import org.junit.Test;
@@ -69,6 +73,103 @@ public class TestDatastoreMerge extends TestBase {
         assertNotNull(test1.name);//fails
     }
 
+    @Test
+    public void trackedSave() {
+        Datastore datastore = Morphia.createDatastore(getMongoClient(), getDatabase().getName(),
+            MapperOptions.builder()
+                         .trackChanges(true)
+                         .build());
+        datastore.getMapper().map(Merger.class);
+
+        final Merger merger = new Merger();
+        merger.name = "test1";
+        merger.foo = "bar";
+        datastore.save(merger);
+
+        Merger loaded = datastore.find(Merger.class).filter(eq("_id", merger.id)).first();
+        assertNotNull(datastore.getMapper().getSnapshots().get(loaded));
+
+        // a change made elsewhere to a field the loaded copy does not modify should survive the save
+        datastore.find(Merger.class).filter(eq("_id", merger.id))
+                 .update(UpdateOperators.set("foo", "baz"))
+                 .execute();
+        loaded.position = 5;
+        datastore.save(loaded);
+
+        Merger saved = datastore.find(Merger.class).filter(eq("_id", merger.id)).first();
+        assertEquals("test1", saved.name);
+        assertEquals("baz", saved.foo);
+        assertEquals(5, saved.position);
+
+        saved.name = null;
+        datastore.save(saved);
+        Assert.assertNull(datastore.find(Merger.class).filter(eq("_id", merger.id)).first().name);
+    }
+
+    @Test
+    public void trackedSaveWithLifecycle() {
+        Datastore datastore = Morphia.createDatastore(getMongoClient(), getDatabase().getName(),
+            MapperOptions.builder()
+                         .trackChanges(true)
+                         .build());
+        datastore.getMapper().map(Audited.class);
+
+        final Audited audited = new Audited();
+        audited.name = "test1";
+        datastore.save(audited);
+
+        Audited loaded = datastore.find(Audited.class).filter(eq("_id", audited.id)).first();
+        assertEquals("saved", datastore.getMapper().getSnapshots().get(loaded).getString("audit").getValue());
+
+        // the field written by the callback is part of the snapshot so an unchanged save does not send it again
+        getDatabase().getCollection("audited").updateOne(new Document("_id", audited.id),
+            new Document("$set", new Document("audit", "external")));
+        datastore.save(loaded);
+        assertEquals("external", getDatabase().getCollection("audited").find().first().getString("audit"));
+
+        loaded.name = "test2";
+        datastore.save(loaded);
+        Document stored = getDatabase().getCollection("audited").find().first();
+        assertEquals("test2", stored.getString("name"));
+        assertEquals("saved", stored.getString("audit"));
+    }
+
+    @Test
+    public void trackedMerge() {
+        Datastore datastore = Morphia.createDatastore(getMongoClient(), getDatabase().getName(),
+            MapperOptions.builder()
+                         .trackChanges(true)
+                         .build());
+        datastore.getMapper().map(Merger.class);
+
+        final Merger merger = new Merger();
+        merger.name = "test1";
+        datastore.save(merger);
+
+        Merger loaded = datastore.find(Merger.class).filter(eq("_id", merger.id)).first();
+        loaded.position = 5;
+        assertEquals(5, datastore.merge(loaded).position);
+
+        // the merge refreshed the snapshot so saving the unchanged entity writes nothing
+        datastore.find(Merger.class).filter(eq("_id", merger.id))
+                 .update(UpdateOperators.set("position", 9))
+                 .execute();
+        datastore.save(loaded);
+        assertEquals(9, datastore.find(Merger.class).filter(eq("_id", merger.id)).first().position);
+    }
+
+    @Entity("audited")
+    private static class Audited {
+        @Id
+        private ObjectId id;
+        private String name;
+
+        @PrePersist
+        void audit(Document document) {
+            document.put("audit", "saved");
+        }
+    }
+
     @Entity
     private static class Merger {
         @Id
@@ -0,0 +1,133 @@
+package dev.morphia;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.Reference;
+import dev.morphia.annotations.experimental.Cached;
+import dev.morphia.query.FindOptions;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static dev.morphia.query.experimental.filters.Filters.eq;
+import static dev.morphia.query.experimental.filters.Filters.in;
+import static dev.morphia.query.experimental.updates.UpdateOperators.set;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+public class TestEntityCache extends TestBase {
+    @Test
+    public void testLookupsById() {
+        Author author = getDs().save(new Author("Ursula"));
+
+        Author first = getDs().find(Author.class).filter(eq("_id", author.id)).first();
+        Author second = getDs().find(Author.class).filter(eq("_id", author.id)).first();
+        assertEquals("Ursula", second.name);
+        assertNotSame(first, second);
+
+        CacheStatistics statistics = getDs().getCacheStatistics(Author.class);
+        assertEquals(1, statistics.getHits());
+        assertEquals(1, statistics.getMisses());
+        assertEquals(1, statistics.getSize());
+
+        getDocumentCollection(Author.class).updateOne(new Document("_id", author.id),
+            new Document("$set", new Document("name", "Le Guin")));
+        assertEquals("Ursula", getDs().find(Author.class).filter(eq("_id", author.id)).first().name);
+        assertEquals("Le Guin", getDs().find(Author.class).filter(eq("name", "Le Guin")).first().name);
+        assertEquals("Le Guin", getDs().find(Author.class)
+                                       .filter(eq("_id", author.id))
+                                       .first(new FindOptions().maxTime(1, TimeUnit.SECONDS)).name);
+    }
+
+    @Test
+    public void testBatchLookups() {
+        List<Author> authors = getDs().save(asList(new Author("Ursula"), new Author("Octavia"), new Author("Iain")));
+        getDs().find(Author.class).filter(eq("_id", authors.get(0).id)).first();
+
+        List<Author> found = getDs().find(Author.class)
+                                    .filter(in("_id", asList(authors.get(0).id, authors.get(1).id, authors.get(2).id)))
+                                    .iterator()
+                                    .toList();
+
+        assertEquals(3, found.size());
+        CacheStatistics statistics = getDs().getCacheStatistics(Author.class);
+        assertEquals(1, statistics.getHits());
+        assertEquals(3, statistics.getMisses());
+        assertEquals(3, statistics.getSize());
+    }
+
+    @Test
+    public void testReferences() {
+        Author author = getDs().save(new Author("Ursula"));
+        getDs().save(asList(new Book("The Dispossessed", author), new Book("The Lathe of Heaven", author)));
+
+        List<Book> books = getDs().find(Book.class).iterator().toList();
+
+        assertEquals(2, books.size());
+        assertEquals("Ursula", books.get(1).author.name);
+        assertEquals(1, getDs().getCacheStatistics(Author.class).getHits());
+        assertNull(getDs().getCacheStatistics(Book.class));
+    }
+
+    @Test
+    public void testWritesInvalidate() {
+        Author author = getDs().save(new Author("Ursula"));
+        getDs().find(Author.class).filter(eq("_id", author.id)).first();
+
+        author.name = "Le Guin";
+        getDs().save(author);
+        assertEquals("Le Guin", getDs().find(Author.class).filter(eq("_id", author.id)).first().name);
+
+        getDs().find(Author.class).filter(eq("_id", author.id)).update(set("name", "U. K. Le Guin")).execute();
+        assertEquals("U. K. Le Guin", getDs().find(Author.class).filter(eq("_id", author.id)).first().name);
+
+        Author merged = new Author("Ursula");
+        merged.id = author.id;
+        getDs().merge(merged);
+        assertEquals("Ursula", getDs().find(Author.class).filter(eq("_id", author.id)).first().name);
+
+        getDs().find(Author.class).filter(eq("name", "Ursula")).update(set("name", "Le Guin")).execute();
+        assertEquals(0, getDs().getCacheStatistics(Author.class).getSize());
+        assertEquals("Le Guin", getDs().find(Author.class).filter(eq("_id", author.id)).first().name);
+
+        getDs().delete(author);
+        assertNull(getDs().find(Author.class).filter(eq("_id", author.id)).first());
+    }
+
+    @Entity("cached_authors")
+    @Cached(maxEntries = 100)
+    private static class Author {
+        @Id
+        private ObjectId id;
+        private String name;
+
+        Author() {
+        }
+
+        Author(String name) {
+            this.name = name;
+        }
+    }
+
+    @Entity("cached_books")
+    private static class Book {
+        @Id
+        private ObjectId id;
+        private String title;
+        @Reference
+        private Author author;
+
+        Book() {
+        }
+
+        Book(String title, Author author) {
+            this.title = title;
+            this.author = author;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package dev.morphia;
 
 
+import com.mongodb.WriteConcern;
+import com.mongodb.client.MongoCollection;
 import dev.morphia.annotations.Embedded;
 import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.Id;
@@ -14,6 +16,7 @@ import dev.morphia.mapping.MappedClass;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.lazy.LazyFeatureDependencies;
 import dev.morphia.testmodel.Rectangle;
+import org.bson.codecs.Codec;
 import org.bson.types.ObjectId;
 import org.junit.Assert;
 import org.junit.Assume;
@@ -22,7 +25,11 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static dev.morphia.query.experimental.filters.Filters.eq;
 import static java.util.Arrays.asList;
@@ -39,6 +46,40 @@ public class TestMapper extends TestBase {
         Assert.assertNotNull(annotation.toString(), annotation);
     }
 
+    @Test
+    public void collectionHandles() {
+        Mapper mapper = getMapper();
+        MongoCollection<Concerned> collection = mapper.getCollection(Concerned.class);
+        Assert.assertSame(collection, mapper.getCollection(Concerned.class));
+        Assert.assertEquals(WriteConcern.MAJORITY, collection.getWriteConcern());
+        Assert.assertEquals(WriteConcern.MAJORITY, mapper.getWriteConcern(Concerned.class));
+
+        mapper.map(Rectangle.class);
+        MongoCollection<Concerned> remapped = mapper.getCollection(Concerned.class);
+        Assert.assertNotSame(collection, remapped);
+        Assert.assertEquals(collection.getNamespace(), remapped.getNamespace());
+        Assert.assertEquals(WriteConcern.MAJORITY, remapped.getWriteConcern());
+    }
+
+    @Test
+    public void concurrentCodecLookup() throws Exception {
+        Mapper mapper = getMapper();
+        mapper.map(HoldsMultipleA.class);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<Codec<HoldsMultipleA>>> futures = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                futures.add(executor.submit(() -> mapper.getCodecRegistry().get(HoldsMultipleA.class)));
+            }
+            Codec<HoldsMultipleA> codec = mapper.getCodecRegistry().get(HoldsMultipleA.class);
+            for (Future<Codec<HoldsMultipleA>> future : futures) {
+                Assert.assertSame(codec, future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     public void serializableId() {
         final CustomId cId = new CustomId();
@@ -237,4 +278,9 @@ public class TestMapper extends TestBase {
         }
     }
 
+    @Entity(value = "concerned", concern = "MAJORITY")
+    public static class Concerned {
+        @Id
+        private ObjectId id;
+    }
 }
@@ -23,6 +23,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 public class TestVersionAnnotation extends TestBase {
@@ -138,6 +139,65 @@ public class TestVersionAnnotation extends TestBase {
         getDs().save(version1);
     }
 
+    @Test
+    public void testBulkSaveReportsStaleEntity() {
+        List<Versioned> list = asList(new Versioned(), new Versioned(), new Versioned());
+        getDs().save(list);
+        for (Versioned versioned : list) {
+            assertEquals(Long.valueOf(1), versioned.getVersion());
+        }
+
+        final Versioned stale = getDs().find(Versioned.class).filter(eq("_id", list.get(1).getId())).first();
+        getDs().save(list, new InsertManyOptions().ordered(false).chunkSize(2));
+        for (Versioned versioned : list) {
+            assertEquals(Long.valueOf(2), versioned.getVersion());
+        }
+
+        final Versioned fresh = getDs().find(Versioned.class).filter(eq("_id", list.get(0).getId())).first();
+        try {
+            getDs().save(asList(fresh, stale), new InsertManyOptions().ordered(false));
+            Assert.fail("Should have failed saving a stale version");
+        } catch (ConcurrentModificationException e) {
+            assertTrue(e.getMessage().contains(stale.getId().toString()));
+        }
+        assertEquals(Long.valueOf(3), fresh.getVersion());
+        assertEquals(Long.valueOf(1), stale.getVersion());
+        assertEquals(Long.valueOf(3), getDs().find(Versioned.class).filter(eq("_id", fresh.getId())).first().getVersion());
+    }
+
+    @Test
+    public void testBulkSaveDoesNotResurrectDeletedEntity() {
+        List<Versioned> list = asList(new Versioned(), new Versioned());
+        getDs().save(list);
+        getDs().find(Versioned.class).filter(eq("_id", list.get(1).getId())).delete();
+
+        try {
+            getDs().save(list, new InsertManyOptions().ordered(false));
+            Assert.fail("Should have failed saving a deleted entity");
+        } catch (ConcurrentModificationException e) {
+            assertTrue(e.getMessage().contains(list.get(1).getId().toString()));
+        }
+        assertEquals(Long.valueOf(2), list.get(0).getVersion());
+        assertEquals(Long.valueOf(1), list.get(1).getVersion());
+        assertEquals(1, getDs().find(Versioned.class).count());
+    }
+
+    @Test
+    public void testBulkSaveReportsDuplicateInsert() {
+        final Versioned existing = new Versioned();
+        getDs().save(existing);
+
+        final Versioned duplicate = getDs().find(Versioned.class).filter(eq("_id", existing.getId())).first();
+        getMapper().getMappedClass(Versioned.class).getVersionField().setValue(duplicate, null);
+        try {
+            getDs().save(asList(new Versioned(), duplicate), new InsertManyOptions().ordered(false));
+            Assert.fail("Should have failed inserting a duplicate versioned entity");
+        } catch (ConcurrentModificationException e) {
+            assertTrue(e.getMessage().contains(existing.getId().toString()));
+        }
+        assertNull(duplicate.getVersion());
+    }
+
     @Test
     public void testUpdatesToVersionedFileAreReflectedInTheDatastore() {
         final Versioned version1 = new Versioned();
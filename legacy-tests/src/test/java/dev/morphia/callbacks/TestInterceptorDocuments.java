@@ -0,0 +1,75 @@
+package dev.morphia.callbacks;
+
+
+import dev.morphia.EntityInterceptor;
+import dev.morphia.TestBase;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.mapping.Mapper;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+
+public class TestInterceptorDocuments extends TestBase {
+
+    @Test
+    public void testUntouchedDocuments() {
+        getMapper().map(E.class);
+        getMapper().addInterceptor(new EntityInterceptor() {
+        });
+
+        E e = new E("bob", List.of("a", "b"));
+        getDs().save(e);
+
+        E loaded = getDs().find(E.class).first();
+        Assert.assertEquals("bob", loaded.name);
+        Assert.assertEquals(List.of("a", "b"), loaded.tags);
+    }
+
+    @Test
+    public void testChangedDocuments() {
+        getMapper().map(E.class);
+        getMapper().addInterceptor(new Interceptor());
+
+        getDs().save(new E("bob", List.of("a")));
+
+        Document stored = getDatabase().getCollection("e").find().first();
+        Assert.assertEquals(true, stored.get("audited"));
+
+        E loaded = getDs().find(E.class).first();
+        Assert.assertEquals("BOB", loaded.name);
+        Assert.assertEquals(List.of("a"), loaded.tags);
+    }
+
+    @Entity("e")
+    static class E {
+        @Id
+        private final ObjectId id = new ObjectId();
+        private String name;
+        private List<String> tags;
+
+        E() {
+        }
+
+        E(String name, List<String> tags) {
+            this.name = name;
+            this.tags = tags;
+        }
+    }
+
+    public static class Interceptor implements EntityInterceptor {
+        @Override
+        public void postPersist(Object ent, Document document, Mapper mapper) {
+            document.put("audited", true);
+        }
+
+        @Override
+        public void preLoad(Object ent, Document document, Mapper mapper) {
+            document.put("name", document.getString("name").toUpperCase());
+        }
+    }
+}
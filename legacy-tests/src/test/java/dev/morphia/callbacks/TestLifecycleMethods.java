@@ -0,0 +1,128 @@
+package dev.morphia.callbacks;
+
+import dev.morphia.Datastore;
+import dev.morphia.TestBase;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.EntityListeners;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.PostLoad;
+import dev.morphia.annotations.PostPersist;
+import dev.morphia.annotations.PrePersist;
+import dev.morphia.annotations.Transient;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import static dev.morphia.query.experimental.filters.Filters.eq;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TestLifecycleMethods extends TestBase {
+    @Test
+    public void parameters() {
+        Gizmo gizmo = new Gizmo();
+        getDs().save(gizmo);
+
+        assertSame(getDs(), gizmo.datastore);
+        assertTrue(gizmo.persisted.containsKey("_id"));
+        assertSame(gizmo, GizmoListener.persisted.get(0));
+
+        Gizmo loaded = getDs().find(Gizmo.class).filter(eq("_id", gizmo.id)).first();
+        assertEquals(gizmo.id, loaded.loaded.getObjectId("_id"));
+        assertSame(loaded, GizmoListener.loaded.get(0));
+    }
+
+    @Test
+    public void listenerSingleton() {
+        GizmoListener.instances.clear();
+        getDs().save(new Gizmo());
+        getDs().save(new Gizmo());
+        getDs().find(Gizmo.class).iterator().toList();
+
+        assertEquals(1, GizmoListener.instances.size());
+    }
+
+    @Test
+    public void exceptions() {
+        Faulty faulty = new Faulty();
+        faulty.failure = new IllegalArgumentException("unchecked");
+        try {
+            getDs().save(faulty);
+            fail("The callback's exception should propagate");
+        } catch (IllegalStateException e) {
+            assertSame(faulty.failure, e.getCause());
+        }
+
+        faulty.failure = new IOException("checked");
+        try {
+            getDs().save(faulty);
+            fail("The callback's exception should propagate");
+        } catch (IllegalStateException e) {
+            assertSame(faulty.failure, e.getCause());
+        }
+    }
+
+    @Entity("gizmos")
+    @EntityListeners(GizmoListener.class)
+    private static class Gizmo {
+        @Id
+        private ObjectId id;
+        @Transient
+        private Datastore datastore;
+        @Transient
+        private Document persisted;
+        @Transient
+        private Document loaded;
+
+        @PostPersist
+        void persisted(Datastore datastore, Document document) {
+            this.datastore = datastore;
+            this.persisted = document;
+        }
+
+        @PostLoad
+        void loaded(Document document) {
+            this.loaded = document;
+        }
+    }
+
+    private static class GizmoListener {
+        private static final Set<GizmoListener> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+        private static final List<Object> persisted = new ArrayList<>();
+        private static final List<Object> loaded = new ArrayList<>();
+
+        @PrePersist
+        void persisting(Document document, Object entity) {
+            instances.add(this);
+            persisted.add(0, entity);
+        }
+
+        @PostLoad
+        void loaded(Object entity, Document document) {
+            instances.add(this);
+            loaded.add(0, entity);
+        }
+    }
+
+    @Entity("faulty")
+    private static class Faulty {
+        @Id
+        private ObjectId id;
+        @Transient
+        private Exception failure;
+
+        @PrePersist
+        void persisting() throws Exception {
+            throw failure;
+        }
+    }
+}
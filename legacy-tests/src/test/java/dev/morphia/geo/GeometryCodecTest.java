@@ -0,0 +1,97 @@
+package dev.morphia.geo;
+
+import com.mongodb.MongoClientSettings;
+import dev.morphia.mapping.MappingException;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.Document;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.junit.Test;
+
+import static dev.morphia.geo.GeoJson.lineString;
+import static dev.morphia.geo.GeoJson.multiLineString;
+import static dev.morphia.geo.GeoJson.multiPoint;
+import static dev.morphia.geo.GeoJson.multiPolygon;
+import static dev.morphia.geo.GeoJson.polygon;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+@SuppressWarnings("removal")
+public class GeometryCodecTest {
+    private static final CodecRegistry DRIVER = MongoClientSettings.getDefaultCodecRegistry();
+
+    private final Polygon square = polygon(lineString(point(0, 0), point(0, 10), point(10, 10), point(10, 0), point(0, 0)),
+        lineString(point(2, 2), point(2, 4), point(4, 4), point(2, 2)));
+    private final Polygon triangle = polygon(point(20, 20), point(20, 30), point(30, 20), point(20, 20));
+
+    @Test
+    public void points() {
+        roundTrip(point(3.5, 7.25), Point.class);
+    }
+
+    @Test
+    public void lineStrings() {
+        roundTrip(lineString(point(1, 2), point(3, 4), point(5, 6)), LineString.class);
+        roundTrip(multiPoint(point(1, 2), point(3, 4)), MultiPoint.class);
+        roundTrip(multiLineString(lineString(point(1, 2), point(3, 4)), lineString(point(5, 6), point(7, 8), point(9, 10))),
+            MultiLineString.class);
+    }
+
+    @Test
+    public void polygons() {
+        roundTrip(square, Polygon.class);
+        roundTrip(multiPolygon(square, triangle), MultiPolygon.class);
+    }
+
+    @Test
+    public void views() {
+        MultiPolygon multiPolygon = multiPolygon(square, triangle);
+
+        assertEquals(square, multiPolygon.getCoordinates().get(0));
+        assertEquals(triangle, multiPolygon.getCoordinates().get(1));
+        assertEquals(square.hashCode(), multiPolygon.getCoordinates().get(0).hashCode());
+        assertEquals(square.getInteriorBoundaries(), multiPolygon.getCoordinates().get(0).getInteriorBoundaries());
+        assertEquals(point(10, 10), square.getExteriorBoundary().getCoordinates().get(2));
+        assertEquals(10, square.getExteriorBoundary().getCoordinates().get(2).getLatitude(), 0);
+
+        Point point = point(1, 2);
+        point.getCoordinates().set(0, 5.0);
+        assertEquals(5, point.getLongitude(), 0);
+    }
+
+    @Test
+    public void anyFieldOrder() {
+        BsonDocument document = BsonDocument.parse("{coordinates: [[[0, 0], [0, 1], [1, 1], [0, 0]]], crs: null, type: 'Polygon'}");
+
+        Geometry decoded = new GeometryCodec<>(Geometry.class).decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+
+        assertEquals(polygon(point(0, 0), point(1, 0), point(1, 1), point(0, 0)), decoded);
+    }
+
+    @Test(expected = MappingException.class)
+    public void geometryCollectionsRejected() {
+        BsonDocument document = BsonDocument.parse("{type: 'GeometryCollection', geometries: [{type: 'Point', coordinates: [1, 2]}]}");
+
+        new GeometryCodec<>(Geometry.class).decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+    }
+
+    private static Point point(double latitude, double longitude) {
+        return PointBuilder.pointBuilder().latitude(latitude).longitude(longitude).build();
+    }
+
+    private <T extends Geometry> void roundTrip(T geometry, Class<T> type) {
+        BsonDocument document = new BsonDocument();
+        new GeometryCodec<>(type).encode(new BsonDocumentWriter(document), geometry, EncoderContext.builder().build());
+
+        assertEquals(new Document("value", geometry.convert()).toBsonDocument(Document.class, DRIVER).getDocument("value"), document);
+
+        for (Class<? extends Geometry> decodeAs : new Class[]{type, Geometry.class}) {
+            Geometry decoded = new GeometryCodec<>(decodeAs).decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+            assertSame(type, decoded.getClass());
+            assertEquals(geometry, decoded);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package dev.morphia.internal;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import dev.morphia.CacheStatistics;
+import dev.morphia.Datastore;
+import dev.morphia.Morphia;
+import dev.morphia.aggregation.experimental.stages.Merge;
+import dev.morphia.aggregation.experimental.stages.Out;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.experimental.Cached;
+import dev.morphia.internal.EntityCache.Region;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.MappingException;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class EntityCacheTest {
+    private final MongoClient client = MongoClients.create();
+    private final Datastore datastore = Morphia.createDatastore(client, "morphia_test");
+    private final Mapper mapper = datastore.getMapper();
+    private final EntityCache cache = mapper.getEntityCache();
+
+    @After
+    public void close() {
+        client.close();
+    }
+
+    @Test
+    public void idFilters() {
+        assertEquals(List.of(new BsonInt32(5)), cache.ids(new Document("_id", 5)));
+        assertEquals(List.of(new BsonInt32(5)), cache.ids(new Document("_id", new Document("$eq", 5))));
+        assertEquals(List.of(new BsonInt32(1), new BsonInt32(2)), cache.ids(new Document("_id", new Document("$in", asList(1, 2, 1L)))));
+        assertEquals(1, cache.ids(new Document("_id", new Document("name", "compound"))).size());
+
+        assertNull(cache.ids(new Document("_id", new Document("$gt", 5))));
+        assertNull(cache.ids(new Document("_id", 5).append("name", "Bob")));
+        assertNull(cache.ids(new Document("_id", Pattern.compile("^a"))));
+        assertNull(cache.ids(new Document("_id", new Document("$in", asList(1, Pattern.compile("^a"))))));
+        assertNull(cache.ids(new Document("name", "Bob")));
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsed() {
+        Region region = region(Small.class);
+        for (int i = 0; i < 3; i++) {
+            region.put(document(i, ""), region.stamp());
+        }
+        assertNotNull(region.get(new BsonInt32(0)));
+        region.put(document(3, ""), region.stamp());
+
+        assertNull(region.get(new BsonInt32(1)));
+        assertNotNull(region.get(new BsonInt32(0)));
+        assertNotNull(region.get(new BsonInt32(3)));
+
+        CacheStatistics statistics = cache.getStatistics(mapper.getMappedClass(Small.class));
+        assertEquals(3, statistics.getSize());
+        assertEquals(1, statistics.getEvictions());
+        assertEquals(3, statistics.getHits());
+        assertEquals(1, statistics.getMisses());
+    }
+
+    @Test
+    public void boundsBytes() {
+        Region region = region(Sized.class);
+        RawBsonDocument large = document(0, "x".repeat(200));
+        region.put(large, region.stamp());
+        assertNull(region.get(new BsonInt32(0)));
+
+        RawBsonDocument first = document(1, "x".repeat(100));
+        region.put(first, region.stamp());
+        region.put(document(2, "x".repeat(100)), region.stamp());
+        assertNull(region.get(new BsonInt32(1)));
+        assertNotNull(region.get(new BsonInt32(2)));
+        assertEquals(first.getByteBuffer().remaining(), cache.getStatistics(mapper.getMappedClass(Sized.class)).getEstimatedBytes());
+    }
+
+    @Test
+    public void invalidates() {
+        Region region = region(Small.class);
+        region.put(document(1, ""), region.stamp());
+        region.put(document(2, ""), region.stamp());
+
+        long stamp = region.stamp();
+        cache.invalidate("small", new Document("_id", 1L), null);
+        assertNull(region.get(new BsonInt32(1)));
+        assertNotNull(region.get(new BsonInt32(2)));
+
+        region.put(document(1, ""), stamp);
+        assertNull(region.get(new BsonInt32(1)));
+
+        cache.invalidate("small", new Document("name", "Bob"), null);
+        assertNull(region.get(new BsonInt32(2)));
+        assertEquals(2, cache.getStatistics(mapper.getMappedClass(Small.class)).getInvalidations());
+    }
+
+    @Test
+    public void sharedRegions() {
+        Region region = region(Small.class);
+        assertSame(region, region(SmallToo.class));
+        try {
+            region(Large.class);
+            fail("Conflicting cache settings on one collection should be rejected");
+        } catch (MappingException ignored) {
+        }
+    }
+
+    @Test
+    public void aggregationOutputInvalidates() {
+        mapper.getCollection(Small.class).drop();
+        Region region = region(Small.class);
+        region.put(document(1, ""), region.stamp());
+
+        datastore.aggregate(Sized.class).out(Out.to(Small.class));
+        assertNull(region.get(new BsonInt32(1)));
+
+        region.put(document(1, ""), region.stamp());
+        datastore.aggregate(Sized.class).merge(Merge.into("small"));
+        assertNull(region.get(new BsonInt32(1)));
+    }
+
+    private Region region(Class<?> type) {
+        return cache.getRegion(mapper.getMappedClass(type), mapper.getMappedClass(type).getCollectionName());
+    }
+
+    private static RawBsonDocument document(int id, String name) {
+        return new RawBsonDocument(new BsonDocument("_id", new BsonInt32(id)).append("name", new BsonString(name)),
+            new BsonDocumentCodec());
+    }
+
+    @Entity("small")
+    @Cached(maxEntries = 3)
+    private static class Small {
+        @Id
+        private int id;
+    }
+
+    @Entity("small")
+    @Cached(maxEntries = 3)
+    private static class SmallToo {
+        @Id
+        private int id;
+    }
+
+    @Entity("small")
+    @Cached(maxEntries = 10)
+    private static class Large {
+        @Id
+        private int id;
+    }
+
+    @Entity("sized")
+    @Cached(maxEntries = 0, maxBytes = 200)
+    private static class Sized {
+        @Id
+        private int id;
+    }
+}
@@ -30,6 +30,7 @@ import dev.morphia.mapping.EmbeddedMappingTest.NestedImpl;
 import dev.morphia.mapping.EmbeddedMappingTest.WithNested;
 import dev.morphia.mapping.MappedClass;
 import dev.morphia.mapping.Mapper;
+import dev.morphia.query.ValidationException;
 import dev.morphia.testmodel.Article;
 import org.junit.Assert;
 import org.junit.Test;
@@ -122,6 +123,34 @@ public class PathTargetTest extends TestBase {
         Assert.assertEquals(mapper.getMappedClass(NestedImpl.class).getMappedFieldByJavaField("field"), pathTarget.getTarget());
     }
 
+    @Test
+    public void cachedResolution() {
+        getMapper().map(Student.class, Article.class);
+        Mapper mapper = getMapper();
+        MappedClass mappedClass = mapper.getMappedClass(Student.class);
+        PathCache cache = mapper.getPathCache();
+        cache.clear();
+
+        PathTarget first = new PathTarget(mapper, mappedClass, "grades.$.data.name");
+        Assert.assertEquals("grades.$.d.name", first.translatedPath());
+        assertEquals(1, cache.size());
+
+        PathTarget second = new PathTarget(mapper, mappedClass, "grades.$.data.name");
+        Assert.assertEquals("grades.$.d.name", second.translatedPath());
+        Assert.assertSame(first.getTarget(), second.getTarget());
+        assertEquals(1, cache.size());
+
+        Assert.assertEquals("grades.$.d.name", new PathTarget(mapper, mappedClass, "grades.$.data.name", false).translatedPath());
+        assertEquals(2, cache.size());
+
+        try {
+            new PathTarget(mapper, mappedClass, "grades.$.bogus").translatedPath();
+            Assert.fail("Should have failed validation");
+        } catch (ValidationException ignored) {
+        }
+        assertEquals(2, cache.size());
+    }
+
     @Test
     public void disableValidation() {
         getMapper().map(WithNested.class, Nested.class, NestedImpl.class, AnotherNested.class);
@@ -1,7 +1,16 @@
 package dev.morphia.mapping;
 
+import com.mongodb.MongoClientSettings;
+import com.mongodb.ServerAddress;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
+import com.mongodb.connection.ServerDescription;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
 import dev.morphia.Datastore;
 import dev.morphia.Key;
 import dev.morphia.Morphia;
@@ -30,6 +39,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static dev.morphia.aggregation.experimental.stages.Unwind.on;
 import static dev.morphia.mapping.lazy.LazyFeatureDependencies.assertProxyClassesPresent;
@@ -223,6 +234,80 @@ public class ReferenceTest extends ProxyTestBase {
         assertEquals(expectedRefMap.keySet(), retrieved.getLazyMapRef().keySet());
     }
 
+    @Test
+    public void testBatchedReferences() {
+        final List<Ref> refs = asList(new Ref("foo"), new Ref("bar"), new Ref("baz"));
+        getDs().save(refs);
+        getDs().save(asList(new Container(refs), new Container(refs.subList(1, 3)), new Container(refs.subList(2, 3))));
+
+        final String refs = getMapper().getMappedClass(Ref.class).getCollectionName();
+        final AtomicInteger finds = new AtomicInteger();
+        final List<ServerAddress> hosts = getMongoClient().getClusterDescription().getServerDescriptions().stream()
+                                                          .map(ServerDescription::getAddress)
+                                                          .collect(Collectors.toList());
+        final CommandListener listener = new CommandListener() {
+            @Override
+            public void commandStarted(CommandStartedEvent event) {
+                if (event.getCommandName().equals("find") && event.getCommand().getString("find").getValue().equals(refs)) {
+                    finds.incrementAndGet();
+                }
+            }
+
+            @Override
+            public void commandSucceeded(CommandSucceededEvent event) {
+            }
+
+            @Override
+            public void commandFailed(CommandFailedEvent event) {
+            }
+        };
+        final MongoClientSettings settings = MongoClientSettings.builder()
+                                                                .applyToClusterSettings(builder -> builder.hosts(hosts))
+                                                                .uuidRepresentation(getMapper().getOptions().getUuidRepresentation())
+                                                                .addCommandListener(listener)
+                                                                .build();
+        try (MongoClient client = MongoClients.create(settings)) {
+            final Datastore datastore = Morphia.createDatastore(client, getDatabase().getName(), getMapper().getOptions());
+
+            final List<Container> expected = datastore.find(Container.class).iterator().toList();
+            final int unbatched = finds.getAndSet(0);
+            final List<Container> batched = datastore.find(Container.class)
+                                                     .iterator(new FindOptions().referencePageSize(2))
+                                                     .toList();
+
+            // one query per referenced collection for each of the two pages
+            assertEquals(2, finds.get());
+            assertTrue(unbatched > finds.get());
+            assertEquals(expected.size(), batched.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i).getSingleRef(), batched.get(i).getSingleRef());
+                assertEquals(expected.get(i).getCollectionRef(), batched.get(i).getCollectionRef());
+                assertEquals(expected.get(i).getMapRef(), batched.get(i).getMapRef());
+            }
+        }
+    }
+
+    @Test
+    public void testBatchedReferenceDecodesAsFieldType() {
+        getMapper().map(SharedFirst.class, SharedSecond.class, SharedHolder.class);
+        final SharedSecond second = new SharedSecond();
+        second.name = "second";
+        getDs().save(second);
+        final SharedHolder holder = new SharedHolder();
+        holder.second = second;
+        getDs().save(holder);
+
+        final SharedHolder loaded = getDs().find(SharedHolder.class)
+                                           .iterator(new FindOptions().referencePageSize(1))
+                                           .next();
+        assertEquals("second", loaded.second.name);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeReferencePageSize() {
+        new FindOptions().referencePageSize(-1);
+    }
+
     @Test
     public void testFindByEntityReference() {
         final Ref ref = new Ref("refId");
@@ -834,6 +919,27 @@ public class ReferenceTest extends ProxyTestBase {
         }
     }
 
+    @Entity(value = "shared", useDiscriminator = false)
+    private static class SharedFirst {
+        @Id
+        private ObjectId id;
+    }
+
+    @Entity(value = "shared", useDiscriminator = false)
+    private static class SharedSecond {
+        @Id
+        private ObjectId id;
+        private String name;
+    }
+
+    @Entity("sharedHolders")
+    private static class SharedHolder {
+        @Id
+        private ObjectId id;
+        @Reference
+        private SharedSecond second;
+    }
+
     @Entity("sets")
     public static class Sets {
 
@@ -0,0 +1,49 @@
+package dev.morphia.mapping.codec;
+
+import org.bson.types.ObjectId;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.function.Function;
+
+public class ConversionsTest {
+    @Test
+    public void boundConversions() {
+        Function<Object, Integer> toInteger = Conversions.to(Integer.class);
+        Assert.assertEquals(Integer.valueOf(7), toInteger.apply("7"));
+        Assert.assertEquals(Integer.valueOf(2), toInteger.apply(2.9));
+        Assert.assertEquals(Integer.valueOf(4), toInteger.apply(4));
+        Assert.assertNull(toInteger.apply(null));
+        Assert.assertEquals(0, (int) Conversions.to(int.class).apply(null));
+    }
+
+    @Test
+    public void fallbacks() {
+        Assert.assertEquals("5", Conversions.convert(5, String.class));
+        Assert.assertEquals(Color.RED, Conversions.convert("RED", Color.class));
+        Object unconvertible = new Object();
+        Assert.assertSame(unconvertible, Conversions.convert(unconvertible, ObjectId.class));
+    }
+
+    @Test
+    public void lateRegistration() {
+        Function<Object, ?> toMarker = Conversions.to(Marker.class);
+        Assert.assertEquals(3L, toMarker.apply(3L));
+
+        Conversions.register(Long.class, Marker.class, Marker::new);
+        Assert.assertEquals(3L, ((Marker) toMarker.apply(3L)).value);
+        Assert.assertEquals(4L, Conversions.convert(4L, Marker.class).value);
+    }
+
+    private enum Color {
+        RED
+    }
+
+    private static class Marker {
+        private final long value;
+
+        Marker(long value) {
+            this.value = value;
+        }
+    }
+}
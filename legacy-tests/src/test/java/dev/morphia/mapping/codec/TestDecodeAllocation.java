@@ -0,0 +1,118 @@
+package dev.morphia.mapping.codec;
+
+import com.sun.management.ThreadMXBean;
+import dev.morphia.TestBase;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.experimental.Constructor;
+import dev.morphia.annotations.experimental.Name;
+import dev.morphia.mapping.InstanceCreatorFactory;
+import org.bson.BsonBinaryReader;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.types.ObjectId;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+public class TestDecodeAllocation extends TestBase {
+    private static final int DOCUMENTS = 50_000;
+    private static final long MAX_BYTES_PER_DOCUMENT = 4096;
+    private static final long MAX_BYTES_PER_CREATOR = 128;
+
+    @Test
+    public void constructorCreator() {
+        getMapper().map(Person.class);
+        RawBsonDocument document = RawBsonDocument.parse("{_id: {$oid: '5f1f0c3c3ec997172f6ae34b'}, _t: 'Person', name: 'Bob', age: 42}");
+
+        assertEquals("Bob", decode(Person.class, document).name);
+        long bytes = bytesPerDocument(Person.class, document);
+        assertTrue("Decoding allocated " + bytes + " bytes per document", bytes < MAX_BYTES_PER_DOCUMENT);
+        bytes = bytesPerCreator(Person.class);
+        assertTrue("Creating an instance creator allocated " + bytes + " bytes", bytes < MAX_BYTES_PER_CREATOR);
+    }
+
+    @Test
+    public void noArgCreator() {
+        getMapper().map(User.class);
+        RawBsonDocument document = RawBsonDocument.parse("{_id: {$oid: '5f1f0c3c3ec997172f6ae34b'}, _t: 'User', name: 'Bob', age: 42, "
+                                                         + "created: {$numberLong: '1000'}, tags: ['a', 'b']}");
+
+        assertEquals("Bob", decode(User.class, document).name);
+        long bytes = bytesPerDocument(User.class, document);
+        assertTrue("Decoding allocated " + bytes + " bytes per document", bytes < MAX_BYTES_PER_DOCUMENT);
+        bytes = bytesPerCreator(User.class);
+        assertTrue("Creating an instance creator allocated " + bytes + " bytes", bytes < MAX_BYTES_PER_CREATOR);
+    }
+
+    private <T> long bytesPerDocument(Class<T> type, RawBsonDocument document) {
+        Codec<T> codec = getMapper().getCodecRegistry().get(type);
+        return bytesPerCall(() -> decode(codec, document));
+    }
+
+    private long bytesPerCreator(Class<?> type) {
+        // a creator is built for every decoded document so it must not repeat the reflective constructor lookups.  those cost several
+        // hundred bytes per call which is lost in the noise of a whole decode.
+        InstanceCreatorFactory factory = getMapper().getMappedClass(type).getEntityModel().getInstanceCreatorFactory();
+        return bytesPerCall(factory::create);
+    }
+
+    private long bytesPerCall(Runnable call) {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean);
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemoryEnabled());
+
+        for (int i = 0; i < DOCUMENTS; i++) {
+            call.run();
+        }
+        long thread = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < DOCUMENTS; i++) {
+            call.run();
+        }
+        return (threads.getThreadAllocatedBytes(thread) - before) / DOCUMENTS;
+    }
+
+    private <T> T decode(Class<T> type, RawBsonDocument document) {
+        return decode(getMapper().getCodecRegistry().get(type), document);
+    }
+
+    private <T> T decode(Codec<T> codec, RawBsonDocument document) {
+        ByteBuffer buffer = ByteBuffer.wrap(document.getByteBuffer().array(), 0, document.getByteBuffer().limit());
+        try (BsonBinaryReader reader = new BsonBinaryReader(buffer)) {
+            return codec.decode(reader, DecoderContext.builder().build());
+        }
+    }
+
+    @Entity("people")
+    private static class Person {
+        @Id
+        private final ObjectId id;
+        private final String name;
+        private final int age;
+
+        @Constructor
+        Person(@Name("id") ObjectId id, @Name("name") String name, @Name("age") int age) {
+            this.id = id;
+            this.name = name;
+            this.age = age;
+        }
+    }
+
+    @Entity("users")
+    private static class User {
+        @Id
+        private ObjectId id;
+        private String name;
+        private int age;
+        private long created;
+        private List<String> tags;
+    }
+}
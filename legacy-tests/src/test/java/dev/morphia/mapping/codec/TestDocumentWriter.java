@@ -1,6 +1,8 @@
 package dev.morphia.mapping.codec;
 
 import dev.morphia.TestBase;
+import dev.morphia.mapping.codec.reader.DocumentReader;
+import org.bson.BsonType;
 import org.bson.Document;
 import org.json.JSONException;
 import org.junit.Assert;
@@ -122,6 +124,19 @@ public class TestDocumentWriter extends TestBase {
             writer2.getDocument());
     }
 
+    @Test
+    public void testDateRoundTrip() {
+        long time = 1_600_000_000_123L;
+        DocumentWriter writer = new DocumentWriter();
+        document(writer, () -> writer.writeDateTime("date", time));
+        Document document = writer.getDocument();
+
+        DocumentReader reader = new DocumentReader(document);
+        reader.readStartDocument();
+        assertEquals(BsonType.DATE_TIME, reader.readBsonType());
+        assertEquals(time, reader.readDateTime("date"));
+    }
+
     @Test
     public void testDuplicateKeys() {
         DocumentWriter writer = new DocumentWriter();
@@ -0,0 +1,135 @@
+package dev.morphia.mapping.codec;
+
+import dev.morphia.TestBase;
+import dev.morphia.annotations.AlsoLoad;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.Property;
+import dev.morphia.mapping.codec.pojo.FieldIndex;
+import org.bson.BsonBinaryReader;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DecoderContext;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class TestFieldIndex extends TestBase {
+    @Test
+    public void unknownNames() {
+        Renamed renamed = decode(Renamed.class, "{_id: '1', unknown: 5, n: 'widget', nested: {n: 'ignored'}, title: 'plain'}");
+        assertEquals("1", renamed.id);
+        assertEquals("widget", renamed.name);
+        assertEquals("plain", renamed.title);
+
+        FieldIndex index = index(Renamed.class);
+        assertNull(index.lookup("unknown"));
+        assertNull(index.find("unknown", 1));
+        assertNull(index.find("nested", 99));
+    }
+
+    @Test
+    public void renamedFields() {
+        Renamed renamed = decode(Renamed.class, "{_id: '1', oldTitle: 'loaded', n: 'widget'}");
+        assertEquals("widget", renamed.name);
+        assertEquals("loaded", renamed.title);
+
+        FieldIndex index = index(Renamed.class);
+        assertEquals("name", index.lookup("n").getModel().getName());
+        assertEquals("title", index.lookup("title").getModel().getName());
+        assertEquals("title", index.lookup("oldTitle").getModel().getName());
+    }
+
+    @Test
+    public void hashCollisions() {
+        // "Aa" and "BB" share a String hash code so no seed can separate them
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+
+        Colliding colliding = decode(Colliding.class, "{_id: '1', BB: 2, Aa: 1}");
+        assertEquals(1, colliding.first);
+        assertEquals(2, colliding.second);
+
+        FieldIndex index = index(Colliding.class);
+        assertEquals("first", index.lookup("Aa").getModel().getName());
+        assertEquals("second", index.lookup("BB").getModel().getName());
+
+        HalfColliding half = decode(HalfColliding.class, "{_id: '1', BB: 2, Aa: 1}");
+        assertEquals(1, half.first);
+        assertNull(index(HalfColliding.class).lookup("BB"));
+    }
+
+    @Test
+    public void subclassFields() {
+        getMapper().map(Shape.class, Square.class);
+
+        Shape shape = decode(Shape.class, "{_id: '1', _t: 'Square', side: 4, name: 'box'}");
+        assertTrue(shape instanceof Square);
+        assertEquals("box", shape.name);
+        assertEquals(4, ((Square) shape).side);
+
+        Square square = decode(Square.class, "{side: 5, _id: '2', name: 'tile'}");
+        assertEquals("2", square.id);
+        assertEquals("tile", square.name);
+        assertEquals(5, square.side);
+
+        assertNull(index(Shape.class).lookup("side"));
+        assertEquals("side", index(Square.class).lookup("side").getModel().getName());
+        assertEquals("name", index(Square.class).lookup("name").getModel().getName());
+    }
+
+    private FieldIndex index(Class<?> type) {
+        return getMapper().getMappedClass(type).getEntityModel().getFieldIndex();
+    }
+
+    private <T> T decode(Class<T> type, String json) {
+        getMapper().map(type);
+        RawBsonDocument document = RawBsonDocument.parse(json);
+        ByteBuffer buffer = ByteBuffer.wrap(document.getByteBuffer().array(), 0, document.getByteBuffer().limit());
+        try (BsonBinaryReader reader = new BsonBinaryReader(buffer)) {
+            return getMapper().getCodecRegistry().get(type).decode(reader, DecoderContext.builder().build());
+        }
+    }
+
+    @Entity(value = "renamed", useDiscriminator = false)
+    private static class Renamed {
+        @Id
+        private String id;
+        @Property("n")
+        private String name;
+        @AlsoLoad("oldTitle")
+        private String title;
+    }
+
+    @Entity(value = "colliding", useDiscriminator = false)
+    private static class Colliding {
+        @Id
+        private String id;
+        @Property("Aa")
+        private int first;
+        @Property("BB")
+        private int second;
+    }
+
+    @Entity(value = "halfColliding", useDiscriminator = false)
+    private static class HalfColliding {
+        @Id
+        private String id;
+        @Property("Aa")
+        private int first;
+    }
+
+    @Entity("shapes")
+    private static class Shape {
+        @Id
+        private String id;
+        private String name;
+    }
+
+    @Entity("shapes")
+    private static class Square extends Shape {
+        private int side;
+    }
+}
@@ -0,0 +1,61 @@
+package dev.morphia.mapping.codec;
+
+import dev.morphia.TestBase;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.mapping.DiscriminatorLookup;
+import org.bson.BsonBinaryReader;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DecoderContext;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestPolymorphicDecoding extends TestBase {
+    @Test
+    public void discriminatorPositions() {
+        getMapper().map(Animal.class, Dog.class);
+        DiscriminatorLookup lookup = getMapper().getDiscriminatorLookup();
+        long scans = lookup.getScanCount();
+
+        Animal first = decode("{_t: 'Dog', _id: '1', name: 'rex', barks: 3}");
+        assertTrue(first instanceof Dog);
+        assertEquals("rex", first.name);
+        assertEquals(3, ((Dog) first).barks);
+
+        Animal second = decode("{_id: '2', _t: 'Dog', name: 'fido', barks: 4}");
+        assertTrue(second instanceof Dog);
+        assertEquals("2", second.id);
+        assertEquals(4, ((Dog) second).barks);
+        assertEquals(scans, lookup.getScanCount());
+
+        Animal last = decode("{_id: '3', name: 'spot', barks: 5, _t: 'Dog'}");
+        assertTrue(last instanceof Dog);
+        assertEquals("spot", last.name);
+        assertEquals(5, ((Dog) last).barks);
+        assertEquals(scans + 1, lookup.getScanCount());
+    }
+
+    private Animal decode(String json) {
+        RawBsonDocument document = RawBsonDocument.parse(json);
+        ByteBuffer buffer = ByteBuffer.wrap(document.getByteBuffer().array(), 0, document.getByteBuffer().limit());
+        try (BsonBinaryReader reader = new BsonBinaryReader(buffer)) {
+            return getMapper().getCodecRegistry().get(Animal.class).decode(reader, DecoderContext.builder().build());
+        }
+    }
+
+    @Entity("animals")
+    private static class Animal {
+        @Id
+        private String id;
+        private String name;
+    }
+
+    @Entity("animals")
+    private static class Dog extends Animal {
+        private int barks;
+    }
+}
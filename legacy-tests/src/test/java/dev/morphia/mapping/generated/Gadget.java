@@ -0,0 +1,7 @@
+package dev.morphia.mapping.generated;
+
+import dev.morphia.annotations.Entity;
+
+@Entity("gadgets")
+interface Gadget {
+}
@@ -0,0 +1,13 @@
+package dev.morphia.mapping.generated;
+
+import dev.morphia.annotations.Id;
+import org.bson.types.ObjectId;
+
+/**
+ * Mappable only through {@link Gadget} so the annotation processor never indexes it.
+ */
+class Sprocket implements Gadget {
+    @Id
+    ObjectId id;
+    int teeth;
+}
@@ -0,0 +1,138 @@
+package dev.morphia.mapping.generated;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import dev.morphia.Morphia;
+import dev.morphia.annotations.Embedded;
+import dev.morphia.mapping.MappedClass;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.MapperOptions;
+import dev.morphia.mapping.codec.MethodHandleAccessor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+
+public class TestGeneratedModels {
+    private MongoClient client;
+    private Mapper mapper;
+
+    @Before
+    public void setup() {
+        client = MongoClients.create();
+        mapper = Morphia.createDatastore(client, "generated").getMapper();
+    }
+
+    @After
+    public void tearDown() {
+        client.close();
+    }
+
+    @Test
+    public void accessors() {
+        MappedClass mappedClass = mapper.map(Widget.class).get(0);
+
+        Assert.assertTrue(accessorName(mappedClass, "count").startsWith(Widget.class.getName() + "_MorphiaModel"));
+        Assert.assertTrue(accessorName(mappedClass, "tags").startsWith(Widget.class.getName() + "_MorphiaModel"));
+        Assert.assertEquals(MethodHandleAccessor.class.getName(), accessorName(mappedClass, "serial"));
+    }
+
+    @Test
+    public void mapPackage() {
+        mapper.mapPackage(Widget.class.getPackageName());
+
+        List<Class<?>> mapped = mapper.getMappedClasses().stream()
+                                      .map(MappedClass::getType)
+                                      .collect(toList());
+        Assert.assertTrue(mapped.contains(Widget.class));
+        Assert.assertTrue(mapped.contains(Hidden.class));
+        Assert.assertFalse(mapped.contains(TestGeneratedModels.class));
+    }
+
+    @Test
+    public void mapPackageTrustsTheIndex() throws ClassNotFoundException {
+        mapper.mapPackage(Widget.class.getPackageName());
+
+        Assert.assertTrue(mapper.isMapped(Widget.class));
+        Assert.assertFalse(mapper.isMapped(Sprocket.class));
+        Assert.assertFalse(mapper.isMapped(Class.forName(Widget.class.getPackageName() + ".UnprocessedPart")));
+    }
+
+    @Test
+    public void mapPackageFindsTypesAnnotatedThroughInterfaces() {
+        Assert.assertFalse(isGenerated(Sprocket.class.getName()));
+
+        Mapper mapper = scanningMapper();
+        mapper.mapPackage(Widget.class.getPackageName());
+
+        Assert.assertTrue(mapper.isMapped(Sprocket.class));
+        Assert.assertTrue(mapper.isMapped(Widget.class));
+    }
+
+    @Test
+    public void mapPackageFindsUnprocessedTypes() throws ClassNotFoundException {
+        String name = Widget.class.getPackageName() + ".UnprocessedPart";
+        Assert.assertFalse(isGenerated(name));
+
+        Mapper mapper = scanningMapper();
+        mapper.mapPackage(Widget.class.getPackageName());
+
+        Assert.assertTrue(mapper.isMapped(Class.forName(name)));
+        Assert.assertTrue(mapper.isMapped(Widget.class));
+    }
+
+    @Test
+    public void roundTrip() {
+        mapper.map(Widget.class);
+        Widget widget = new Widget();
+        widget.id = new ObjectId();
+        widget.name = "sprocket";
+        widget.count = 12;
+        widget.weight = 1.5;
+        widget.tags = List.of("small", "metal");
+        widget.setSerial(42);
+
+        Document document = mapper.toDocument(widget);
+        Assert.assertEquals(12, document.get("count"));
+
+        document.put("count", 13L);
+        Widget loaded = mapper.fromDocument(Widget.class, document);
+        Assert.assertEquals(widget.id, loaded.id);
+        Assert.assertEquals("sprocket", loaded.name);
+        Assert.assertEquals(13, loaded.count);
+        Assert.assertEquals(1.5, loaded.weight, 0);
+        Assert.assertEquals(List.of("small", "metal"), loaded.tags);
+        Assert.assertEquals(42, loaded.getSerial());
+    }
+
+    private Mapper scanningMapper() {
+        return Morphia.createDatastore(client, "generated", MapperOptions.builder()
+                                                                      .scanPackages(true)
+                                                                      .build())
+                      .getMapper();
+    }
+
+    private static boolean isGenerated(String name) {
+        try {
+            Class.forName(name + "_MorphiaModel");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private String accessorName(MappedClass mappedClass, String field) {
+        return mappedClass.getEntityModel().getFieldModelByName(field).getAccessor().getClass().getName();
+    }
+
+    @Embedded
+    private static class Hidden {
+        private String value;
+    }
+}
@@ -0,0 +1,15 @@
+package dev.morphia.mapping.generated;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import org.bson.types.ObjectId;
+
+/**
+ * Compiled without the annotation processor.  See the unprocessed-test-compile execution in this module's pom.
+ */
+@Entity("parts")
+class UnprocessedPart {
+    @Id
+    ObjectId id;
+    String name;
+}
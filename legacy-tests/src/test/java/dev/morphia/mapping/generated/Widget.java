@@ -0,0 +1,26 @@
+package dev.morphia.mapping.generated;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import org.bson.types.ObjectId;
+
+import java.util.List;
+
+@Entity("widgets")
+class Widget {
+    @Id
+    ObjectId id;
+    String name;
+    int count;
+    double weight;
+    List<String> tags;
+    private long serial;
+
+    long getSerial() {
+        return serial;
+    }
+
+    void setSerial(long serial) {
+        this.serial = serial;
+    }
+}
@@ -3,6 +3,7 @@ package dev.morphia.mapping.lazy;
 
 import dev.morphia.annotations.IdGetter;
 import dev.morphia.annotations.Reference;
+import dev.morphia.mapping.codec.references.ProxyClassCache;
 import dev.morphia.testutil.TestEntity;
 import org.bson.types.ObjectId;
 import org.junit.Assert;
@@ -11,6 +12,8 @@ import org.junit.Ignore;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
+import java.util.List;
+
 import static dev.morphia.query.experimental.filters.Filters.eq;
 
 
@@ -80,6 +83,55 @@ public class TestLazySingleReference extends ProxyTestBase {
 
     }
 
+    @Test
+    public final void testProxyClassReused() {
+        Assume.assumeTrue(LazyFeatureDependencies.assertProxyClassesPresent());
+
+        RootEntity root = new RootEntity();
+        final ReferencedEntity reference = new ReferencedEntity();
+        final ReferencedEntity second = new ReferencedEntity();
+
+        root.r = reference;
+        root.secondReference = second;
+
+        getDs().save(List.of(reference, second));
+        getDs().save(root);
+
+        ProxyClassCache cache = getMapper().getProxyClassCache();
+        long misses = cache.getMisses();
+        for (int i = 0; i < 5; i++) {
+            RootEntity loaded = getDs().find(RootEntity.class)
+                                       .filter(eq("_id", root.getId()))
+                                       .first();
+            assertIsProxy(loaded.r);
+            assertIsProxy(loaded.secondReference);
+            Assert.assertSame(loaded.r.getClass(), loaded.secondReference.getClass());
+            assertNotFetched(loaded.r);
+        }
+
+        Assert.assertTrue(cache.getMisses() - misses <= 1);
+        Assert.assertTrue(cache.getHits() >= 9);
+    }
+
+    @Test
+    public final void testProxyConstructorCallingMethods() {
+        Assume.assumeTrue(LazyFeatureDependencies.assertProxyClassesPresent());
+
+        Initializing initializing = new Initializing();
+        initializing.setFoo("bar");
+        getDs().save(initializing);
+
+        Holder holder = new Holder();
+        holder.initializing = initializing;
+        getDs().save(holder);
+
+        Holder loaded = getDs().find(Holder.class)
+                               .filter(eq("_id", holder.getId()))
+                               .first();
+        assertIsProxy(loaded.initializing);
+        Assert.assertEquals("bar", loaded.initializing.getFoo());
+    }
+
     @Test
     @Ignore("entity caching needs to be implemented")
     public final void testSameProxy() {
@@ -140,6 +192,28 @@ public class TestLazySingleReference extends ProxyTestBase {
         assertNotFetched(root.secondReference);
     }
 
+    public static class Holder extends TestEntity {
+        @Reference(lazy = true)
+        private Initializing initializing;
+    }
+
+    public static class Initializing extends TestEntity {
+        private String foo;
+        private transient String initial;
+
+        public Initializing() {
+            initial = getFoo();
+        }
+
+        public String getFoo() {
+            return foo;
+        }
+
+        public void setFoo(String foo) {
+            this.foo = foo;
+        }
+    }
+
     public static class RootEntity extends TestEntity {
         @Reference(lazy = true)
         private ReferencedEntity r;
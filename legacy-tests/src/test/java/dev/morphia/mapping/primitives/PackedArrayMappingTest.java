@@ -0,0 +1,89 @@
+package dev.morphia.mapping.primitives;
+
+
+import dev.morphia.TestBase;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.experimental.Packed;
+import dev.morphia.mapping.MappingException;
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.bson.types.ObjectId;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+import static dev.morphia.query.experimental.filters.Filters.eq;
+
+public class PackedArrayMappingTest extends TestBase {
+    @Test
+    public void testMapping() {
+        getMapper().map(Packs.class);
+        final Packs ent = new Packs();
+        ent.ints = new int[]{1, -2, Integer.MAX_VALUE};
+        ent.longs = new long[]{5L, Long.MIN_VALUE};
+        ent.doubles = new double[]{5.0, 93.5, Double.NaN};
+        ent.floats = new float[]{1.5f, -2.25f};
+        ent.shorts = new short[]{3, Short.MAX_VALUE};
+        ent.booleans = new boolean[]{true, false, true};
+        getDs().save(ent);
+
+        Document document = getDatabase().getCollection("packs").find().first();
+        Assert.assertTrue(document.get("ints") instanceof Binary);
+        Assert.assertTrue(document.get("booleans") instanceof Binary);
+
+        final Packs loaded = getDs().find(Packs.class)
+                                    .filter(eq("_id", ent.id))
+                                    .first();
+        Assert.assertArrayEquals(ent.ints, loaded.ints);
+        Assert.assertArrayEquals(ent.longs, loaded.longs);
+        Assert.assertArrayEquals(ent.doubles, loaded.doubles, 0.0);
+        Assert.assertArrayEquals(ent.floats, loaded.floats, 0.0f);
+        Assert.assertArrayEquals(ent.shorts, loaded.shorts);
+        Assert.assertArrayEquals(ent.booleans, loaded.booleans);
+    }
+
+    @Test
+    public void testReadsUnpackedValues() {
+        getMapper().map(Packs.class);
+        getDatabase().getCollection("packs").insertOne(new Document("_id", new ObjectId())
+                                                           .append("ints", List.of(1, 2, 3))
+                                                           .append("doubles", List.of(1.5, 2)));
+
+        final Packs loaded = getDs().find(Packs.class).first();
+        Assert.assertArrayEquals(new int[]{1, 2, 3}, loaded.ints);
+        Assert.assertArrayEquals(new double[]{1.5, 2.0}, loaded.doubles, 0.0);
+    }
+
+    @Test(expected = MappingException.class)
+    public void testUnpackableType() {
+        getMapper().map(Unpackable.class);
+    }
+
+    @Entity("packs")
+    private static class Packs {
+        @Id
+        private ObjectId id;
+        @Packed
+        private int[] ints;
+        @Packed
+        private long[] longs;
+        @Packed
+        private double[] doubles;
+        @Packed
+        private float[] floats;
+        @Packed
+        private short[] shorts;
+        @Packed
+        private boolean[] booleans;
+    }
+
+    @Entity
+    private static class Unpackable {
+        @Id
+        private ObjectId id;
+        @Packed
+        private String[] names;
+    }
+}
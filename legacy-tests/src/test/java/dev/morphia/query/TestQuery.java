@@ -37,6 +37,7 @@ import org.junit.experimental.categories.Category;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -46,6 +47,8 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.mongodb.client.model.Collation.builder;
 import static dev.morphia.query.Sort.ascending;
@@ -61,6 +64,7 @@ import static dev.morphia.query.experimental.filters.Filters.in;
 import static dev.morphia.query.experimental.filters.Filters.lt;
 import static dev.morphia.query.experimental.filters.Filters.ne;
 import static dev.morphia.query.experimental.filters.Filters.or;
+import static dev.morphia.query.experimental.filters.Filters.parameter;
 import static dev.morphia.query.experimental.filters.Filters.regex;
 import static java.util.Arrays.asList;
 import static java.util.Arrays.copyOfRange;
@@ -976,6 +980,138 @@ public class TestQuery extends TestBase {
         assertNotNull(loaded);
     }
 
+    @Test
+    public void testPreparedQuery() {
+        getDs().save(asList(new Rectangle(1, 10),
+            new Rectangle(1, 10),
+            new Rectangle(1, 10),
+            new Rectangle(10, 10),
+            new Rectangle(10, 10)));
+
+        PreparedQuery<Rectangle> query = getDs().prepare(Rectangle.class, eq("height", parameter("height")),
+            gte("width", parameter("width")));
+
+        assertEquals(3, query.count(Map.of("height", 1D, "width", 10D)));
+        assertEquals(2, query.count(Map.of("height", 10D, "width", 10D)));
+        assertEquals(0, query.count(Map.of("height", 10D, "width", 11D)));
+        assertEquals(10D, query.first(Map.of("height", 10D, "width", 10D)).getHeight(), 0.0);
+        assertEquals(3, query.iterator(Map.of("height", 1D, "width", 1D)).toList().size());
+
+        assertEquals(2, query.delete(Map.of("height", 10D, "width", 10D), new DeleteOptions().multi(true)).getDeletedCount());
+        assertEquals(3, getDs().find(Rectangle.class).count());
+    }
+
+    @Test(expected = QueryException.class)
+    public void testPreparedQueryMissingParameter() {
+        getDs().prepare(Rectangle.class, eq("height", parameter("height")))
+               .count(Map.of("width", 1D));
+    }
+
+    @Test
+    public void testPreparedQueryNestedParameter() {
+        try {
+            getDs().prepare(Rectangle.class, eq("height", new Document("$gt", parameter("height"))));
+            fail("A parameter nested in a value should be rejected");
+        } catch (QueryException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("height"));
+        }
+    }
+
+    @Test
+    public void testPaginate() {
+        List<Rectangle> rectangles = new ArrayList<>();
+        for (int i = 0; i < 23; i++) {
+            rectangles.add(new Rectangle(i % 4, i % 3));
+        }
+        getDs().save(rectangles);
+
+        List<Rectangle> expected = getDs().find(Rectangle.class)
+                                          .filter(gt("width", 0D))
+                                          .iterator(new FindOptions().sort(descending("height"), ascending("width"), ascending("id")))
+                                          .toList();
+
+        Paginator<Rectangle> pages = getDs().find(Rectangle.class)
+                                            .filter(gt("width", 0D))
+                                            .paginate(4, descending("height"), ascending("width"));
+        List<Rectangle> paged = new ArrayList<>();
+        Page<Rectangle> page = pages.first();
+        paged.addAll(page.getResults());
+        while (page.hasNext()) {
+            assertEquals(4, page.getResults().size());
+            page = pages.page(page.getNextToken());
+            paged.addAll(page.getResults());
+        }
+
+        assertEquals(expected.size(), paged.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getId(), paged.get(i).getId());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPaginateWithForeignToken() {
+        getDs().save(asList(new Rectangle(1, 10), new Rectangle(2, 10)));
+
+        String token = getDs().find(Rectangle.class).paginate(1, ascending("height")).first().getNextToken();
+        assertNotNull(token);
+        getDs().find(Rectangle.class).paginate(1, ascending("width")).page(token);
+    }
+
+    @Test
+    public void testPartitioned() {
+        List<Rectangle> rectangles = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            rectangles.add(new Rectangle(i % 5, i));
+        }
+        getDs().save(rectangles);
+
+        List<ObjectId> expected = getDs().find(Rectangle.class).filter(ne("height", 0D))
+                                         .iterator(new FindOptions().sort(ascending("id")))
+                                         .toList()
+                                         .stream()
+                                         .map(Rectangle::getId)
+                                         .collect(Collectors.toList());
+
+        // fresh queries so that no filter has been encoded before the partitions are read
+        try (Stream<Rectangle> stream = getDs().find(Rectangle.class).filter(ne("height", 0D)).partitioned(8)) {
+            assertEquals(expected, stream.map(Rectangle::getId).collect(Collectors.toList()));
+        }
+        try (Stream<Rectangle> stream = getDs().find(Rectangle.class).filter(ne("height", 0D)).parallelStream()) {
+            assertEquals(new HashSet<>(expected), stream.unordered().map(Rectangle::getId).collect(Collectors.toSet()));
+        }
+    }
+
+    @Test
+    public void testPrefetch() {
+        List<Rectangle> rectangles = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            rectangles.add(new Rectangle(i % 5, i));
+        }
+        getDs().save(rectangles);
+
+        Query<Rectangle> query = getDs().find(Rectangle.class);
+        List<ObjectId> expected = query.iterator(new FindOptions().sort(ascending("id")))
+                                       .toList()
+                                       .stream()
+                                       .map(Rectangle::getId)
+                                       .collect(Collectors.toList());
+
+        assertEquals(expected, query.iterator(new FindOptions().sort(ascending("id")).batchSize(20).prefetch(30))
+                                    .toList()
+                                    .stream()
+                                    .map(Rectangle::getId)
+                                    .collect(Collectors.toList()));
+
+        try (MongoCursor<Rectangle> cursor = query.iterator(new FindOptions().sort(ascending("id")).batchSize(20).prefetch(30))) {
+            assertEquals(expected.get(0), cursor.next().getId());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativePrefetch() {
+        new FindOptions().prefetch(-1);
+    }
+
     @Test
     public void testQueryCount() {
         getDs().save(asList(new Rectangle(1, 10),
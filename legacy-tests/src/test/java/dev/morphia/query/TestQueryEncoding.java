@@ -0,0 +1,107 @@
+package dev.morphia.query;
+
+import dev.morphia.TestBase;
+import dev.morphia.annotations.Embedded;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.Property;
+import org.bson.BsonDocument;
+import org.bson.RawBsonDocument;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.junit.Test;
+
+import java.util.List;
+
+import static dev.morphia.query.experimental.filters.Filters.and;
+import static dev.morphia.query.experimental.filters.Filters.elemMatch;
+import static dev.morphia.query.experimental.filters.Filters.eq;
+import static dev.morphia.query.experimental.filters.Filters.gt;
+import static dev.morphia.query.experimental.filters.Filters.in;
+import static dev.morphia.query.experimental.filters.Filters.lt;
+import static dev.morphia.query.experimental.filters.Filters.or;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TestQueryEncoding extends TestBase {
+    @Test
+    public void directEncoding() {
+        getMapper().map(Person.class, Employee.class);
+
+        MorphiaQuery<Person> query = query(Person.class);
+        query.filter(eq("name", "bob"),
+            gt("age", 3),
+            in("tags", List.of("a", "b")),
+            or(eq("age", 1), eq("age", 2)),
+            elemMatch("scores", gt("value", 5), lt("other", 9)));
+
+        Bson direct = query.getQueryBson(true);
+        assertTrue(direct instanceof RawBsonDocument);
+        assertEquals(toBson(query.toDocument()), toBson(direct));
+        assertEquals("bob", toBson(direct).getString("n").getValue());
+
+        MorphiaQuery<Employee> subtype = query(Employee.class);
+        subtype.filter(eq("name", "alice"));
+        direct = subtype.getQueryBson(true);
+        assertTrue(direct instanceof RawBsonDocument);
+        assertEquals(toBson(subtype.toDocument()), toBson(direct));
+        assertEquals(toBson(subtype.getQueryDocument()), toBson(subtype.getQueryBson(false)));
+    }
+
+    @Test
+    public void duplicateNames() {
+        getMapper().map(Person.class);
+
+        MorphiaQuery<Person> query = query(Person.class);
+        query.filter(gt("age", 10), lt("age", 20));
+        Bson merged = query.getQueryBson(true);
+        assertFalse(merged instanceof RawBsonDocument);
+        assertEquals(toBson(query.toDocument()), toBson(merged));
+        BsonDocument age = toBson(merged).getDocument("age");
+        assertEquals(10, age.getInt32("$gt").getValue());
+        assertEquals(20, age.getInt32("$lt").getValue());
+
+        // names repeated in the separate clauses of an $and are never merged so they are still written directly
+        MorphiaQuery<Person> nested = query(Person.class);
+        nested.filter(and(gt("age", 10), lt("age", 20)), eq("name", "bob"));
+        assertTrue(nested.getQueryBson(true) instanceof RawBsonDocument);
+
+        MorphiaQuery<Person> elements = query(Person.class);
+        elements.filter(elemMatch("scores", gt("value", 5), lt("value", 9)));
+        Bson fallback = elements.getQueryBson(true);
+        assertFalse(fallback instanceof RawBsonDocument);
+        assertEquals(toBson(elements.toDocument()), toBson(fallback));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> MorphiaQuery<T> query(Class<T> type) {
+        return (MorphiaQuery<T>) getDs().find(type);
+    }
+
+    private BsonDocument toBson(Bson bson) {
+        return bson.toBsonDocument(BsonDocument.class, getMapper().getCodecRegistry());
+    }
+
+    @Entity("people")
+    private static class Person {
+        @Id
+        private ObjectId id;
+        @Property("n")
+        private String name;
+        private int age;
+        private List<String> tags;
+        private List<Score> scores;
+    }
+
+    @Entity("people")
+    private static class Employee extends Person {
+        private String title;
+    }
+
+    @Embedded
+    private static class Score {
+        private int value;
+        private int other;
+    }
+}
@@ -0,0 +1,108 @@
+package dev.morphia.query.internal;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class PrefetchingCursorTest {
+    @Test
+    public void readsInOrder() {
+        List<Integer> results = new ArrayList<>();
+        try (PrefetchingCursor<Integer> cursor = new PrefetchingCursor<>(new CountingCursor(1000, -1), 10, null)) {
+            cursor.forEachRemaining(results::add);
+            assertFalse(cursor.hasNext());
+        }
+
+        assertEquals(1000, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(i, results.get(i).intValue());
+        }
+    }
+
+    @Test
+    public void closesEarly() throws InterruptedException {
+        CountingCursor counting = new CountingCursor(Integer.MAX_VALUE, -1);
+        PrefetchingCursor<Integer> cursor = new PrefetchingCursor<>(counting, 5, null);
+        assertEquals(0, cursor.next().intValue());
+        assertEquals(1, cursor.next().intValue());
+
+        cursor.close();
+
+        assertTrue(counting.closed.await(0, TimeUnit.SECONDS));
+        assertFalse(cursor.hasNext());
+        assertTrue(counting.read.get() <= 2 + 5 + 1);
+    }
+
+    @Test
+    public void rethrowsFailures() {
+        CountingCursor counting = new CountingCursor(100, 3);
+        try (PrefetchingCursor<Integer> cursor = new PrefetchingCursor<>(counting, 10, null)) {
+            assertEquals(0, cursor.next().intValue());
+            assertEquals(1, cursor.next().intValue());
+            assertEquals(2, cursor.next().intValue());
+            cursor.hasNext();
+            fail("the failure should have been rethrown");
+        } catch (IllegalStateException e) {
+            assertEquals("failed at 3", e.getMessage());
+        }
+        assertEquals(0, counting.closed.getCount());
+    }
+
+    private static class CountingCursor implements MongoCursor<Integer> {
+        private final int count;
+        private final int failAt;
+        private final AtomicInteger read = new AtomicInteger();
+        private final CountDownLatch closed = new CountDownLatch(1);
+
+        CountingCursor(int count, int failAt) {
+            this.count = count;
+            this.failAt = failAt;
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return read.get() < count;
+        }
+
+        @Override
+        public Integer next() {
+            int next = read.getAndIncrement();
+            if (next == failAt) {
+                throw new IllegalStateException("failed at " + next);
+            }
+            return next;
+        }
+
+        @Override
+        public Integer tryNext() {
+            return hasNext() ? next() : null;
+        }
+
+        @Override
+        public ServerCursor getServerCursor() {
+            return null;
+        }
+
+        @Override
+        public ServerAddress getServerAddress() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package dev.morphia.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.FilerException;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Generates a {@code GeneratedModel} for every {@code @Entity} and {@code @Embedded} type being compiled and registers them all as
+ * services.  The registration doubles as a class index the mapper reads alongside its classpath scan, and the generated models give the
+ * mapper accessors that read and write fields directly rather than through reflection.  Types mappable only through an annotated
+ * interface are not indexed.
+ * <p>
+ * Only fields the generated code can reach are given accessors.  Private and final fields, and every field of a type that can not be
+ * named from its own package, are left to the reflective accessors.  Such types are still indexed.
+ */
+@SupportedAnnotationTypes({EntityProcessor.ENTITY, EntityProcessor.EMBEDDED})
+public class EntityProcessor extends AbstractProcessor {
+    static final String ENTITY = "dev.morphia.annotations.Entity";
+    static final String EMBEDDED = "dev.morphia.annotations.Embedded";
+    static final String SUFFIX = "_MorphiaModel";
+    static final String SERVICES = "META-INF/services/dev.morphia.mapping.GeneratedModel";
+
+    private final Set<String> generated = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServices();
+            return false;
+        }
+        for (TypeElement annotation : annotations) {
+            for (TypeElement type : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(annotation))) {
+                if (type.getKind() != ElementKind.ANNOTATION_TYPE && type.getNestingKind() != NestingKind.ANONYMOUS) {
+                    String name = modelName(type);
+                    if (generated.add(name)) {
+                        writeModel(type, name);
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks that a type can be named from code generated in the given package
+     */
+    private boolean isAccessible(TypeElement type, String packageName) {
+        Element element = type;
+        while (element instanceof TypeElement) {
+            Set<Modifier> modifiers = element.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)
+                || !modifiers.contains(Modifier.PUBLIC) && !getPackage((TypeElement) element).equals(packageName)) {
+                return false;
+            }
+            element = element.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private boolean isAccessible(TypeMirror type, String packageName) {
+        TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+        if (erased.getKind() == TypeKind.ARRAY) {
+            return isAccessible(((ArrayType) erased).getComponentType(), packageName);
+        }
+        return erased.getKind() != TypeKind.DECLARED || isAccessible((TypeElement) ((DeclaredType) erased).asElement(), packageName);
+    }
+
+    private String modelName(TypeElement type) {
+        String packageName = getPackage(type);
+        String binary = processingEnv.getElementUtils().getBinaryName(type).toString();
+        String simple = packageName.isEmpty() ? binary : binary.substring(packageName.length() + 1);
+        return (packageName.isEmpty() ? "" : packageName + ".") + simple.replace('$', '_') + SUFFIX;
+    }
+
+    private String getPackage(TypeElement type) {
+        PackageElement element = processingEnv.getElementUtils().getPackageOf(type);
+        return element.isUnnamed() ? "" : element.getQualifiedName().toString();
+    }
+
+    private void writeModel(TypeElement type, String name) {
+        String packageName = getPackage(type);
+        String simpleName = name.substring(name.lastIndexOf('.') + 1);
+        boolean visible = type.getNestingKind() != NestingKind.LOCAL && isAccessible(type, packageName);
+        String typeName = erasure(type.asType());
+        List<VariableElement> fields = new ArrayList<>();
+        for (VariableElement field : visible ? ElementFilter.fieldsIn(type.getEnclosedElements()) : List.<VariableElement>of()) {
+            Set<Modifier> modifiers = field.getModifiers();
+            if (!modifiers.contains(Modifier.PRIVATE) && !modifiers.contains(Modifier.STATIC) && !modifiers.contains(Modifier.FINAL)
+                && !modifiers.contains(Modifier.TRANSIENT) && isAccessible(field.asType(), packageName)) {
+                fields.add(field);
+            }
+        }
+
+        try (PrintWriter out = new PrintWriter(processingEnv.getFiler().createSourceFile(name, type).openWriter())) {
+            if (!packageName.isEmpty()) {
+                out.printf("package %s;%n%n", packageName);
+            }
+            out.printf("@javax.annotation.processing.Generated(\"%s\")%n", getClass().getName());
+            out.println("@SuppressWarnings({\"rawtypes\", \"unchecked\"})");
+            out.printf("public final class %s implements dev.morphia.mapping.GeneratedModel {%n", simpleName);
+            out.println("    @Override");
+            out.println("    public Class<?> getType() {");
+            if (visible) {
+                out.printf("        return %s.class;%n", typeName);
+            } else {
+                out.println("        try {");
+                out.printf("            return Class.forName(\"%s\", false, getClass().getClassLoader());%n",
+                    processingEnv.getElementUtils().getBinaryName(type));
+                out.println("        } catch (ClassNotFoundException e) {");
+                out.println("            throw new IllegalStateException(e.getMessage(), e);");
+                out.println("        }");
+            }
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public dev.morphia.mapping.codec.FieldAccessor getAccessor(java.lang.reflect.Field field) {");
+            if (!fields.isEmpty()) {
+                out.println("        switch (field.getName()) {");
+                for (VariableElement field : fields) {
+                    writeAccessor(out, typeName, field);
+                }
+                out.println("        }");
+            }
+            out.println("        return null;");
+            out.println("    }");
+            out.println("}");
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Kind.ERROR, "Could not generate " + name + ": " + e.getMessage(), type);
+        }
+    }
+
+    private void writeAccessor(PrintWriter out, String typeName, VariableElement field) {
+        String fieldName = field.getSimpleName().toString();
+        String target = String.format("((%s) instance).%s", typeName, fieldName);
+        TypeMirror fieldType = field.asType();
+
+        out.printf("            case \"%s\":%n", fieldName);
+        out.println("                return new dev.morphia.mapping.codec.FieldAccessor(field) {");
+        out.println("                    @Override");
+        out.println("                    public Object get(Object instance) {");
+        out.printf("                        return %s;%n", target);
+        out.println("                    }");
+        out.println();
+        out.println("                    @Override");
+        out.println("                    public void set(Object instance, Object value) {");
+        if (fieldType.getKind().isPrimitive()) {
+            String boxed = processingEnv.getTypeUtils().boxedClass((PrimitiveType) fieldType)
+                                        .getQualifiedName().toString();
+            out.printf("                        if (value instanceof %s) {%n", boxed);
+            out.printf("                            %s = (%s) value;%n", target, boxed);
+        } else {
+            String erased = erasure(fieldType);
+            out.printf("                        if (value == null || value instanceof %s) {%n", erased);
+            out.printf("                            %s = (%s) value;%n", target, erased);
+        }
+        out.println("                        } else {");
+        out.println("                            super.set(instance, value);");
+        out.println("                        }");
+        out.println("                    }");
+        String getter = primitiveGetter(fieldType.getKind());
+        if (getter != null) {
+            out.println();
+            out.println("                    @Override");
+            out.printf("                    public %s {%n", getter);
+            out.printf("                        return %s;%n", target);
+            out.println("                    }");
+        }
+        out.println("                };");
+    }
+
+    private static String primitiveGetter(TypeKind kind) {
+        switch (kind) {
+            case BOOLEAN:
+                return "boolean getBoolean(Object instance)";
+            case BYTE:
+            case SHORT:
+            case INT:
+                return "int getInt(Object instance)";
+            case LONG:
+                return "long getLong(Object instance)";
+            case FLOAT:
+            case DOUBLE:
+                return "double getDouble(Object instance)";
+            default:
+                return null;
+        }
+    }
+
+    private String erasure(TypeMirror type) {
+        TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+        if (erased.getKind() == TypeKind.ARRAY) {
+            return erasure(((ArrayType) erased).getComponentType()) + "[]";
+        }
+        if (erased.getKind() == TypeKind.DECLARED) {
+            return ((TypeElement) ((DeclaredType) erased).asElement()).getQualifiedName().toString();
+        }
+        return erased.getKind().isPrimitive() ? erased.getKind().name().toLowerCase() : "Object";
+    }
+
+    private void writeServices() {
+        if (generated.isEmpty()) {
+            return;
+        }
+        Filer filer = processingEnv.getFiler();
+        Set<String> services = new TreeSet<>(generated);
+        try {
+            FileObject existing = filer.getResource(StandardLocation.CLASS_OUTPUT, "", SERVICES);
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(existing.openInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.isBlank()) {
+                        services.add(line.trim());
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException ignored) {
+            // nothing from an earlier build
+        }
+        try (Writer writer = filer.createResource(StandardLocation.CLASS_OUTPUT, "", SERVICES).openWriter()) {
+            for (String service : services) {
+                writer.write(service);
+                writer.write('\n');
+            }
+        } catch (FilerException e) {
+            processingEnv.getMessager().printMessage(Kind.WARNING, "Could not update " + SERVICES + ": " + e.getMessage());
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Kind.ERROR, "Could not write " + SERVICES + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package dev.morphia.processor;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.JavaFileObjects;
+import org.junit.Test;
+
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static com.google.testing.compile.Compiler.javac;
+
+public class TestEntityProcessor {
+    private static final JavaFileObject WIDGET = source("test.Widget",
+        "package test;",
+        "",
+        "import dev.morphia.annotations.Entity;",
+        "import dev.morphia.annotations.Id;",
+        "",
+        "@Entity(\"widgets\")",
+        "public class Widget {",
+        "    @Id",
+        "    Object id;",
+        "    int count;",
+        "    java.util.List<String> tags;",
+        "    private long serial;",
+        "    final String kind = \"widget\";",
+        "    static int instances;",
+        "}");
+
+    @Test
+    public void generatesModels() {
+        Compilation compilation = compile(WIDGET);
+
+        assertThat(compilation).succeeded();
+        assertThat(compilation).generatedSourceFile("test.Widget_MorphiaModel")
+                               .contentsAsUtf8String()
+                               .contains("return test.Widget.class;");
+        assertThat(compilation).generatedSourceFile("test.Widget_MorphiaModel")
+                               .contentsAsUtf8String()
+                               .contains("public int getInt(Object instance)");
+    }
+
+    @Test
+    public void accessorsOnlyForReachableFields() {
+        Compilation compilation = compile(WIDGET);
+
+        String[] reachable = {"id", "count", "tags"};
+        for (String field : reachable) {
+            assertThat(compilation).generatedSourceFile("test.Widget_MorphiaModel")
+                                   .contentsAsUtf8String()
+                                   .contains("case \"" + field + "\":");
+        }
+        String[] unreachable = {"serial", "kind", "instances"};
+        for (String field : unreachable) {
+            assertThat(compilation).generatedSourceFile("test.Widget_MorphiaModel")
+                                   .contentsAsUtf8String()
+                                   .doesNotContain("case \"" + field + "\":");
+        }
+    }
+
+    @Test
+    public void indexesEntitiesAndEmbeddeds() {
+        Compilation compilation = compile(WIDGET, source("test.Part",
+            "package test;",
+            "",
+            "@dev.morphia.annotations.Embedded",
+            "public class Part {",
+            "    String name;",
+            "}"));
+
+        assertThat(compilation).succeeded();
+        assertThat(compilation).generatedFile(StandardLocation.CLASS_OUTPUT, EntityProcessor.SERVICES)
+                               .contentsAsUtf8String()
+                               .isEqualTo("test.Part_MorphiaModel\ntest.Widget_MorphiaModel\n");
+    }
+
+    @Test
+    public void hiddenTypesAreLoadedByName() {
+        Compilation compilation = compile(source("test.Outer",
+            "package test;",
+            "",
+            "public class Outer {",
+            "    @dev.morphia.annotations.Embedded",
+            "    private static class Hidden {",
+            "        String value;",
+            "    }",
+            "}"));
+
+        assertThat(compilation).succeeded();
+        assertThat(compilation).generatedSourceFile("test.Outer_Hidden_MorphiaModel")
+                               .contentsAsUtf8String()
+                               .contains("Class.forName(\"test.Outer$Hidden\"");
+        assertThat(compilation).generatedSourceFile("test.Outer_Hidden_MorphiaModel")
+                               .contentsAsUtf8String()
+                               .doesNotContain("case \"value\":");
+    }
+
+    @Test
+    public void typesAnnotatedThroughInterfacesAreNotIndexed() {
+        Compilation compilation = compile(
+            source("test.Gadget",
+                "package test;",
+                "",
+                "@dev.morphia.annotations.Entity(\"gadgets\")",
+                "public interface Gadget {",
+                "}"),
+            source("test.Sprocket",
+                "package test;",
+                "",
+                "public class Sprocket implements Gadget {",
+                "    int teeth;",
+                "}"));
+
+        // the mapper finds such types by scanning the classpath
+        assertThat(compilation).succeeded();
+        assertThat(compilation).generatedFile(StandardLocation.CLASS_OUTPUT, EntityProcessor.SERVICES)
+                               .contentsAsUtf8String()
+                               .isEqualTo("test.Gadget_MorphiaModel\n");
+    }
+
+    private static Compilation compile(JavaFileObject... sources) {
+        return javac().withProcessors(new EntityProcessor()).compile(sources);
+    }
+
+    private static JavaFileObject source(String name, String... lines) {
+        return JavaFileObjects.forSourceString(name, String.join("\n", lines));
+    }
+}